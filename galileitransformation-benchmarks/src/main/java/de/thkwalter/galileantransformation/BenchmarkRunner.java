@@ -0,0 +1,61 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Diese Klasse startet die Benchmarks. Die Argumente werden unverändert an <tt>org.openjdk.jmh.Main</tt> übergeben, so
+ * dass alle Optionen von JMH zur Verfügung stehen (z.B. ein regulärer Ausdruck für die auszuführenden Benchmarks,
+ * <tt>-l</tt> für die Liste der Benchmarks oder <tt>-h</tt> für die Hilfe). Mit der zusätzlichen Option
+ * <tt>-gc</tt> wird der {@link GCProfiler} verwendet, so dass für jeden Benchmark auch die Allokationsrate
+ * (<tt>gc.alloc.rate.norm</tt> in Bytes pro Aufruf) ausgegeben wird.
+ *
+ * @author Th. K. Walter
+ */
+public class BenchmarkRunner
+{
+/**
+ * Die Option, mit der der {@link GCProfiler} eingeschaltet wird
+ */
+static final String GC_OPTION = "-gc";
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Startet JMH mit den übergebenen Argumenten. Die Option {@link #GC_OPTION} wird durch <tt>-prof gc</tt> ersetzt.
+ *
+ * @param args die Argumente von JMH und optional {@link #GC_OPTION}
+ * @throws IOException falls JMH die Liste der Benchmarks nicht lesen kann
+ */
+public static void main(String[] args) throws IOException
+   {
+   List<String> argumente = new ArrayList<>(Arrays.asList(args));
+   if (argumente.removeIf(BenchmarkRunner.GC_OPTION::equals))
+      {
+      argumente.add("-prof");
+      argumente.add("gc");
+      }
+   Main.main(argumente.toArray(new String[0]));
+   }
+}
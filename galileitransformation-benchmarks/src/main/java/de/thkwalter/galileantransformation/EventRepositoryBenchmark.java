@@ -0,0 +1,141 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dieser Benchmark misst die Dauer einer Abfrage der transformierten Ereignisse eines Zeitintervalls, einmal mit der
+ * binären Suche des {@link EventRepository} und einmal mit einem Durchlauf über alle Ereignisse. Das Intervall enthält
+ * etwa 1000 von einer Million Ereignissen.
+ *
+ * @author Th. K. Walter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventRepositoryBenchmark
+{
+/**
+ * Die Anzahl der Ereignisse
+ */
+private static final int SIZE = 1_000_000;
+
+/**
+ * Die untere Grenze des Intervalls in s
+ */
+private static final double T0 = 500.0;
+
+/**
+ * Die obere Grenze des Intervalls in s
+ */
+private static final double T1 = 501.0;
+
+/**
+ * Die Ereignisse, nach der Zeitkoordinate sortiert abgelegt
+ */
+private EventRepository repository;
+
+/**
+ * Die Ereignisse in der Reihenfolge ihrer Erzeugung
+ */
+private EventBatch events;
+
+/**
+ * Die Felder, in die der Durchlauf die Zeitkoordinaten und die Ortskoordinaten des Intervalls kopiert
+ */
+private double[][] bereich;
+
+/**
+ * Die Galileitransformation
+ */
+private GalileanBoost boost;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt die Testdaten und die Galileitransformation.
+ */
+@Setup
+public void setUp()
+   {
+   Random random = new Random(1L);
+   this.events = new EventBatch(random.doubles(EventRepositoryBenchmark.SIZE, 0, 1000).toArray(),
+         random.doubles(EventRepositoryBenchmark.SIZE, -100, 100).toArray());
+   this.repository = new EventRepository();
+   this.repository.addAll(this.events);
+   this.bereich = new double[2][EventRepositoryBenchmark.SIZE];
+   this.boost = GalileanBoostFactory.getBoost(1.5);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Bestimmt die Ereignisse des Intervalls mit einer binären Suche und transformiert nur diese.
+ *
+ * @return die transformierten Ereignisse des Intervalls
+ */
+@Benchmark
+public EventBatch transformRange()
+   {
+   return this.repository.transformRange(EventRepositoryBenchmark.T0, EventRepositoryBenchmark.T1, this.boost);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Durchläuft alle Ereignisse, wählt die Ereignisse des Intervalls aus und transformiert diese.
+ *
+ * @return die transformierten Ereignisse des Intervalls
+ */
+@Benchmark
+public EventBatch transformScan()
+   {
+   double[] t = this.events.getT();
+   double[] x = this.events.getX();
+   double[] tBereich = this.bereich[0];
+   double[] xBereich = this.bereich[1];
+   int anzahl = 0;
+   for (int i = 0; i < t.length; i++)
+      {
+      if (t[i] >= EventRepositoryBenchmark.T0 && t[i] <= EventRepositoryBenchmark.T1)
+         {
+         tBereich[anzahl] = t[i];
+         xBereich[anzahl++] = x[i];
+         }
+      }
+   return this.boost.transform(new EventBatch(Arrays.copyOf(tBereich, anzahl), Arrays.copyOf(xBereich, anzahl)));
+   }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dieser Benchmark misst die Erzeugung von Ereignissen mit {@link EventUtils#createEvent} und den Vergleich von
+ * Größen mit {@link QuantityUtils#compareQuantities} sowie die Umrechnung in SI-Einheiten. Zum Vergleich wird die Zeit
+ * pro Wertepaar beim Vergleich ganzer Spalten mit {@link QuantityUtils#compareMeasures} gemessen.
+ *
+ * @author Th. K. Walter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventUtilsBenchmark
+{
+/**
+ * Die Anzahl der Wertepaare beim Vergleich ganzer Spalten
+ */
+private static final int COLUMN_SIZE = 100_000;
+
+/**
+ * Die Einheiten der Koordinaten
+ */
+@Param({"SI", "MIXED"})
+private UnitMix unitMix;
+
+/**
+ * Die erwartete Ortskoordinate
+ */
+private Quantity<Length> expectedX;
+
+/**
+ * Die vorhandene Ortskoordinate
+ */
+private Quantity<Length> actualX;
+
+/**
+ * Die erwarteten Maßzahlen der Ortskoordinaten in m
+ */
+private double[] expectedMeasures;
+
+/**
+ * Die vorhandenen Maßzahlen der Ortskoordinaten in m
+ */
+private double[] actualMeasures;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt die Testdaten.
+ */
+@Setup
+public void setUp()
+   {
+   this.expectedX = QuantityUtils.createLengthQuantity(1.5, this.unitMix.xUnit);
+   this.actualX = QuantityUtils.createLengthQuantity(1.5 + 1E-12, this.unitMix.xUnit);
+
+   this.expectedMeasures = new Random(1L).doubles(EventUtilsBenchmark.COLUMN_SIZE, -100, 100).toArray();
+   this.actualMeasures = this.expectedMeasures.clone();
+   for (int i = 0; i < this.actualMeasures.length; i += 1000)
+      {
+      this.actualMeasures[i] += 1.0;
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt ein Ereignis.
+ *
+ * @return das Ereignis
+ */
+@Benchmark
+public Event createEvent()
+   {
+   return EventUtils.createEvent(2.0, this.unitMix.tUnit, -4.0, this.unitMix.xUnit);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Vergleicht zwei Ortskoordinaten.
+ *
+ * @return das Ergebnis des Vergleichs
+ */
+@Benchmark
+public boolean compareQuantities()
+   {
+   return QuantityUtils.compareQuantities(this.expectedX, this.actualX, 1E-9, 1E-9);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Rechnet eine Ortskoordinate mit {@link Quantity#toSystemUnit()} in die SI-Einheit um.
+ *
+ * @return die Maßzahl in der SI-Einheit
+ */
+@Benchmark
+public double toSystemUnit()
+   {
+   return this.actualX.toSystemUnit().getValue().doubleValue();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Rechnet eine Ortskoordinate mit {@link QuantityUtils#toSiDouble(Quantity)} in die SI-Einheit um.
+ *
+ * @return die Maßzahl in der SI-Einheit
+ */
+@Benchmark
+public double toSiDouble()
+   {
+   return QuantityUtils.toSiDouble(this.actualX);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Vergleicht zwei Spalten von Maßzahlen. Das Ergebnis wird pro Wertepaar angegeben.
+ *
+ * @return das Ergebnis des Vergleichs
+ */
+@Benchmark
+@OperationsPerInvocation(EventUtilsBenchmark.COLUMN_SIZE)
+public ComparisonResult compareMeasures()
+   {
+   return QuantityUtils.compareMeasures(this.expectedMeasures, this.actualMeasures, 1E-9, 1E-9);
+   }
+}
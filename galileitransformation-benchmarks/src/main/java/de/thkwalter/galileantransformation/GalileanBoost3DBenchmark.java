@@ -0,0 +1,123 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dieser Benchmark misst den Durchsatz der dreidimensionalen Galileitransformation in Ereignissen pro Sekunde, einmal
+ * für {@link Event3D}-Objekte und einmal für die Spalten einer {@link EventBatch3D}.
+ *
+ * @author Th. K. Walter
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GalileanBoost3DBenchmark
+{
+/**
+ * Die Anzahl der Ereignisse
+ */
+private static final int SIZE = 100_000;
+
+/**
+ * Die Ereignisse als {@link Event3D}-Objekte
+ */
+private List<Event3D> events;
+
+/**
+ * Die Ereignisse als Spalten
+ */
+private EventBatch3D batch;
+
+/**
+ * Die Galileitransformation
+ */
+private GalileanBoost3D boost;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt die Testdaten und die Galileitransformation.
+ */
+@Setup
+public void setUp()
+   {
+   Random random = new Random(1L);
+   double[][] spalten = new double[4][];
+   for (int i = 0; i < spalten.length; i++)
+      {
+      spalten[i] = random.doubles(GalileanBoost3DBenchmark.SIZE, -100, 100).toArray();
+      }
+
+   this.batch = new EventBatch3D(spalten[0], spalten[1], spalten[2], spalten[3]);
+   this.events = this.batch.toEvents();
+   this.boost = new GalileanBoost3D(new Velocity(1.5, -2.5, 0.5));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse einzeln als {@link Event3D}-Objekte.
+ *
+ * @return das zuletzt transformierte Ereignis
+ */
+@Benchmark
+@OperationsPerInvocation(GalileanBoost3DBenchmark.SIZE)
+public Event3D transformEvents()
+   {
+   Event3D event = null;
+   for (Event3D originalEvent : this.events)
+      {
+      event = this.boost.transform(originalEvent);
+      }
+   return event;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Spalten der Ereignisse sequentiell.
+ *
+ * @return die transformierten Ereignisse
+ */
+@Benchmark
+@OperationsPerInvocation(GalileanBoost3DBenchmark.SIZE)
+public EventBatch3D transformBatch()
+   {
+   return this.boost.transform(this.batch);
+   }
+}
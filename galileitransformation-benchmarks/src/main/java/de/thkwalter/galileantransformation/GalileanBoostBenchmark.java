@@ -0,0 +1,149 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dieser Benchmark misst die Transformation von Ereignissen mit einer {@link GalileanBoost}: einzeln über
+ * {@link Event}-Objekte, als Liste und spaltenweise über eine {@link EventBatch}.
+ *
+ * @author Th. K. Walter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GalileanBoostBenchmark
+{
+/**
+ * Die Einheiten der Ereignisse und der Geschwindigkeit
+ */
+@Param({"SI", "MIXED"})
+private UnitMix unitMix;
+
+/**
+ * Die Anzahl der Ereignisse
+ */
+@Param({"1", "1000", "100000"})
+private int size;
+
+/**
+ * Die originalen Ereignisse
+ */
+private List<Event> events;
+
+/**
+ * Die Ereignisse als Spalten. Die Ortskoordinaten werden bei jedem Aufruf überschrieben, was die Laufzeit nicht
+ * beeinflusst.
+ */
+private EventBatch batch;
+
+/**
+ * Die Galileitransformation
+ */
+private GalileanBoost galileanBoost;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt die Testdaten und die Galileitransformation.
+ */
+@Setup
+public void setUp()
+   {
+   this.events = List.of(this.unitMix.createEvents(this.size));
+   this.batch = EventBatch.fromEvents(this.events);
+   this.galileanBoost = new GalileanBoost(QuantityUtils.createSpeedQuantity(12.5, this.unitMix.vUnit));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse einzeln mit {@link GalileanBoost#transform(Event)}.
+ *
+ * @param blackhole der {@link Blackhole}, der die Ergebnisse aufnimmt
+ */
+@Benchmark
+public void transformEvent(Blackhole blackhole)
+   {
+   for (Event event : this.events)
+      {
+      blackhole.consume(this.galileanBoost.transform(event));
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse als Liste mit {@link GalileanBoost#transformAll(List)}.
+ *
+ * @return die transformierten Ereignisse
+ */
+@Benchmark
+public List<Event> transformAllList()
+   {
+   return this.galileanBoost.transformAll(this.events);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse spaltenweise mit {@link GalileanBoost#transform(EventBatch)}.
+ *
+ * @return die transformierten Ereignisse
+ */
+@Benchmark
+public EventBatch transformBatch()
+   {
+   return this.galileanBoost.transform(this.batch);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt die Spalten aus der Liste, transformiert sie und erzeugt daraus wieder eine Liste, d.h. der gesamte Weg
+ * über {@link EventBatch#fromEvents(List)} und {@link EventBatch#toEvents()}.
+ *
+ * @return die transformierten Ereignisse
+ */
+@Benchmark
+public List<Event> transformBatchRoundTrip()
+   {
+   return this.galileanBoost.transform(EventBatch.fromEvents(this.events)).toEvents();
+   }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import de.thkwalter.binary.OffHeapEventStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dieser Benchmark misst den Durchsatz der Galileitransformation in Ereignissen pro Sekunde, einmal für die Spalten
+ * einer {@link EventBatch} im Heap und einmal für einen {@link OffHeapEventStore} außerhalb des Heaps. Wie die
+ * {@link EventBatch} wird der {@link OffHeapEventStore} einmal an Ort und Stelle transformiert; außerdem werden die
+ * originalen Ereignisse wie bei wiederholten Transformationen in verschiedene Bezugssysteme in eine zweite Folge
+ * transformiert.
+ *
+ * @author Th. K. Walter
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OffHeapEventStoreBenchmark
+{
+/**
+ * Die Anzahl der Ereignisse
+ */
+private static final int SIZE = 100_000;
+
+/**
+ * Die Ereignisse im Heap
+ */
+private EventBatch batch;
+
+/**
+ * Die Ereignisse außerhalb des Heaps
+ */
+private OffHeapEventStore store;
+
+/**
+ * Die Folge für die transformierten Ereignisse außerhalb des Heaps
+ */
+private OffHeapEventStore target;
+
+/**
+ * Die Galileitransformation
+ */
+private GalileanTransformation transformation;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt die Testdaten und die Galileitransformation.
+ */
+@Setup
+public void setUp()
+   {
+   Random random = new Random(1L);
+   this.batch = new EventBatch(random.doubles(OffHeapEventStoreBenchmark.SIZE, -100, 100).toArray(),
+         random.doubles(OffHeapEventStoreBenchmark.SIZE, -100, 100).toArray());
+   this.store = new OffHeapEventStore();
+   this.store.addAll(this.batch);
+   this.target = new OffHeapEventStore();
+   this.transformation = GalileanTransformation.boost(1.5);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Segmente der Folgen außerhalb des Heaps frei.
+ */
+@TearDown
+public void tearDown()
+   {
+   this.store.close();
+   this.target.close();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Spalten der Ereignisse im Heap.
+ *
+ * @return die transformierten Ereignisse
+ */
+@Benchmark
+@OperationsPerInvocation(OffHeapEventStoreBenchmark.SIZE)
+public EventBatch transformBatch()
+   {
+   return this.transformation.transform(this.batch);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse außerhalb des Heaps in eine zweite Folge.
+ *
+ * @return die transformierten Ereignisse
+ */
+@Benchmark
+@OperationsPerInvocation(OffHeapEventStoreBenchmark.SIZE)
+public OffHeapEventStore transformOffHeap()
+   {
+   return this.store.transformTo(this.transformation, this.target);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse außerhalb des Heaps an Ort und Stelle.
+ *
+ * @return die transformierten Ereignisse
+ */
+@Benchmark
+@OperationsPerInvocation(OffHeapEventStoreBenchmark.SIZE)
+public OffHeapEventStore transformOffHeapInPlace()
+   {
+   this.store.transform(this.transformation);
+   return this.store;
+   }
+}
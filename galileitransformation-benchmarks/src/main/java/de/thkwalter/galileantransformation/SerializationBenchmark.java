@@ -0,0 +1,149 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import de.thkwalter.jackson.QuantitySerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.measure.Quantity;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dieser Benchmark misst die Serialisierung von Ereignissen als JSON: über den {@link QuantitySerializer} und die
+ * reflektive Serialisierung des Records {@link Event}, über den {@link de.thkwalter.jackson.EventSerializer} und über
+ * den {@link de.thkwalter.jackson.EventBatchSerializer}.
+ *
+ * @author Th. K. Walter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark
+{
+/**
+ * Die Einheiten der Ereignisse
+ */
+@Param({"SI", "MIXED"})
+private UnitMix unitMix;
+
+/**
+ * Die Anzahl der Ereignisse
+ */
+@Param({"1", "1000", "100000"})
+private int size;
+
+/**
+ * Die Ereignisse
+ */
+private List<Event> events;
+
+/**
+ * Die Ereignisse als Spalten
+ */
+private EventBatch batch;
+
+/**
+ * Ein {@link ObjectMapper}, der nur den {@link QuantitySerializer} kennt
+ */
+private ObjectMapper quantityMapper;
+
+/**
+ * Ein {@link ObjectMapper} mit dem Jackson-Modul des Servers
+ */
+private ObjectMapper serverMapper;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt die Testdaten und die {@link ObjectMapper}.
+ */
+@Setup
+@SuppressWarnings({"rawtypes", "unchecked"})
+public void setUp()
+   {
+   this.events = List.of(this.unitMix.createEvents(this.size));
+   this.batch = EventBatch.fromEvents(this.events);
+
+   SimpleModule quantityModule = new SimpleModule();
+   quantityModule.addSerializer(Quantity.class, new QuantitySerializer());
+   this.quantityMapper = new ObjectMapper().registerModule(quantityModule);
+   this.serverMapper = new ObjectMapper().registerModule(
+         new GalileanTransformationServer().getJacksonQuantityModule());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Serialisiert die Ereignisse mit dem {@link QuantitySerializer}.
+ *
+ * @return das JSON-Dokument
+ * @throws JsonProcessingException falls die Serialisierung fehlschlägt
+ */
+@Benchmark
+public byte[] quantitySerializer() throws JsonProcessingException
+   {
+   return this.quantityMapper.writeValueAsBytes(this.events);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Serialisiert die Ereignisse mit dem {@link de.thkwalter.jackson.EventSerializer}.
+ *
+ * @return das JSON-Dokument
+ * @throws JsonProcessingException falls die Serialisierung fehlschlägt
+ */
+@Benchmark
+public byte[] eventSerializer() throws JsonProcessingException
+   {
+   return this.serverMapper.writeValueAsBytes(this.events);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Serialisiert die Ereignisse mit dem {@link de.thkwalter.jackson.EventBatchSerializer}.
+ *
+ * @return das JSON-Dokument
+ * @throws JsonProcessingException falls die Serialisierung fehlschlägt
+ */
+@Benchmark
+public byte[] eventBatchSerializer() throws JsonProcessingException
+   {
+   return this.serverMapper.writeValueAsBytes(this.batch);
+   }
+}
@@ -0,0 +1,196 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dieser Lasttest sendet aus einer festen Anzahl von Client-Threads so schnell wie möglich kleine Requests an den
+ * Endpunkt <tt>/transformiere</tt> eines laufenden Servers und gibt den Durchsatz sowie die Perzentile der
+ * Antwortzeiten aus. Damit lassen sich die Ausführungsmodi des Servers (Thread-Pool von Tomcat bzw. virtuelle Threads,
+ * siehe <tt>spring.threads.virtual.enabled</tt>) vergleichen, indem der Test gegen beide Modi ausgeführt wird:
+ *
+ * <pre>
+ * java -cp benchmarks.jar de.thkwalter.galileantransformation.TransformiereLoadTest [URL] [Clients] [Sekunden]
+ * </pre>
+ *
+ * Die Voreinstellungen sind <tt>http://localhost:8080</tt>, 400 Clients und 20 Sekunden, von denen die ersten fünf
+ * Sekunden als Aufwärmphase nicht ausgewertet werden.
+ *
+ * @author Th. K. Walter
+ */
+public class TransformiereLoadTest
+{
+/**
+ * Die Dauer der Aufwärmphase (in s)
+ */
+private static final int AUFWAERMPHASE = 5;
+
+/**
+ * Die maximale Anzahl der Antwortzeiten, die pro Client gespeichert werden
+ */
+private static final int MAXIMALE_MESSUNGEN = 1 << 20;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Führt den Lasttest aus und gibt die Ergebnisse aus. Gezählt werden nur Requests und Fehler, die in der Messphase
+ * beendet werden.
+ *
+ * @param args die URL des Servers, die Anzahl der Clients und die Dauer des Tests in Sekunden (jeweils optional)
+ * @throws InterruptedException falls der Test beim Warten auf die Clients unterbrochen wird
+ */
+public static void main(String[] args) throws InterruptedException
+   {
+   String url = args.length > 0 ? args[0] : "http://localhost:8080";
+   int clients = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+   int sekunden = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+   HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+   URI uri = URI.create(url + "/transformiere?xMasszahl=-0.004&xEinheit=km&tMasszahl=2000&tEinheit=ms&vMasszahl=2" +
+         "&vEinheit=m%2Fs");
+   HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+   AtomicBoolean messen = new AtomicBoolean(false);
+   AtomicBoolean beendet = new AtomicBoolean(false);
+   LongAdder fehler = new LongAdder();
+   long[][] antwortzeiten = new long[clients][];
+   int[] anzahl = new int[clients];
+   CountDownLatch fertig = new CountDownLatch(clients);
+
+   // Jeder Client sendet die Requests nacheinander und speichert die Antwortzeiten und Fehler der Messphase.
+   for (int i = 0; i < clients; i++)
+      {
+      int client = i;
+      antwortzeiten[client] = new long[1024];
+      Thread thread = new Thread(() ->
+         {
+         try
+            {
+            while (!beendet.get())
+               {
+               long beginn = System.nanoTime();
+               try
+                  {
+                  HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                  if (response.statusCode() != 200)
+                     {
+                     TransformiereLoadTest.zaehleFehler(messen, fehler);
+                     continue;
+                     }
+                  }
+               catch (Exception e)
+                  {
+                  TransformiereLoadTest.zaehleFehler(messen, fehler);
+                  continue;
+                  }
+
+               if (messen.get() && anzahl[client] < TransformiereLoadTest.MAXIMALE_MESSUNGEN)
+                  {
+                  if (anzahl[client] == antwortzeiten[client].length)
+                     {
+                     antwortzeiten[client] = Arrays.copyOf(antwortzeiten[client], 2 * anzahl[client]);
+                     }
+                  antwortzeiten[client][anzahl[client]++] = System.nanoTime() - beginn;
+                  }
+               }
+            }
+         finally
+            {
+            fertig.countDown();
+            }
+         }, "load-" + client);
+      thread.setDaemon(true);
+      thread.start();
+      }
+
+   // Nach der Aufwärmphase wird gemessen.
+   Thread.sleep(1000L * TransformiereLoadTest.AUFWAERMPHASE);
+   messen.set(true);
+   long beginn = System.nanoTime();
+   Thread.sleep(1000L * Math.max(1, sekunden - TransformiereLoadTest.AUFWAERMPHASE));
+   messen.set(false);
+   double dauer = (System.nanoTime() - beginn) / 1E9;
+   beendet.set(true);
+   fertig.await();
+
+   // Die Antwortzeiten aller Clients werden zusammengeführt und ausgewertet.
+   int gesamt = Arrays.stream(anzahl).sum();
+   long[] alle = new long[gesamt];
+   int position = 0;
+   for (int i = 0; i < clients; i++)
+      {
+      System.arraycopy(antwortzeiten[i], 0, alle, position, anzahl[i]);
+      position += anzahl[i];
+      }
+   Arrays.sort(alle);
+
+   System.out.printf("Clients: %d, Requests: %d, Fehler: %d, Durchsatz: %.0f Requests/s%n", clients, gesamt,
+         fehler.sum(), gesamt / dauer);
+   System.out.printf("Antwortzeit (ms): p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n",
+         TransformiereLoadTest.perzentil(alle, 0.5), TransformiereLoadTest.perzentil(alle, 0.9),
+         TransformiereLoadTest.perzentil(alle, 0.99), TransformiereLoadTest.perzentil(alle, 0.999),
+         TransformiereLoadTest.perzentil(alle, 1.0));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Zählt einen fehlgeschlagenen Request, falls er in der Messphase beendet wurde. Fehler der Aufwärmphase werden
+ * dadurch gar nicht erst gezählt, so dass der Zähler nicht zurückgesetzt werden muss, während die Clients ihn
+ * erhöhen.
+ *
+ * @param messen gibt an, ob die Messphase läuft
+ * @param fehler der Zähler der Fehler
+ */
+private static void zaehleFehler(AtomicBoolean messen, LongAdder fehler)
+   {
+   if (messen.get())
+      {
+      fehler.increment();
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Bestimmt ein Perzentil der sortierten Antwortzeiten.
+ *
+ * @param sortiert die aufsteigend sortierten Antwortzeiten (in ns)
+ * @param anteil   der Anteil (zwischen 0 und 1) des Perzentils
+ * @return das Perzentil (in ms)
+ */
+private static double perzentil(long[] sortiert, double anteil)
+   {
+   if (sortiert.length == 0)
+      {
+      return Double.NaN;
+      }
+   int index = (int) Math.min(sortiert.length - 1, Math.ceil(anteil * sortiert.length) - 1);
+   return sortiert[Math.max(0, index)] / 1E6;
+   }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Speed;
+import javax.measure.quantity.Time;
+import java.util.Random;
+
+import static javax.measure.MetricPrefix.KILO;
+import static javax.measure.MetricPrefix.MILLI;
+import static tech.units.indriya.unit.Units.KILOMETRE_PER_HOUR;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.METRE_PER_SECOND;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Diese Aufzählung beschreibt die Einheiten, mit denen die Benchmarks ausgeführt werden. Bei SI-Einheiten entfallen
+ * die Umrechnungen, bei den übrigen Einheiten müssen alle Werte umgerechnet werden.
+ *
+ * @author Th. K. Walter
+ */
+public enum UnitMix
+{
+/**
+ * Alle Koordinaten und die Geschwindigkeit werden in SI-Einheiten angegeben.
+ */
+SI("s", "m", "m/s", SECOND, METRE, METRE_PER_SECOND),
+
+/**
+ * Die Koordinaten werden in ms und km, die Geschwindigkeit in km/h angegeben.
+ */
+MIXED("ms", "km", "km/h", MILLI(SECOND), KILO(METRE), KILOMETRE_PER_HOUR);
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Das Symbol der Einheit der Zeitkoordinaten
+ */
+final String tSymbol;
+
+/**
+ * Das Symbol der Einheit der Ortskoordinaten
+ */
+final String xSymbol;
+
+/**
+ * Das Symbol der Einheit der Geschwindigkeit
+ */
+final String vSymbol;
+
+/**
+ * Die Einheit der Zeitkoordinaten
+ */
+final Unit<Time> tUnit;
+
+/**
+ * Die Einheit der Ortskoordinaten
+ */
+final Unit<Length> xUnit;
+
+/**
+ * Die Einheit der Geschwindigkeit
+ */
+final Unit<Speed> vUnit;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Einheiten.
+ *
+ * @param tSymbol das Symbol der Einheit der Zeitkoordinaten
+ * @param xSymbol das Symbol der Einheit der Ortskoordinaten
+ * @param vSymbol das Symbol der Einheit der Geschwindigkeit
+ * @param tUnit   die Einheit der Zeitkoordinaten
+ * @param xUnit   die Einheit der Ortskoordinaten
+ * @param vUnit   die Einheit der Geschwindigkeit
+ */
+UnitMix(String tSymbol, String xSymbol, String vSymbol, Unit<Time> tUnit, Unit<Length> xUnit, Unit<Speed> vUnit)
+   {
+   this.tSymbol = tSymbol;
+   this.xSymbol = xSymbol;
+   this.vSymbol = vSymbol;
+   this.tUnit = tUnit;
+   this.xUnit = xUnit;
+   this.vUnit = vUnit;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt bei jedem Aufruf dieselben zufälligen Ereignisse in den Einheiten dieser Aufzählungskonstante.
+ *
+ * @param size die Anzahl der Ereignisse
+ * @return die Ereignisse
+ */
+Event[] createEvents(int size)
+   {
+   Random random = new Random(1L);
+   Event[] events = new Event[size];
+   for (int i = 0; i < size; i++)
+      {
+      events[i] = EventUtils.createEvent(random.nextDouble(-100, 100), this.tUnit, random.nextDouble(-100, 100),
+            this.xUnit);
+      }
+   return events;
+   }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.units.indriya.AbstractUnit;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Speed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dieser Benchmark vergleicht das Parsen von Einheiten mit {@link AbstractUnit#parse(CharSequence)} und mit dem Cache
+ * von {@link UnitUtils#parseUnit(String, Class)}.
+ *
+ * @author Th. K. Walter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnitParseBenchmark
+{
+/**
+ * Das Symbol der Einheit
+ */
+@Param({"m/s", "km/h"})
+private String symbol;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Parst die Einheit ohne Cache.
+ *
+ * @return die Einheit
+ */
+@Benchmark
+public Unit<Speed> abstractUnitParse()
+   {
+   return AbstractUnit.parse(this.symbol).asType(Speed.class);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Parst die Einheit mit Cache.
+ *
+ * @return die Einheit
+ */
+@Benchmark
+public Unit<Speed> unitUtilsParseUnit()
+   {
+   return UnitUtils.parseUnit(this.symbol, Speed.class);
+   }
+}
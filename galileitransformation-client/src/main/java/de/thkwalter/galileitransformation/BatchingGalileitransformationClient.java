@@ -0,0 +1,424 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileitransformation;
+
+import de.thkwalter.binary.EventBinaryFormat;
+import de.thkwalter.binary.EventColumns;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dieser Client bietet dieselbe Schnittstelle wie der Endpunkt <tt>/transformiere</tt>, d.h. jedes Ereignis wird
+ * einzeln transformiert. Die Aufrufe werden jedoch gesammelt und gemeinsam im binären Austauschformat
+ * <tt>application/x-galilei-events</tt> (siehe {@link EventBinaryFormat}) an <tt>/transformiereBatch</tt> gesendet.
+ * Da ein Batch nur eine Geschwindigkeit und ein Paar von Einheiten enthält, werden die Aufrufe nach diesen Werten
+ * gruppiert. Ein Batch wird gesendet, sobald das Zeitfenster nach dem ersten Aufruf abgelaufen ist oder die maximale
+ * Anzahl der Ereignisse erreicht ist. Die Requests werden asynchron mit einem {@link HttpClient} gesendet, der die
+ * Verbindungen offen hält und wiederverwendet, so dass mehrere Batches gleichzeitig unterwegs sein können. Die Anzahl
+ * dieser Batches ist begrenzt; ist die Grenze erreicht, so wartet das Senden des nächsten Batches, bis eine Antwort
+ * eingetroffen ist.
+ *
+ * @author Th. K. Walter
+ */
+public class BatchingGalileitransformationClient implements AutoCloseable
+{
+/**
+ * Das Standard-Zeitfenster, in dem Aufrufe gesammelt werden
+ */
+public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+
+/**
+ * Die Standardanzahl der Ereignisse, ab der ein Batch sofort gesendet wird
+ */
+public static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+
+/**
+ * Die Standardanzahl der Batches, die gleichzeitig gesendet werden
+ */
+public static final int DEFAULT_MAX_IN_FLIGHT = 8;
+
+/**
+ * Der Schlüssel, nach dem die Aufrufe gruppiert werden
+ *
+ * @param tEinheit  das Symbol der Einheit der Zeitkoordinaten
+ * @param xEinheit  das Symbol der Einheit der Ortskoordinaten
+ * @param vMasszahl die Maßzahl der Geschwindigkeit
+ * @param vEinheit  das Symbol der Einheit der Geschwindigkeit
+ */
+private record BatchKey(String tEinheit, String xEinheit, double vMasszahl, String vEinheit) {}
+
+/**
+ * Die gesammelten Aufrufe eines Batches
+ */
+private static class Batch
+   {
+   /**
+    * Die Maßzahlen der Zeitkoordinaten
+    */
+   private double[] t = new double[16];
+
+   /**
+    * Die Maßzahlen der Ortskoordinaten
+    */
+   private double[] x = new double[16];
+
+   /**
+    * Die Futures der Aufrufe
+    */
+   private final List<CompletableFuture<Ereignis>> futures = new ArrayList<>();
+
+   /**
+    * Fügt einen Aufruf hinzu.
+    *
+    * @param tMasszahl die Maßzahl der Zeitkoordinate
+    * @param xMasszahl die Maßzahl der Ortskoordinate
+    * @return das Future des Aufrufs
+    */
+   private CompletableFuture<Ereignis> add(double tMasszahl, double xMasszahl)
+      {
+      int size = this.futures.size();
+      if (size == this.t.length)
+         {
+         this.t = Arrays.copyOf(this.t, 2 * size);
+         this.x = Arrays.copyOf(this.x, 2 * size);
+         }
+      this.t[size] = tMasszahl;
+      this.x[size] = xMasszahl;
+
+      CompletableFuture<Ereignis> future = new CompletableFuture<>();
+      this.futures.add(future);
+      return future;
+      }
+   }
+
+/**
+ * Die Basis-URI des Services (mit einem abschließenden <tt>/</tt>)
+ */
+private final URI baseUri;
+
+/**
+ * Das Zeitfenster, in dem Aufrufe gesammelt werden
+ */
+private final Duration window;
+
+/**
+ * Die Anzahl der Ereignisse, ab der ein Batch sofort gesendet wird
+ */
+private final int maxBatchSize;
+
+/**
+ * Der {@link HttpClient}, der die Verbindungen zum Service verwaltet
+ */
+private final HttpClient httpClient;
+
+/**
+ * Die Genehmigungen für Batches, die gesendet, aber noch nicht beantwortet worden sind
+ */
+private final Semaphore inFlight;
+
+/**
+ * Der Thread, der die Batches nach Ablauf des Zeitfensters sendet
+ */
+private final ScheduledExecutorService scheduler;
+
+/**
+ * Die offenen Batches
+ */
+private final Map<BatchKey, Batch> batches = new HashMap<>();
+
+/**
+ * <tt>true</tt>, falls der Client geschlossen worden ist (geschützt durch {@link #batches})
+ */
+private boolean closed;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Client mit dem Standard-Zeitfenster, der Standardgröße der Batches und der Standardanzahl der
+ * gleichzeitig gesendeten Batches.
+ *
+ * @param baseUri die Basis-URI des Services, z.B. <tt>http://localhost:8080</tt> oder
+ *                <tt>http://localhost:8080/galilei/</tt>
+ */
+public BatchingGalileitransformationClient(URI baseUri)
+   {
+   this(baseUri, BatchingGalileitransformationClient.DEFAULT_WINDOW,
+         BatchingGalileitransformationClient.DEFAULT_MAX_BATCH_SIZE);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Client mit der Standardanzahl der gleichzeitig gesendeten Batches.
+ *
+ * @param baseUri      die Basis-URI des Services, z.B. <tt>http://localhost:8080</tt>
+ * @param window       das Zeitfenster, in dem Aufrufe gesammelt werden
+ * @param maxBatchSize die Anzahl der Ereignisse, ab der ein Batch sofort gesendet wird
+ */
+public BatchingGalileitransformationClient(URI baseUri, Duration window, int maxBatchSize)
+   {
+   this(baseUri, window, maxBatchSize, BatchingGalileitransformationClient.DEFAULT_MAX_IN_FLIGHT);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Client. Enthält die Basis-URI einen Pfad (z.B. den Kontextpfad des Services), so werden die
+ * Requests relativ zu diesem Pfad gesendet.
+ *
+ * @param baseUri      die Basis-URI des Services, z.B. <tt>http://localhost:8080</tt>
+ * @param window       das Zeitfenster, in dem Aufrufe gesammelt werden
+ * @param maxBatchSize die Anzahl der Ereignisse, ab der ein Batch sofort gesendet wird
+ * @param maxInFlight  die Anzahl der Batches, die höchstens gleichzeitig gesendet werden
+ */
+public BatchingGalileitransformationClient(URI baseUri, Duration window, int maxBatchSize, int maxInFlight)
+   {
+   // Ist die maximale Größe der Batches oder die Anzahl der gleichzeitig gesendeten Batches nicht größer als null, so
+   // wird eine Ausnahme geworfen.
+   if (maxBatchSize <= 0)
+      {
+      throw new IllegalArgumentException("Das Argument 'maxBatchSize' muss größer als Null sein!");
+      }
+   if (maxInFlight <= 0)
+      {
+      throw new IllegalArgumentException("Das Argument 'maxInFlight' muss größer als Null sein!");
+      }
+
+   // Der Pfad der Basis-URI erhält einen abschließenden '/', damit relative URIs an ihn angehängt werden.
+   String pfad = baseUri.getRawPath();
+   this.baseUri = pfad != null && pfad.endsWith("/") ? baseUri : URI.create(baseUri + "/");
+   this.window = window;
+   this.maxBatchSize = maxBatchSize;
+   this.inFlight = new Semaphore(maxInFlight);
+   this.httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+   this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+      {
+      Thread thread = new Thread(runnable, "galileitransformation-batcher");
+      thread.setDaemon(true);
+      return thread;
+      });
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert ein Ereignis. Der Aufruf wird mit anderen Aufrufen mit denselben Einheiten und derselben
+ * Geschwindigkeit zu einem Batch zusammengefasst.
+ *
+ * @param tMasszahl die Maßzahl der Zeitkoordinate
+ * @param tEinheit  das Symbol der Einheit der Zeitkoordinate
+ * @param xMasszahl die Maßzahl der Ortskoordinate
+ * @param xEinheit  das Symbol der Einheit der Ortskoordinate
+ * @param vMasszahl die Maßzahl der Geschwindigkeit
+ * @param vEinheit  das Symbol der Einheit der Geschwindigkeit
+ * @return ein Future mit dem transformierten Ereignis in SI-Einheiten
+ * @throws IllegalStateException falls der Client bereits geschlossen worden ist
+ */
+public CompletableFuture<Ereignis> transformiere(double tMasszahl, String tEinheit, double xMasszahl,
+      String xEinheit, double vMasszahl, String vEinheit)
+   {
+   BatchKey key = new BatchKey(tEinheit, xEinheit, vMasszahl, vEinheit);
+   CompletableFuture<Ereignis> future;
+   Batch voll = null;
+
+   synchronized (this.batches)
+      {
+      // Ist der Client geschlossen, so wird eine Ausnahme geworfen.
+      if (this.closed)
+         {
+         throw new IllegalStateException("Der Client ist bereits geschlossen!");
+         }
+
+      // Der Aufruf wird dem offenen Batch hinzugefügt. Für einen neuen Batch wird das Senden nach Ablauf des
+      // Zeitfensters geplant; erst danach wird der Batch registriert.
+      Batch batch = this.batches.get(key);
+      if (batch == null)
+         {
+         Batch neu = new Batch();
+         this.scheduler.schedule(() -> this.flush(key, neu), this.window.toNanos(), TimeUnit.NANOSECONDS);
+         batch = neu;
+         this.batches.put(key, neu);
+         }
+      future = batch.add(tMasszahl, xMasszahl);
+
+      // Ist der Batch voll, so wird er sofort gesendet.
+      if (batch.futures.size() >= this.maxBatchSize)
+         {
+         this.batches.remove(key);
+         voll = batch;
+         }
+      }
+
+   if (voll != null)
+      {
+      this.send(key, voll);
+      }
+   return future;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Sendet einen Batch nach Ablauf des Zeitfensters, falls er nicht bereits gesendet worden ist.
+ *
+ * @param key   der Schlüssel des Batches
+ * @param batch der Batch
+ */
+private void flush(BatchKey key, Batch batch)
+   {
+   synchronized (this.batches)
+      {
+      if (!this.batches.remove(key, batch))
+         {
+         return;
+         }
+      }
+   this.send(key, batch);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Sendet einen Batch asynchron an <tt>/transformiereBatch</tt> und vervollständigt die Futures seiner Aufrufe. Sind
+ * bereits so viele Batches unterwegs wie erlaubt, so wartet die Methode, bis eine Antwort eingetroffen ist.
+ *
+ * @param key   der Schlüssel des Batches
+ * @param batch der Batch
+ */
+private void send(BatchKey key, Batch batch)
+   {
+   this.inFlight.acquireUninterruptibly();
+   try
+      {
+      // Die Ereignisse werden im binären Austauschformat geschrieben.
+      int size = batch.futures.size();
+      ByteArrayOutputStream body = new ByteArrayOutputStream(32 + 16 * size);
+      EventBinaryFormat.write(new EventColumns(key.tEinheit(), key.xEinheit(), Arrays.copyOf(batch.t, size),
+            Arrays.copyOf(batch.x, size)), body);
+
+      // Der Pfad ist relativ, damit ein Kontextpfad der Basis-URI erhalten bleibt.
+      URI uri = this.baseUri.resolve("transformiereBatch?vMasszahl=" +
+            URLEncoder.encode(Double.toString(key.vMasszahl()), StandardCharsets.UTF_8) + "&vEinheit=" +
+            URLEncoder.encode(key.vEinheit(), StandardCharsets.UTF_8));
+      HttpRequest request = HttpRequest.newBuilder(uri).header("Content-Type", EventBinaryFormat.MEDIA_TYPE)
+            .header("Accept", EventBinaryFormat.MEDIA_TYPE).POST(HttpRequest.BodyPublishers.ofByteArray(
+                  body.toByteArray())).build();
+
+      // Die Antwort wird gelesen und auf die Futures verteilt.
+      this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(BatchingGalileitransformationClient::parse).whenComplete((ereignisse, fehler) ->
+         {
+         this.inFlight.release();
+         for (int i = 0; i < size; i++)
+            {
+            if (fehler != null)
+               {
+               batch.futures.get(i).completeExceptionally(fehler);
+               }
+            else if (ereignisse.size() != size)
+               {
+               batch.futures.get(i).completeExceptionally(new IOException("Die Antwort enthält " +
+                     ereignisse.size() + " statt " + size + " Ereignisse!"));
+               }
+            else
+               {
+               batch.futures.get(i).complete(new Ereignis(ereignisse.t()[i], ereignisse.tEinheit(),
+                     ereignisse.x()[i], ereignisse.xEinheit()));
+               }
+            }
+         });
+      }
+   catch (IOException | RuntimeException e)
+      {
+      this.inFlight.release();
+      batch.futures.forEach(future -> future.completeExceptionally(e));
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest die transformierten Ereignisse aus der Antwort.
+ *
+ * @param response die Antwort
+ * @return die transformierten Ereignisse
+ */
+private static EventColumns parse(HttpResponse<byte[]> response)
+   {
+   try
+      {
+      if (response.statusCode() != 200)
+         {
+         throw new IOException("Der Service hat mit dem Status " + response.statusCode() + " geantwortet!");
+         }
+      return EventBinaryFormat.read(new ByteArrayInputStream(response.body()));
+      }
+   catch (IOException e)
+      {
+      throw new UncheckedIOException(e);
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Sendet alle offenen Batches und beendet den Thread, der die Batches nach Ablauf des Zeitfensters sendet. Die
+ * Futures der offenen Batches werden danach noch vervollständigt. Weitere Aufrufe von
+ * {@link #transformiere(double, String, double, String, double, String)} führen zu einer
+ * {@link IllegalStateException}.
+ */
+@Override
+public void close()
+   {
+   List<Map.Entry<BatchKey, Batch>> offen;
+   synchronized (this.batches)
+      {
+      this.closed = true;
+      offen = new ArrayList<>(this.batches.entrySet());
+      this.batches.clear();
+      }
+   offen.forEach(entry -> this.send(entry.getKey(), entry.getValue()));
+   this.scheduler.shutdownNow();
+   }
+}
@@ -0,0 +1,29 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileitransformation;
+
+/**
+ * Diese Klasse repräsentiert ein einzelnes Ereignis, dessen Zeit- und Ortskoordinate als Maßzahlen mit den Symbolen
+ * ihrer Einheiten vorliegen.
+ *
+ * @author Th. K. Walter
+ *
+ * @param tMasszahl die Maßzahl der Zeitkoordinate
+ * @param tEinheit  das Symbol der Einheit der Zeitkoordinate
+ * @param xMasszahl die Maßzahl der Ortskoordinate
+ * @param xEinheit  das Symbol der Einheit der Ortskoordinate
+ */
+public record Ereignis(double tMasszahl, String tEinheit, double xMasszahl, String xEinheit) {}
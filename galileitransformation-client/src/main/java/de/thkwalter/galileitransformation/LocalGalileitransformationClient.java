@@ -0,0 +1,141 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileitransformation;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Dieser Client berechnet die Standard-Galileitransformation <tt>x' = x - vt</tt> im eigenen Prozess, d.h. ohne
+ * Request an den Service. Die Maßzahlen werden dazu wie im Service in SI-Einheiten umgerechnet; das Ergebnis wird in
+ * <tt>s</tt> und <tt>m</tt> angegeben und stimmt bitgenau mit der Antwort von <tt>/transformiere</tt> überein. Lokal
+ * werden nur die Einheiten der folgenden Tabellen unterstützt, deren Umrechnung eine Multiplikation mit einer
+ * Zehnerpotenz oder einer ganzen Zahl ist. Für alle anderen Einheiten (z.B. <tt>km/h</tt>) wird der Aufruf an den
+ * {@link BatchingGalileitransformationClient} weitergegeben.
+ *
+ * @author Th. K. Walter
+ */
+public class LocalGalileitransformationClient implements AutoCloseable
+{
+/**
+ * Die lokal unterstützten Einheiten der Zeit mit dem Faktor der Umrechnung in s
+ */
+private static final Map<String, Double> ZEITEINHEITEN = Map.of("s", 1.0, "ms", 1E-3, "µs", 1E-6, "ns", 1E-9,
+      "min", 60.0, "h", 3600.0, "d", 86400.0);
+
+/**
+ * Die lokal unterstützten Einheiten der Länge mit dem Faktor der Umrechnung in m
+ */
+private static final Map<String, Double> LAENGENEINHEITEN = Map.of("m", 1.0, "km", 1E3, "cm", 1E-2, "mm", 1E-3,
+      "µm", 1E-6, "nm", 1E-9);
+
+/**
+ * Die lokal unterstützten Einheiten der Geschwindigkeit mit dem Faktor der Umrechnung in m/s
+ */
+private static final Map<String, Double> GESCHWINDIGKEITSEINHEITEN = Map.of("m/s", 1.0, "km/s", 1E3, "cm/s", 1E-2,
+      "mm/s", 1E-3);
+
+/**
+ * Der Client, an den Aufrufe mit lokal nicht unterstützten Einheiten weitergegeben werden
+ */
+private final BatchingGalileitransformationClient remote;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Client.
+ *
+ * @param remote der Client, an den Aufrufe mit lokal nicht unterstützten Einheiten weitergegeben werden
+ */
+public LocalGalileitransformationClient(BatchingGalileitransformationClient remote)
+   {
+   this.remote = remote;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert ein Ereignis. Sind alle Einheiten lokal bekannt, so ist das zurückgegebene Future bereits
+ * vervollständigt; andernfalls wird das Ereignis vom Service transformiert.
+ *
+ * @param tMasszahl die Maßzahl der Zeitkoordinate
+ * @param tEinheit  das Symbol der Einheit der Zeitkoordinate
+ * @param xMasszahl die Maßzahl der Ortskoordinate
+ * @param xEinheit  das Symbol der Einheit der Ortskoordinate
+ * @param vMasszahl die Maßzahl der Geschwindigkeit
+ * @param vEinheit  das Symbol der Einheit der Geschwindigkeit
+ * @return ein Future mit dem transformierten Ereignis in SI-Einheiten
+ * @throws IllegalStateException falls der Aufruf an den Service weitergeleitet werden muss und der Client bereits
+ *                               geschlossen worden ist
+ */
+public CompletableFuture<Ereignis> transformiere(double tMasszahl, String tEinheit, double xMasszahl,
+      String xEinheit, double vMasszahl, String vEinheit)
+   {
+   Ereignis ereignis = LocalGalileitransformationClient.transformiereLokal(tMasszahl, tEinheit, xMasszahl, xEinheit,
+         vMasszahl, vEinheit);
+   if (ereignis != null)
+      {
+      return CompletableFuture.completedFuture(ereignis);
+      }
+   return this.remote.transformiere(tMasszahl, tEinheit, xMasszahl, xEinheit, vMasszahl, vEinheit);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert ein Ereignis im eigenen Prozess.
+ *
+ * @param tMasszahl die Maßzahl der Zeitkoordinate
+ * @param tEinheit  das Symbol der Einheit der Zeitkoordinate
+ * @param xMasszahl die Maßzahl der Ortskoordinate
+ * @param xEinheit  das Symbol der Einheit der Ortskoordinate
+ * @param vMasszahl die Maßzahl der Geschwindigkeit
+ * @param vEinheit  das Symbol der Einheit der Geschwindigkeit
+ * @return das transformierte Ereignis in SI-Einheiten oder <tt>null</tt>, falls eine Einheit lokal nicht bekannt ist
+ */
+public static Ereignis transformiereLokal(double tMasszahl, String tEinheit, double xMasszahl, String xEinheit,
+      double vMasszahl, String vEinheit)
+   {
+   Double tFaktor = LocalGalileitransformationClient.ZEITEINHEITEN.get(tEinheit);
+   Double xFaktor = LocalGalileitransformationClient.LAENGENEINHEITEN.get(xEinheit);
+   Double vFaktor = LocalGalileitransformationClient.GESCHWINDIGKEITSEINHEITEN.get(vEinheit);
+   if (tFaktor == null || xFaktor == null || vFaktor == null)
+      {
+      return null;
+      }
+
+   // Die Rechnung erfolgt wie im Service mit den Maßzahlen in SI-Einheiten.
+   double t = tMasszahl * tFaktor;
+   double x = xMasszahl * xFaktor;
+   double v = vMasszahl * vFaktor;
+   return new Ereignis(t, "s", x - v * t, "m");
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Schließt den Client, an den Aufrufe mit lokal nicht unterstützten Einheiten weitergegeben werden.
+ */
+@Override
+public void close()
+   {
+   this.remote.close();
+   }
+}
@@ -0,0 +1,355 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileitransformation;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import de.thkwalter.binary.EventBinaryFormat;
+import de.thkwalter.binary.EventColumns;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testklasse für die Klasse {@link BatchingGalileitransformationClient}. Die Tests verwenden einen einfachen
+ * HTTP-Server, der <tt>/transformiereBatch</tt> für Ereignisse in s und m nachbildet.
+ *
+ * @author Th. K. Walter
+ */
+class BatchingGalileitransformationClientTest
+{
+/**
+ * Der nachgebildete Service
+ */
+private HttpServer server;
+
+/**
+ * Die Threads, mit denen der nachgebildete Service die Requests gleichzeitig beantwortet
+ */
+private ExecutorService executor;
+
+/**
+ * Die Anzahl der Ereignisse jedes Requests, den der nachgebildete Service erhalten hat
+ */
+private final List<Integer> batchGroessen = new CopyOnWriteArrayList<>();
+
+/**
+ * Die URIs (in kodierter Form) der Requests, die der nachgebildete Service erhalten hat
+ */
+private final List<String> uris = new CopyOnWriteArrayList<>();
+
+/**
+ * Die Anzahl der Requests, die der nachgebildete Service gerade bearbeitet
+ */
+private final AtomicInteger laufend = new AtomicInteger();
+
+/**
+ * Die größte Anzahl der Requests, die der nachgebildete Service gleichzeitig bearbeitet hat
+ */
+private final AtomicInteger maxLaufend = new AtomicInteger();
+
+/**
+ * Die Zeit in ms, die der nachgebildete Service vor jeder Antwort wartet
+ */
+private volatile long verzoegerung;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Startet den nachgebildeten Service. Er berechnet <tt>x' = x - vt</tt> und antwortet für die Geschwindigkeit
+ * <tt>-1</tt> mit dem Status 500. Der Endpunkt ist auch unter dem Kontextpfad <tt>/galilei</tt> erreichbar.
+ *
+ * @throws IOException falls der Server nicht gestartet werden kann
+ */
+@BeforeEach
+void setUp() throws IOException
+   {
+   HttpHandler handler = exchange ->
+      {
+      this.maxLaufend.accumulateAndGet(this.laufend.incrementAndGet(), Math::max);
+      try
+         {
+         this.beantworte(exchange);
+         }
+      finally
+         {
+         this.laufend.decrementAndGet();
+         }
+      };
+
+   this.executor = Executors.newCachedThreadPool();
+   this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+   this.server.createContext("/transformiereBatch", handler);
+   this.server.createContext("/galilei/transformiereBatch", handler);
+   this.server.setExecutor(this.executor);
+   this.server.start();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Beendet den nachgebildeten Service.
+ */
+@AfterEach
+void tearDown()
+   {
+   this.server.stop(0);
+   this.executor.shutdownNow();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Beantwortet einen Request an den nachgebildeten Service.
+ *
+ * @param exchange der {@link HttpExchange}
+ * @throws IOException falls beim Lesen oder Senden ein Fehler auftritt
+ */
+private void beantworte(HttpExchange exchange) throws IOException
+   {
+   try
+      {
+      Thread.sleep(this.verzoegerung);
+      }
+   catch (InterruptedException e)
+      {
+      Thread.currentThread().interrupt();
+      }
+
+   this.uris.add(exchange.getRequestURI().toString());
+   double v = Double.parseDouble(exchange.getRequestURI().getQuery().replaceAll(".*vMasszahl=([^&]*).*", "$1"));
+   EventColumns ereignisse = EventBinaryFormat.read(exchange.getRequestBody());
+   this.batchGroessen.add(ereignisse.size());
+   if (v == -1.0)
+      {
+      BatchingGalileitransformationClientTest.antworte(exchange, 500, new byte[0]);
+      return;
+      }
+
+   double[] x = new double[ereignisse.size()];
+   for (int i = 0; i < x.length; i++)
+      {
+      x[i] = ereignisse.x()[i] - v * ereignisse.t()[i];
+      }
+   ByteArrayOutputStream out = new ByteArrayOutputStream();
+   EventBinaryFormat.write(new EventColumns("s", "m", ereignisse.t(), x), out);
+   BatchingGalileitransformationClientTest.antworte(exchange, 200, out.toByteArray());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Aufrufe innerhalb des Zeitfensters werden nach Geschwindigkeit gruppiert und gemeinsam gesendet")
+void testZeitfenster() throws Exception
+   {
+   List<CompletableFuture<Ereignis>> futures = new ArrayList<>();
+   try (BatchingGalileitransformationClient client = this.client(Duration.ofMillis(200), 1000))
+      {
+      for (int i = 0; i < 10; i++)
+         {
+         futures.add(client.transformiere(i, "s", 1.0, "m", 2.0, "m/s"));
+         }
+      futures.add(client.transformiere(3.0, "s", 1.0, "m", 4.0, "m/s"));
+
+      // Jedes Future erhält sein eigenes transformiertes Ereignis.
+      for (int i = 0; i < 10; i++)
+         {
+         assertEquals(new Ereignis(i, "s", 1.0 - 2.0 * i, "m"), futures.get(i).get());
+         }
+      assertEquals(new Ereignis(3.0, "s", -11.0, "m"), futures.get(10).get());
+      }
+
+   // Es wurde ein Request pro Geschwindigkeit gesendet.
+   assertEquals(List.of(1, 10), this.batchGroessen.stream().sorted().toList());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Volle Batches werden sofort gesendet, der Rest beim Schließen des Clients")
+void testMaxBatchSize() throws Exception
+   {
+   List<CompletableFuture<Ereignis>> futures = new ArrayList<>();
+   try (BatchingGalileitransformationClient client = this.client(Duration.ofMinutes(1), 4))
+      {
+      for (int i = 0; i < 10; i++)
+         {
+         futures.add(client.transformiere(i, "s", 0.0, "m", 1.0, "m/s"));
+         }
+
+      // Die beiden vollen Batches werden ohne Ablauf des Zeitfensters beantwortet.
+      assertEquals(new Ereignis(7.0, "s", -7.0, "m"), futures.get(7).get());
+      }
+
+   assertEquals(new Ereignis(9.0, "s", -9.0, "m"), futures.get(9).get());
+   assertEquals(List.of(2, 4, 4), this.batchGroessen.stream().sorted().toList());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Antwortet der Service mit einem Fehler, so schlagen die Futures des Batches fehl")
+void testFehler()
+   {
+   try (BatchingGalileitransformationClient client = this.client(Duration.ofMillis(10), 1000))
+      {
+      CompletableFuture<Ereignis> future = client.transformiere(1.0, "s", 1.0, "m", -1.0, "m/s");
+      assertThrows(ExecutionException.class, future::get);
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Nach dem Schließen werden Aufrufe mit einer IllegalStateException abgewiesen")
+void testNachClose() throws Exception
+   {
+   BatchingGalileitransformationClient client = this.client(Duration.ofMinutes(1), 1000);
+   CompletableFuture<Ereignis> offen = client.transformiere(2.0, "s", 0.0, "m", 1.0, "m/s");
+
+   // Die zu testende Methode wird aufgerufen.
+   client.close();
+   client.close();
+
+   // Der offene Batch wird noch gesendet, weitere Aufrufe werden abgewiesen.
+   assertEquals(new Ereignis(2.0, "s", -2.0, "m"), offen.get());
+   for (int i = 0; i < 2; i++)
+      {
+      assertThrows(IllegalStateException.class, () -> client.transformiere(1.0, "s", 0.0, "m", 1.0, "m/s"));
+      }
+   assertEquals(List.of(1), this.batchGroessen);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Der Kontextpfad der Basis-URI bleibt erhalten und die Query wird kodiert")
+void testKontextpfad() throws Exception
+   {
+   for (String pfad : List.of("/galilei", "/galilei/"))
+      {
+      try (BatchingGalileitransformationClient client = new BatchingGalileitransformationClient(
+            URI.create("http://localhost:" + this.server.getAddress().getPort() + pfad), Duration.ofMillis(10), 1000))
+         {
+         assertEquals(new Ereignis(2.0, "s", -3.0, "m"), client.transformiere(2.0, "s", 1.0, "m", 2.0, "m/s").get());
+         }
+      }
+
+   assertEquals(List.of("/galilei/transformiereBatch?vMasszahl=2.0&vEinheit=m%2Fs",
+         "/galilei/transformiereBatch?vMasszahl=2.0&vEinheit=m%2Fs"), this.uris);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Es werden nicht mehr Batches gleichzeitig gesendet als erlaubt")
+void testMaxInFlight() throws Exception
+   {
+   this.verzoegerung = 50;
+   List<CompletableFuture<Ereignis>> futures = new ArrayList<>();
+   try (BatchingGalileitransformationClient client = new BatchingGalileitransformationClient(
+         URI.create("http://localhost:" + this.server.getAddress().getPort()), Duration.ofMinutes(1), 1, 2))
+      {
+      for (int i = 0; i < 8; i++)
+         {
+         futures.add(client.transformiere(i, "s", 0.0, "m", 1.0, "m/s"));
+         }
+
+      // Alle Aufrufe werden beantwortet, aber höchstens zwei Batches waren gleichzeitig unterwegs.
+      for (int i = 0; i < 8; i++)
+         {
+         assertEquals(new Ereignis(i, "s", -i, "m"), futures.get(i).get());
+         }
+      }
+
+   assertEquals(8, this.batchGroessen.size());
+   assertEquals(2, this.maxLaufend.get());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Eine Anzahl gleichzeitiger Batches, die nicht größer als null ist, wird abgewiesen")
+void testMaxInFlightUngueltig()
+   {
+   assertThrows(IllegalArgumentException.class, () -> new BatchingGalileitransformationClient(
+         URI.create("http://localhost"), Duration.ofMillis(1), 1, 0));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt einen Client für den nachgebildeten Service.
+ *
+ * @param window       das Zeitfenster
+ * @param maxBatchSize die maximale Anzahl der Ereignisse eines Batches
+ * @return der Client
+ */
+private BatchingGalileitransformationClient client(Duration window, int maxBatchSize)
+   {
+   return new BatchingGalileitransformationClient(URI.create("http://localhost:" + this.server.getAddress().getPort()),
+         window, maxBatchSize);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Sendet die Antwort des nachgebildeten Services.
+ *
+ * @param exchange der {@link HttpExchange}
+ * @param status   der Status
+ * @param body     der Inhalt der Antwort
+ * @throws IOException falls beim Senden ein Fehler auftritt
+ */
+private static void antworte(HttpExchange exchange, int status, byte[] body) throws IOException
+   {
+   exchange.getResponseHeaders().add("Content-Type", EventBinaryFormat.MEDIA_TYPE);
+   exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+   exchange.getResponseBody().write(body);
+   exchange.close();
+   }
+}
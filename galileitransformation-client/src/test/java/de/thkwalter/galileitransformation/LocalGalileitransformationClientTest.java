@@ -0,0 +1,68 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileitransformation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testklasse für die Klasse {@link LocalGalileitransformationClient}. Die Übereinstimmung mit dem Service wird in
+ * {@link StandardGalileitransformationConsumerPactTest} geprüft.
+ *
+ * @author Th. K. Walter
+ */
+class LocalGalileitransformationClientTest
+{
+@Test
+@DisplayName("Bekannte Einheiten werden lokal in SI-Einheiten transformiert")
+void testTransformiereLokal()
+   {
+   assertEquals(new Ereignis(7200.0, "s", 500.0 - 1.5E3 * 7200.0, "m"),
+         LocalGalileitransformationClient.transformiereLokal(2, "h", 0.5, "km", 1.5, "km/s"));
+   assertNull(LocalGalileitransformationClient.transformiereLokal(2, "h", 0.5, "km", 1.5, "km/h"));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Aufrufe mit lokal unbekannten Einheiten werden an den Service weitergegeben")
+void testFallback()
+   {
+   // Der Service ist nicht erreichbar, so dass nur die lokale Berechnung erfolgreich sein kann.
+   BatchingGalileitransformationClient remote = new BatchingGalileitransformationClient(
+         URI.create("http://localhost:1"), Duration.ofMillis(1), 16);
+   try (LocalGalileitransformationClient client = new LocalGalileitransformationClient(remote))
+      {
+      CompletableFuture<Ereignis> lokal = client.transformiere(1, "s", 0, "m", 1, "m/s");
+      CompletableFuture<Ereignis> entfernt = client.transformiere(1, "s", 0, "m", 1, "km/h");
+
+      assertTrue(lokal.isDone());
+      assertEquals(-1.0, lokal.join().xMasszahl());
+      assertThrows(ExecutionException.class, entfernt::get);
+      }
+   }
+}
@@ -32,6 +32,8 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 /**
  * Ein Test zur Erzeugung und Verifizierung der Pact-Datei für den Standard-Galileitransformationsservice.
  *
@@ -52,7 +54,9 @@ class StandardGalileitransformationConsumerPactTest
 @Pact(provider = "StandardGalileitransformationProvider", consumer = "StandardGalileitransformationConsumer")
 public V4Pact transformiere(PactBuilder builder)
    {
-   // Der Content-Type-Header wird auf "application/json" gesetzt.
+   // Der Content-Type-Header wird auf "application/json" gesetzt. Die Antwort wird mit den exakten Werten des Services
+   // spezifiziert, damit der Provider-Test auch die Übereinstimmung mit der lokalen Berechnung des
+   // LocalGalileitransformationClient absichert.
    Map<String, String> headers = new HashMap<>();
    headers.put("Content-Type", "application/json");
 
@@ -60,14 +64,15 @@ public V4Pact transformiere(PactBuilder builder)
 
    return builder.usingLegacyDsl().given("standard").uponReceiving("transformiertes Ereignis").path(
          "/transformiere").query(queryString).method("GET").willRespondWith().headers(headers).status(200).body(
-         new PactDslJsonBody().numberType("t", 2).numberType("x", -6)).toPact(V4Pact.class);
+         new PactDslJsonBody().numberValue("t", 2.0).numberValue("x", -8.0)).toPact(V4Pact.class);
    }
 
 // =====================================================================================================================
 // =====================================================================================================================
 
 /**
- * Dieser Test verifiziert, dass die erzeugt Pact-Datei, die Interaktion mit dem Server korrekt beschreibt.
+ * Dieser Test verifiziert, dass die erzeugt Pact-Datei, die Interaktion mit dem Server korrekt beschreibt, und dass
+ * die lokale Berechnung des {@link LocalGalileitransformationClient} dasselbe Ergebnis liefert.
  *
  * @param mockServer der mithilfe der Pact-Datei erzeugte Server-Mock
  * @throws IOException
@@ -76,8 +81,13 @@ public V4Pact transformiere(PactBuilder builder)
 void testTransformiere(MockServer mockServer) throws IOException
    {
    WebTestClient client = WebTestClient.bindToServer().baseUrl(mockServer.getUrl()).build();
-   client.get().uri(
-         "/transformiere?xMasszahl=-0.004&xEinheit=km&tMasszahl=2000&tEinheit=ms&vMasszahl=2&vEinheit=m%2Fs").exchange().expectStatus().isOk().expectBody().jsonPath(
-         "$.x").isEqualTo("-6").jsonPath("$.t").isEqualTo("2");
+   Map<?, ?> antwort = client.get().uri(
+         "/transformiere?xMasszahl=-0.004&xEinheit=km&tMasszahl=2000&tEinheit=ms&vMasszahl=2&vEinheit=m%2Fs").exchange()
+         .expectStatus().isOk().expectBody(Map.class).returnResult().getResponseBody();
+
+   // Die lokale Berechnung muss mit der Antwort des Services übereinstimmen.
+   Ereignis lokal = LocalGalileitransformationClient.transformiereLokal(2000, "ms", -0.004, "km", 2, "m/s");
+   assertEquals(((Number) antwort.get("t")).doubleValue(), lokal.tMasszahl());
+   assertEquals(((Number) antwort.get("x")).doubleValue(), lokal.xMasszahl());
    }
 }
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.binary;
+
+import de.thkwalter.galileantransformation.EventBatch;
+import de.thkwalter.galileantransformation.QuantityUtils;
+import de.thkwalter.galileantransformation.UnitUtils;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Time;
+import java.io.IOException;
+
+/**
+ * Diese Klasse liest und schreibt {@link EventBatch}-Objekte im binären Austauschformat
+ * <tt>application/x-galilei-events</tt> (siehe {@link EventBinaryFormat}), so dass das Format über den Content-Type
+ * bzw. den Accept-Header eines Requests ausgewählt werden kann. Beim Lesen werden die Koordinaten in SI-Einheiten
+ * umgerechnet; geschrieben werden immer die SI-Einheiten <tt>s</tt> und <tt>m</tt>.
+ *
+ * @author Th. K. Walter
+ */
+public class EventBatchHttpMessageConverter extends AbstractHttpMessageConverter<EventBatch>
+{
+/**
+ * Die maximale Anzahl der Ereignisse eines gelesenen Requests
+ */
+private final int maxEvents;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Konverter für den Content-Type <tt>application/x-galilei-events</tt>. Ein gelesener Request darf
+ * höchstens {@link EventBinaryFormat#DEFAULT_MAX_EVENTS} Ereignisse enthalten.
+ */
+public EventBatchHttpMessageConverter()
+   {
+   this(EventBinaryFormat.DEFAULT_MAX_EVENTS);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Konverter für den Content-Type <tt>application/x-galilei-events</tt>.
+ *
+ * @param maxEvents die maximale Anzahl der Ereignisse eines gelesenen Requests
+ */
+public EventBatchHttpMessageConverter(int maxEvents)
+   {
+   super(MediaType.parseMediaType(EventBinaryFormat.MEDIA_TYPE));
+   this.maxEvents = maxEvents;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+protected boolean supports(Class<?> clazz)
+   {
+   return EventBatch.class.isAssignableFrom(clazz);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+protected EventBatch readInternal(Class<? extends EventBatch> clazz, HttpInputMessage inputMessage)
+      throws IOException
+   {
+   return EventBatchHttpMessageConverter.toEventBatch(EventBinaryFormat.read(inputMessage.getBody(), this.maxEvents));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+protected void writeInternal(EventBatch events, HttpOutputMessage outputMessage) throws IOException
+   {
+   EventBinaryFormat.write(new EventColumns("s", "m", events.getT(), events.getX()), outputMessage.getBody());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+protected Long getContentLength(EventBatch events, MediaType contentType)
+   {
+   return 13L + 16L * events.size();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt aus einer gelesenen Nachricht eine Folge von Ereignissen mit den Koordinaten in SI-Einheiten. Die Felder
+ * der Nachricht werden dabei ohne Kopie umgerechnet.
+ *
+ * @param columns die gelesene Nachricht
+ * @return die Folge von Ereignissen mit den Koordinaten in SI-Einheiten
+ */
+public static EventBatch toEventBatch(EventColumns columns)
+   {
+   // Die Umrechnungen in die SI-Einheiten werden einmal für alle Ereignisse bestimmt.
+   UnitConverter tConverter = QuantityUtils.getSiConverter(UnitUtils.parseUnit(columns.tEinheit(), Time.class));
+   UnitConverter xConverter = QuantityUtils.getSiConverter(UnitUtils.parseUnit(columns.xEinheit(), Length.class));
+
+   // Die Koordinaten werden nur umgerechnet, wenn sie nicht bereits in SI-Einheiten vorliegen.
+   EventBatchHttpMessageConverter.convert(columns.t(), tConverter);
+   EventBatchHttpMessageConverter.convert(columns.x(), xConverter);
+
+   return new EventBatch(columns.t(), columns.x());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Rechnet die Maßzahlen eines Feldes an Ort und Stelle um, falls die Umrechnung nicht die Identität ist.
+ *
+ * @param masszahlen die Maßzahlen
+ * @param converter  die Umrechnung
+ */
+private static void convert(double[] masszahlen, UnitConverter converter)
+   {
+   if (!converter.isIdentity())
+      {
+      for (int i = 0; i < masszahlen.length; i++)
+         {
+         masszahlen[i] = converter.convert(masszahlen[i]);
+         }
+      }
+   }
+}
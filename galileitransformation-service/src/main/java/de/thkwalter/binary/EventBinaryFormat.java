@@ -0,0 +1,290 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.binary;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Diese Klasse liest und schreibt Folgen von Ereignissen im binären Austauschformat
+ * <tt>application/x-galilei-events</tt>. Alle Zahlen werden in der Byte-Reihenfolge little-endian abgelegt:
+ * <ul>
+ *    <li>4 Bytes: die Kennung <tt>GALE</tt> (ASCII)</li>
+ *    <li>1 Byte: die Version des Formats (aktuell 1)</li>
+ *    <li>4 Bytes: die Anzahl <tt>n</tt> der Ereignisse (int)</li>
+ *    <li>1 Byte Länge und UTF-8-Bytes: das Symbol der Einheit der Zeitkoordinaten (z.B. <tt>s</tt>)</li>
+ *    <li>1 Byte Länge und UTF-8-Bytes: das Symbol der Einheit der Ortskoordinaten (z.B. <tt>m</tt>)</li>
+ *    <li><tt>n</tt> Paare von double-Werten: die Zeit- und die Ortskoordinate jedes Ereignisses</li>
+ * </ul>
+ * Die Klasse rechnet keine Einheiten um und hängt nur von der Standardbibliothek ab, so dass der Service und seine
+ * Clients dieselbe Implementierung des Formats verwenden. Der Service antwortet immer mit den SI-Einheiten
+ * <tt>s</tt> und <tt>m</tt> (siehe {@link EventBatchHttpMessageConverter}), akzeptiert in Requests aber beliebige
+ * Einheiten.
+ *
+ * @author Th. K. Walter
+ */
+public class EventBinaryFormat
+{
+/**
+ * Der Content-Type des binären Austauschformats
+ */
+public static final String MEDIA_TYPE = "application/x-galilei-events";
+
+/**
+ * Die Standardanzahl der Ereignisse, die eine gelesene Nachricht höchstens enthalten darf (256 MiB Koordinaten)
+ */
+public static final int DEFAULT_MAX_EVENTS = 1 << 24;
+
+/**
+ * Die Kennung am Anfang jeder Nachricht
+ */
+private static final byte[] MAGIC = {'G', 'A', 'L', 'E'};
+
+/**
+ * Die Version des Formats
+ */
+private static final byte VERSION = 1;
+
+/**
+ * Die Anzahl der Ereignisse, die auf einmal gepuffert werden
+ */
+private static final int CHUNK_EVENTS = 4096;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest eine Folge von Ereignissen aus einem {@link InputStream}. Die Nachricht darf höchstens
+ * {@link #DEFAULT_MAX_EVENTS} Ereignisse enthalten.
+ *
+ * @param in der {@link InputStream}
+ * @return die Folge von Ereignissen mit den Einheiten aus dem Kopf der Nachricht
+ * @throws IOException falls beim Lesen ein Fehler auftritt oder die Daten nicht dem Format entsprechen
+ */
+public static EventColumns read(InputStream in) throws IOException
+   {
+   return EventBinaryFormat.read(in, EventBinaryFormat.DEFAULT_MAX_EVENTS);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest eine Folge von Ereignissen aus einem {@link InputStream}. Die Anzahl der Ereignisse im Kopf der Nachricht
+ * wird nicht als Größe der Felder übernommen; die Felder wachsen erst mit den tatsächlich gelesenen Ereignissen, so
+ * dass eine Nachricht mit falscher Anzahl nicht mehr Speicher belegt, als ihre Daten erfordern.
+ *
+ * @param in        der {@link InputStream}
+ * @param maxEvents die maximale Anzahl der Ereignisse der Nachricht
+ * @return die Folge von Ereignissen mit den Einheiten aus dem Kopf der Nachricht
+ * @throws IOException falls beim Lesen ein Fehler auftritt, die Daten nicht dem Format entsprechen, vorzeitig enden
+ *                     oder die Nachricht mehr als <tt>maxEvents</tt> Ereignisse enthält
+ */
+public static EventColumns read(InputStream in, int maxEvents) throws IOException
+   {
+   // Der Kopf der Nachricht wird gelesen und geprüft.
+   ByteBuffer header = ByteBuffer.wrap(EventBinaryFormat.readFully(in, 9)).order(ByteOrder.LITTLE_ENDIAN);
+   byte[] magic = new byte[4];
+   header.get(magic);
+   if (!Arrays.equals(magic, EventBinaryFormat.MAGIC) || header.get() != EventBinaryFormat.VERSION)
+      {
+      throw new IOException("Die Daten entsprechen nicht dem Format '" + EventBinaryFormat.MEDIA_TYPE + "'!");
+      }
+
+   int count = header.getInt();
+   if (count < 0)
+      {
+      throw new IOException("Die Anzahl der Ereignisse darf nicht negativ sein!");
+      }
+   if (count > maxEvents)
+      {
+      throw new IOException("Die Nachricht enthält " + count + " Ereignisse, erlaubt sind höchstens " + maxEvents +
+            "!");
+      }
+
+   String tEinheit = EventBinaryFormat.readSymbol(in);
+   String xEinheit = EventBinaryFormat.readSymbol(in);
+
+   // Die Koordinaten werden abschnittsweise gelesen. Die Felder werden erst vergrößert, wenn ein Abschnitt
+   // vollständig gelesen worden ist.
+   double[] t = new double[Math.min(count, EventBinaryFormat.CHUNK_EVENTS)];
+   double[] x = new double[t.length];
+   byte[] chunk = new byte[16 * t.length];
+   for (int start = 0; start < count; start += EventBinaryFormat.CHUNK_EVENTS)
+      {
+      int length = Math.min(EventBinaryFormat.CHUNK_EVENTS, count - start);
+      EventBinaryFormat.readFully(in, chunk, 16 * length);
+      if (start + length > t.length)
+         {
+         int capacity = (int) Math.min(count, Math.max(start + length, 2L * t.length));
+         t = Arrays.copyOf(t, capacity);
+         x = Arrays.copyOf(x, capacity);
+         }
+      ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, 16 * length).order(ByteOrder.LITTLE_ENDIAN);
+      for (int i = start; i < start + length; i++)
+         {
+         t[i] = buffer.getDouble();
+         x[i] = buffer.getDouble();
+         }
+      }
+
+   return new EventColumns(tEinheit, xEinheit, t, x);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Schreibt eine Folge von Ereignissen in einen {@link OutputStream}.
+ *
+ * @param events die Folge von Ereignissen
+ * @param out    der {@link OutputStream}
+ * @throws IOException falls beim Schreiben ein Fehler auftritt
+ */
+public static void write(EventColumns events, OutputStream out) throws IOException
+   {
+   // Der Kopf der Nachricht wird geschrieben.
+   out.write(EventBinaryFormat.header(events.size(), events.tEinheit(), events.xEinheit()));
+
+   // Die Koordinaten werden abschnittsweise geschrieben.
+   double[] t = events.t();
+   double[] x = events.x();
+   ByteBuffer buffer = ByteBuffer.allocate(16 * Math.min(events.size(), EventBinaryFormat.CHUNK_EVENTS)).order(
+         ByteOrder.LITTLE_ENDIAN);
+   for (int i = 0; i < events.size(); i++)
+      {
+      buffer.putDouble(t[i]).putDouble(x[i]);
+      if (!buffer.hasRemaining())
+         {
+         out.write(buffer.array(), 0, buffer.position());
+         buffer.clear();
+         }
+      }
+   out.write(buffer.array(), 0, buffer.position());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt den Kopf einer Nachricht mit den SI-Einheiten <tt>s</tt> und <tt>m</tt>.
+ *
+ * @param count die Anzahl der Ereignisse
+ * @return der Kopf der Nachricht
+ */
+public static byte[] header(int count)
+   {
+   return EventBinaryFormat.header(count, "s", "m");
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt den Kopf einer Nachricht.
+ *
+ * @param count    die Anzahl der Ereignisse
+ * @param tEinheit das Symbol der Einheit der Zeitkoordinaten
+ * @param xEinheit das Symbol der Einheit der Ortskoordinaten
+ * @return der Kopf der Nachricht
+ */
+public static byte[] header(int count, String tEinheit, String xEinheit)
+   {
+   byte[] tSymbol = EventBinaryFormat.symbolBytes(tEinheit);
+   byte[] xSymbol = EventBinaryFormat.symbolBytes(xEinheit);
+   return ByteBuffer.allocate(11 + tSymbol.length + xSymbol.length).order(ByteOrder.LITTLE_ENDIAN).put(
+         EventBinaryFormat.MAGIC).put(EventBinaryFormat.VERSION).putInt(count).put((byte) tSymbol.length).put(
+         tSymbol).put((byte) xSymbol.length).put(xSymbol).array();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Wandelt das Symbol einer Einheit in UTF-8-Bytes um.
+ *
+ * @param symbol das Symbol der Einheit
+ * @return die UTF-8-Bytes des Symbols
+ */
+private static byte[] symbolBytes(String symbol)
+   {
+   byte[] bytes = symbol.getBytes(StandardCharsets.UTF_8);
+   if (bytes.length > 255)
+      {
+      throw new IllegalArgumentException("Das Symbol '" + symbol + "' ist zu lang!");
+      }
+   return bytes;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest das Symbol einer Einheit (ein Byte Länge und die UTF-8-Bytes des Symbols).
+ *
+ * @param in der {@link InputStream}
+ * @return das Symbol der Einheit
+ * @throws IOException falls beim Lesen ein Fehler auftritt
+ */
+private static String readSymbol(InputStream in) throws IOException
+   {
+   int length = EventBinaryFormat.readFully(in, 1)[0] & 0xFF;
+   return new String(EventBinaryFormat.readFully(in, length), StandardCharsets.UTF_8);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest genau <tt>length</tt> Bytes.
+ *
+ * @param in     der {@link InputStream}
+ * @param length die Anzahl der Bytes
+ * @return die gelesenen Bytes
+ * @throws IOException falls beim Lesen ein Fehler auftritt oder der Strom vorzeitig endet
+ */
+private static byte[] readFully(InputStream in, int length) throws IOException
+   {
+   byte[] bytes = new byte[length];
+   EventBinaryFormat.readFully(in, bytes, length);
+   return bytes;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest genau <tt>length</tt> Bytes in das übergebene Feld.
+ *
+ * @param in     der {@link InputStream}
+ * @param bytes  das Feld für die gelesenen Bytes
+ * @param length die Anzahl der Bytes
+ * @throws IOException falls beim Lesen ein Fehler auftritt oder der Strom vorzeitig endet
+ */
+private static void readFully(InputStream in, byte[] bytes, int length) throws IOException
+   {
+   if (in.readNBytes(bytes, 0, length) < length)
+      {
+      throw new EOFException("Die Daten enden vorzeitig!");
+      }
+   }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.binary;
+
+/**
+ * Diese Klasse repräsentiert eine Folge von Ereignissen, deren Zeit- und Ortskoordinaten als Maßzahlen in zwei
+ * Feldern (Spalten) vorliegen. Die Einheiten gelten für alle Ereignisse gemeinsam. Die Klasse ist der Inhalt einer
+ * Nachricht im binären Austauschformat (siehe {@link EventBinaryFormat}) und hängt wie dieses nur von der
+ * Standardbibliothek ab.
+ *
+ * @author Th. K. Walter
+ *
+ * @param tEinheit das Symbol der Einheit der Zeitkoordinaten
+ * @param xEinheit das Symbol der Einheit der Ortskoordinaten
+ * @param t        die Maßzahlen der Zeitkoordinaten
+ * @param x        die Maßzahlen der Ortskoordinaten
+ */
+public record EventColumns(String tEinheit, String xEinheit, double[] t, double[] x)
+{
+/**
+ * Prüft, ob die beiden Felder gleich lang sind.
+ */
+public EventColumns
+   {
+   if (t.length != x.length)
+      {
+      throw new IllegalArgumentException("Die Felder 't' und 'x' müssen gleich lang sein!");
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Anzahl der Ereignisse zurück.
+ *
+ * @return die Anzahl der Ereignisse
+ */
+public int size()
+   {
+   return this.t.length;
+   }
+}
@@ -0,0 +1,275 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.binary;
+
+import de.thkwalter.galileantransformation.GalileanBoost;
+import de.thkwalter.galileantransformation.GalileanBoostFactory;
+import de.thkwalter.galileantransformation.UnitUtils;
+
+import javax.measure.quantity.Speed;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Diese Klasse transformiert Dateien mit Ereignissen, ohne sie in den Heap zu laden. Eine Datei enthält eine Folge von
+ * Paaren von double-Werten (little-endian, ohne Kopf): die Zeitkoordinate in s und die Ortskoordinate in m jedes
+ * Ereignisses. Die Datei wird abschnittsweise (standardmäßig in Fenstern von 64 MiB) in den Speicher abgebildet, so
+ * dass auch Dateien verarbeitet werden können, die größer als der Arbeitsspeicher sind. Die transformierten
+ * Ereignisse werden entweder in die Eingabedatei oder in eine ebenfalls abgebildete Ausgabedatei geschrieben. Jedes
+ * geschriebene Fenster wird mit {@link MappedByteBuffer#force()} auf das Speichermedium übertragen, bevor die
+ * Transformation zurückkehrt.
+ *
+ * Über {@link de.thkwalter.galileantransformation.GalileanTransformationServer#main(String[])} lässt sich die
+ * Transformation auch von der Kommandozeile aufrufen: <tt>java -jar galileitransformation-service.jar transform-file
+ * &lt;v&gt; &lt;Einheit&gt; &lt;Eingabe&gt; [&lt;Ausgabe&gt;]</tt>.
+ *
+ * @author Th. K. Walter
+ */
+public class MappedEventFileTransformer
+{
+/**
+ * Das Kommando, mit dem die Transformation von der Kommandozeile aufgerufen wird
+ */
+public static final String COMMAND = "transform-file";
+
+/**
+ * Die Anzahl der Bytes eines Ereignisses
+ */
+private static final int EVENT_BYTES = 16;
+
+/**
+ * Die Standardgröße der in den Speicher abgebildeten Fenster in Bytes
+ */
+private static final long DEFAULT_WINDOW_BYTES = 64L << 20;
+
+/**
+ * Die Anzahl der Ereignisse, die auf einmal aus einem Fenster kopiert und transformiert werden
+ */
+private static final int CHUNK_EVENTS = 4096;
+
+/**
+ * Die Galileitransformation
+ */
+private final GalileanBoost boost;
+
+/**
+ * Die Größe der in den Speicher abgebildeten Fenster in Bytes (ein Vielfaches von 16)
+ */
+private final long windowBytes;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Transformation mit der Standardgröße der Fenster.
+ *
+ * @param boost die Galileitransformation
+ */
+public MappedEventFileTransformer(GalileanBoost boost)
+   {
+   this(boost, MappedEventFileTransformer.DEFAULT_WINDOW_BYTES);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Transformation.
+ *
+ * @param boost       die Galileitransformation
+ * @param windowBytes die Größe der in den Speicher abgebildeten Fenster in Bytes (ein Vielfaches von 16)
+ */
+MappedEventFileTransformer(GalileanBoost boost, long windowBytes)
+   {
+   // Ist die Größe der Fenster kein positives Vielfaches von 16, so wird eine Ausnahme geworfen.
+   if (windowBytes <= 0 || windowBytes % MappedEventFileTransformer.EVENT_BYTES != 0)
+      {
+      throw new IllegalArgumentException("Das Argument 'windowBytes' muss ein positives Vielfaches von 16 sein!");
+      }
+
+   this.boost = boost;
+   this.windowBytes = windowBytes;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse einer Datei. Die Ortskoordinaten werden in der Datei überschrieben.
+ *
+ * @param file die Datei
+ * @return die Anzahl der transformierten Ereignisse
+ * @throws IOException falls beim Lesen oder Schreiben ein Fehler auftritt oder die Länge der Datei kein Vielfaches
+ *                     von 16 ist
+ */
+public long transform(Path file) throws IOException
+   {
+   try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE))
+      {
+      long size = MappedEventFileTransformer.checkSize(file, channel.size());
+      for (long position = 0; position < size; position += this.windowBytes)
+         {
+         long length = Math.min(this.windowBytes, size - position);
+         MappedByteBuffer window = MappedEventFileTransformer.map(channel, FileChannel.MapMode.READ_WRITE, position,
+               length);
+         DoubleBuffer events = window.asDoubleBuffer();
+         this.transform(events, events.duplicate());
+         window.force();
+         }
+      return size / MappedEventFileTransformer.EVENT_BYTES;
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse einer Datei und schreibt die transformierten Ereignisse in eine andere Datei. Eine
+ * bereits vorhandene Ausgabedatei wird überschrieben. Sind Eingabe- und Ausgabedatei identisch, so wird die Datei wie
+ * bei {@link #transform(Path)} überschrieben.
+ *
+ * @param input  die Eingabedatei
+ * @param output die Ausgabedatei
+ * @return die Anzahl der transformierten Ereignisse
+ * @throws IOException falls beim Lesen oder Schreiben ein Fehler auftritt oder die Länge der Eingabedatei kein
+ *                     Vielfaches von 16 ist
+ */
+public long transform(Path input, Path output) throws IOException
+   {
+   // Sind Eingabe- und Ausgabedatei identisch, so wird die Datei direkt überschrieben.
+   if (Files.exists(output) && Files.isSameFile(input, output))
+      {
+      return this.transform(input);
+      }
+
+   try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+         FileChannel out = FileChannel.open(output, StandardOpenOption.READ, StandardOpenOption.WRITE,
+               StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING))
+      {
+      long size = MappedEventFileTransformer.checkSize(input, in.size());
+      for (long position = 0; position < size; position += this.windowBytes)
+         {
+         // Das Abbilden eines Fensters der Ausgabedatei vergrößert die Datei entsprechend.
+         long length = Math.min(this.windowBytes, size - position);
+         MappedByteBuffer window = MappedEventFileTransformer.map(out, FileChannel.MapMode.READ_WRITE, position,
+               length);
+         this.transform(MappedEventFileTransformer.map(in, FileChannel.MapMode.READ_ONLY, position, length)
+               .asDoubleBuffer(), window.asDoubleBuffer());
+         window.force();
+         }
+      return size / MappedEventFileTransformer.EVENT_BYTES;
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse eines Fensters. Die Ereignisse werden in Abschnitten von {@link #CHUNK_EVENTS}
+ * Ereignissen in ein Feld kopiert, transformiert und zurückgeschrieben.
+ *
+ * @param in  das Fenster mit den originalen Ereignissen
+ * @param out das Fenster für die transformierten Ereignisse
+ */
+private void transform(DoubleBuffer in, DoubleBuffer out)
+   {
+   double[] chunk = new double[2 * Math.min(in.remaining() / 2, MappedEventFileTransformer.CHUNK_EVENTS)];
+   while (in.hasRemaining())
+      {
+      int length = Math.min(chunk.length, in.remaining());
+      in.get(chunk, 0, length);
+      for (int i = 0; i < length; i += 2)
+         {
+         chunk[i + 1] = this.boost.transformX(chunk[i], chunk[i + 1]);
+         }
+      out.put(chunk, 0, length);
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Bildet ein Fenster einer Datei in den Speicher ab.
+ *
+ * @param channel  der {@link FileChannel} der Datei
+ * @param mode     die Art der Abbildung
+ * @param position die Position des Fensters in Bytes
+ * @param length   die Länge des Fensters in Bytes
+ * @return das Fenster mit der Byte-Reihenfolge little-endian
+ * @throws IOException falls beim Abbilden ein Fehler auftritt
+ */
+private static MappedByteBuffer map(FileChannel channel, FileChannel.MapMode mode, long position, long length)
+      throws IOException
+   {
+   MappedByteBuffer buffer = channel.map(mode, position, length);
+   buffer.order(ByteOrder.LITTLE_ENDIAN);
+   return buffer;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Prüft, ob die Länge einer Datei ein Vielfaches der Länge eines Ereignisses ist.
+ *
+ * @param file die Datei
+ * @param size die Länge der Datei in Bytes
+ * @return die Länge der Datei in Bytes
+ * @throws IOException falls die Länge der Datei kein Vielfaches von 16 ist
+ */
+private static long checkSize(Path file, long size) throws IOException
+   {
+   if (size % MappedEventFileTransformer.EVENT_BYTES != 0)
+      {
+      throw new IOException("Die Länge der Datei '" + file + "' ist kein Vielfaches von 16 Bytes!");
+      }
+   return size;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Führt die Transformation mit den Argumenten der Kommandozeile aus: die Maßzahl und die Einheit der Geschwindigkeit,
+ * die Eingabedatei und optional die Ausgabedatei. Ohne Ausgabedatei wird die Eingabedatei überschrieben.
+ *
+ * @param args die Argumente der Kommandozeile (ohne das Kommando {@link #COMMAND})
+ * @return die Anzahl der transformierten Ereignisse
+ * @throws IOException falls beim Lesen oder Schreiben ein Fehler auftritt
+ */
+public static long run(String... args) throws IOException
+   {
+   // Ist die Anzahl der Argumente falsch, so wird eine Ausnahme geworfen.
+   if (args.length != 3 && args.length != 4)
+      {
+      throw new IllegalArgumentException("Aufruf: " + MappedEventFileTransformer.COMMAND +
+            " <v> <Einheit> <Eingabe> [<Ausgabe>]");
+      }
+
+   GalileanBoost boost = GalileanBoostFactory.getBoost(Double.parseDouble(args[0]),
+         UnitUtils.parseUnit(args[1], Speed.class));
+   MappedEventFileTransformer transformer = new MappedEventFileTransformer(boost);
+   Path input = Path.of(args[2]);
+   return args.length == 3 ? transformer.transform(input) : transformer.transform(input, Path.of(args[3]));
+   }
+}
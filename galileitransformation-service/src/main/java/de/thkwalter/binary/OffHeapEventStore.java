@@ -0,0 +1,487 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.binary;
+
+import de.thkwalter.galileantransformation.EventBatch;
+import de.thkwalter.galileantransformation.GalileanBoost;
+import de.thkwalter.galileantransformation.GalileanTransformation;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Diese Klasse speichert eine große Folge von Ereignissen außerhalb des Java-Heaps. Die Maßzahlen der Koordinaten
+ * werden in SI-Einheiten als Paare von double-Werten (little-endian) in Segmenten fester Größe abgelegt, die als
+ * direkte {@link ByteBuffer} angelegt werden. Der Garbage Collector muss die Ereignisse daher weder verfolgen noch
+ * kopieren, so dass auch zig Millionen Ereignisse die Pausenzeiten nicht verlängern.
+ *
+ * Die Ereignisse werden direkt in den Segmenten transformiert, entweder in der Folge selbst oder in eine zweite Folge,
+ * so dass die originalen Ereignisse beliebig oft in andere Bezugssysteme transformiert werden können. Da die Segmente
+ * bereits die Paare des binären Austauschformats enthalten, schreibt {@link #writeTo(WritableByteChannel)} die
+ * Ereignisse ohne Umkopieren in einen Kanal.
+ *
+ * Die Segmente werden mit {@link #close()} sofort freigegeben, ohne auf den Garbage Collector zu warten. Danach kann
+ * die Folge nicht mehr verwendet werden. Objekte dieser Klasse sind nicht threadsicher.
+ *
+ * @author Th. K. Walter
+ */
+public class OffHeapEventStore implements AutoCloseable
+{
+/**
+ * Die Standardanzahl der Ereignisse eines Segments (16 MiB pro Segment)
+ */
+public static final int DEFAULT_SEGMENT_EVENTS = 1 << 20;
+
+/**
+ * Die Anzahl der Bytes eines Ereignisses
+ */
+private static final int EVENT_BYTES = 16;
+
+/**
+ * Die Methode <tt>sun.misc.Unsafe.invokeCleaner(ByteBuffer)</tt>, mit der die Segmente freigegeben werden, oder
+ * <tt>null</tt>, falls sie nicht zur Verfügung steht
+ */
+private static final Method INVOKE_CLEANER = OffHeapEventStore.findInvokeCleaner();
+
+/**
+ * Die Instanz von <tt>sun.misc.Unsafe</tt>, auf der {@link #INVOKE_CLEANER} aufgerufen wird
+ */
+private static final Object UNSAFE = OffHeapEventStore.findUnsafe();
+
+/**
+ * Die Anzahl der Ereignisse eines Segments
+ */
+private final int segmentEvents;
+
+/**
+ * Die Segmente mit den Paaren der Maßzahlen
+ */
+private final List<ByteBuffer> segments = new ArrayList<>();
+
+/**
+ * Die Sichten auf die Segmente als Folgen von double-Werten
+ */
+private final List<DoubleBuffer> views = new ArrayList<>();
+
+/**
+ * Die Anzahl der Ereignisse
+ */
+private long size;
+
+/**
+ * Gibt an, ob die Folge geschlossen und ihre Segmente freigegeben sind
+ */
+private boolean closed;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert eine leere Folge von Ereignissen mit der Standardgröße der Segmente.
+ */
+public OffHeapEventStore()
+   {
+   this(OffHeapEventStore.DEFAULT_SEGMENT_EVENTS);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert eine leere Folge von Ereignissen. Die Segmente werden erst angelegt, wenn sie benötigt werden.
+ *
+ * @param segmentEvents die Anzahl der Ereignisse eines Segments
+ */
+public OffHeapEventStore(int segmentEvents)
+   {
+   // Ist die Größe der Segmente nicht positiv oder zu groß für einen ByteBuffer, so wird eine Ausnahme geworfen.
+   if (segmentEvents <= 0 || segmentEvents > Integer.MAX_VALUE / OffHeapEventStore.EVENT_BYTES)
+      {
+      throw new IllegalArgumentException("Das Argument 'segmentEvents' liegt außerhalb des zulässigen Bereichs!");
+      }
+
+   this.segmentEvents = segmentEvents;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Fügt ein Ereignis am Ende der Folge an.
+ *
+ * @param tSeconds die Maßzahl der Zeitkoordinate in s
+ * @param xMeters  die Maßzahl der Ortskoordinate in m
+ */
+public void add(double tSeconds, double xMeters)
+   {
+   DoubleBuffer view = this.ensureSegment(this.size);
+   int offset = 2 * (int) (this.size % this.segmentEvents);
+   view.put(offset, tSeconds);
+   view.put(offset + 1, xMeters);
+   this.size++;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Fügt alle Ereignisse einer {@link EventBatch} am Ende der Folge an.
+ *
+ * @param events die Folge von Ereignissen
+ */
+public void addAll(EventBatch events)
+   {
+   double[] t = events.getT();
+   double[] x = events.getX();
+   for (int i = 0; i < events.size(); i++)
+      {
+      this.add(t[i], x[i]);
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Anzahl der Ereignisse zurück.
+ *
+ * @return die Anzahl der Ereignisse
+ */
+public long size()
+   {
+   return this.size;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Maßzahl der Zeitkoordinate eines Ereignisses zurück.
+ *
+ * @param index der Index des Ereignisses
+ * @return die Maßzahl der Zeitkoordinate in s
+ */
+public double getT(long index)
+   {
+   return this.view(index).get(2 * (int) (index % this.segmentEvents));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Maßzahl der Ortskoordinate eines Ereignisses zurück.
+ *
+ * @param index der Index des Ereignisses
+ * @return die Maßzahl der Ortskoordinate in m
+ */
+public double getX(long index)
+   {
+   return this.view(index).get(2 * (int) (index % this.segmentEvents) + 1);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Entfernt alle Ereignisse. Die Segmente bleiben erhalten und werden beim erneuten Anfügen wiederverwendet.
+ */
+public void clear()
+   {
+   this.size = 0;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert alle Ereignisse mit einer Standard-Galileitransformation. Die Ortskoordinaten werden dabei in den
+ * Segmenten überschrieben.
+ *
+ * @param boost die Galileitransformation
+ */
+public void transform(GalileanBoost boost)
+   {
+   this.transform(GalileanTransformation.of(boost));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert alle Ereignisse. Die Koordinaten werden dabei in den Segmenten überschrieben.
+ *
+ * @param transformation die Galileitransformation
+ */
+public void transform(GalileanTransformation transformation)
+   {
+   this.transformTo(transformation, this);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert alle Ereignisse und schreibt die transformierten Ereignisse in eine andere Folge. Die bisherigen
+ * Ereignisse der anderen Folge werden entfernt, ihre Segmente aber wiederverwendet, so dass wiederholte
+ * Transformationen in dieselbe Folge keinen Speicher anfordern. Diese Folge bleibt unverändert, sofern die andere
+ * Folge nicht diese Folge selbst ist.
+ *
+ * @param transformation die Galileitransformation
+ * @param target         die Folge für die transformierten Ereignisse
+ * @return die Folge mit den transformierten Ereignissen
+ */
+public OffHeapEventStore transformTo(GalileanTransformation transformation, OffHeapEventStore target)
+   {
+   this.checkOpen();
+   target.checkOpen();
+
+   // Die Segmente der Folgen müssen gleich groß sein, damit sie einander entsprechen.
+   if (target.segmentEvents != this.segmentEvents)
+      {
+      throw new IllegalArgumentException("Die Segmente beider Folgen müssen gleich groß sein!");
+      }
+
+   // Die Parameter der Transformation werden nur einmal gelesen.
+   double epsilon = transformation.getEpsilon();
+   double v = transformation.getV();
+   double tau = transformation.getTau();
+   double xi = transformation.getXi();
+
+   // Die Ereignisse werden segmentweise transformiert. Die Zugriffe auf die Segmente sind nicht langsamer als
+   // Blockkopien in ein Feld im Heap, so dass die Ereignisse ohne Umweg über den Heap transformiert werden.
+   for (long start = 0; start < this.size; start += this.segmentEvents)
+      {
+      DoubleBuffer in = this.view(start);
+      DoubleBuffer out = target.ensureSegment(start);
+      int length = 2 * (int) Math.min(this.segmentEvents, this.size - start);
+      for (int i = 0; i < length; i += 2)
+         {
+         double t = in.get(i);
+         out.put(i + 1, epsilon * in.get(i + 1) - v * t + xi);
+         out.put(i, t + tau);
+         }
+      }
+   target.size = this.size;
+   return target;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Schreibt die Ereignisse im binären Austauschformat in einen Kanal. Nach dem Kopf werden die Segmente direkt in den
+ * Kanal geschrieben, ohne sie in den Heap zu kopieren.
+ *
+ * @param channel der Kanal
+ * @throws IOException falls beim Schreiben ein Fehler auftritt
+ */
+public void writeTo(WritableByteChannel channel) throws IOException
+   {
+   this.checkOpen();
+
+   // Das Austauschformat erlaubt höchstens Integer.MAX_VALUE Ereignisse.
+   if (this.size > Integer.MAX_VALUE)
+      {
+      throw new IllegalStateException("Die Folge enthält zu viele Ereignisse für das binäre Austauschformat!");
+      }
+
+   // Der Kopf der Nachricht wird geschrieben.
+   OffHeapEventStore.writeFully(channel, ByteBuffer.wrap(EventBinaryFormat.header((int) this.size)));
+
+   // Die belegten Bereiche der Segmente werden geschrieben.
+   for (long start = 0; start < this.size; start += this.segmentEvents)
+      {
+      ByteBuffer segment = this.segments.get((int) (start / this.segmentEvents)).duplicate();
+      segment.limit(OffHeapEventStore.EVENT_BYTES * (int) Math.min(this.segmentEvents, this.size - start));
+      OffHeapEventStore.writeFully(channel, segment);
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Segmente frei. Die Folge ist danach leer und kann nicht mehr verwendet werden. Ein wiederholter Aufruf hat
+ * keine Wirkung.
+ */
+@Override
+public void close()
+   {
+   for (ByteBuffer segment : this.segments)
+      {
+      OffHeapEventStore.free(segment);
+      }
+   this.segments.clear();
+   this.views.clear();
+   this.size = 0;
+   this.closed = true;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Prüft, ob die Folge noch nicht geschlossen ist.
+ *
+ * @throws IllegalStateException falls die Folge bereits geschlossen ist
+ */
+private void checkOpen()
+   {
+   if (this.closed)
+      {
+      throw new IllegalStateException("Die Folge ist bereits geschlossen!");
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Sicht auf das Segment zurück, das ein Ereignis enthält.
+ *
+ * @param index der Index des Ereignisses
+ * @return die Sicht auf das Segment
+ */
+private DoubleBuffer view(long index)
+   {
+   this.checkOpen();
+
+   // Liegt der Index außerhalb der Folge, so wird eine Ausnahme geworfen.
+   if (index < 0 || index >= this.size)
+      {
+      throw new IndexOutOfBoundsException("Der Index " + index + " liegt außerhalb der Folge!");
+      }
+
+   return this.views.get((int) (index / this.segmentEvents));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Sicht auf das Segment zurück, das ein Ereignis aufnimmt. Falls nötig, wird das Segment angelegt.
+ *
+ * @param index der Index des Ereignisses
+ * @return die Sicht auf das Segment
+ */
+private DoubleBuffer ensureSegment(long index)
+   {
+   this.checkOpen();
+
+   int segmentIndex = (int) (index / this.segmentEvents);
+   while (this.segments.size() <= segmentIndex)
+      {
+      ByteBuffer segment = ByteBuffer.allocateDirect(OffHeapEventStore.EVENT_BYTES * this.segmentEvents).order(
+            ByteOrder.LITTLE_ENDIAN);
+      this.segments.add(segment);
+      this.views.add(segment.asDoubleBuffer());
+      }
+   return this.views.get(segmentIndex);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Schreibt den Inhalt eines Puffers vollständig in einen Kanal.
+ *
+ * @param channel der Kanal
+ * @param buffer  der Puffer
+ * @throws IOException falls beim Schreiben ein Fehler auftritt
+ */
+private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException
+   {
+   while (buffer.hasRemaining())
+      {
+      channel.write(buffer);
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt den Speicher eines Segments frei. Steht <tt>sun.misc.Unsafe.invokeCleaner(ByteBuffer)</tt> nicht zur
+ * Verfügung, so wird der Speicher erst vom Garbage Collector freigegeben, nachdem das Segment nicht mehr referenziert
+ * wird.
+ *
+ * @param segment das Segment
+ */
+private static void free(ByteBuffer segment)
+   {
+   if (OffHeapEventStore.INVOKE_CLEANER != null && OffHeapEventStore.UNSAFE != null)
+      {
+      try
+         {
+         OffHeapEventStore.INVOKE_CLEANER.invoke(OffHeapEventStore.UNSAFE, segment);
+         }
+      catch (ReflectiveOperationException e)
+         {
+         // Das Segment wird vom Garbage Collector freigegeben.
+         }
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Sucht die Methode <tt>sun.misc.Unsafe.invokeCleaner(ByteBuffer)</tt>.
+ *
+ * @return die Methode oder <tt>null</tt>, falls sie nicht zur Verfügung steht
+ */
+private static Method findInvokeCleaner()
+   {
+   try
+      {
+      return Class.forName("sun.misc.Unsafe").getMethod("invokeCleaner", ByteBuffer.class);
+      }
+   catch (ReflectiveOperationException | RuntimeException e)
+      {
+      return null;
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Sucht die Instanz von <tt>sun.misc.Unsafe</tt>.
+ *
+ * @return die Instanz oder <tt>null</tt>, falls sie nicht zur Verfügung steht
+ */
+private static Object findUnsafe()
+   {
+   try
+      {
+      Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      return field.get(null);
+      }
+   catch (ReflectiveOperationException | RuntimeException e)
+      {
+      return null;
+      }
+   }
+}
@@ -0,0 +1,310 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Diese Klasse implementiert einen threadsicheren Cache mit einer festen maximalen Größe. Ist der Cache voll, so wird
+ * der Eintrag verdrängt, auf den am längsten nicht zugegriffen worden ist (least recently used). Die Anzahl der
+ * Treffer, Fehlschläge, aufgenommenen Einträge und Verdrängungen wird gezählt.
+ *
+ * @param <K> der Typ der Schlüssel
+ * @param <V> der Typ der Werte
+ *
+ * @author Th. K. Walter
+ */
+public class LruCache<K, V>
+{
+/**
+ * Die Einträge des Caches in der Reihenfolge des letzten Zugriffs
+ */
+private final LinkedHashMap<K, V> entries;
+
+/**
+ * Die maximale Anzahl der Einträge
+ */
+private final int maximumSize;
+
+/**
+ * Die Anzahl der Treffer
+ */
+private final LongAdder hits = new LongAdder();
+
+/**
+ * Die Anzahl der Fehlschläge
+ */
+private final LongAdder misses = new LongAdder();
+
+/**
+ * Die Anzahl der aufgenommenen Einträge
+ */
+private final LongAdder puts = new LongAdder();
+
+/**
+ * Die Anzahl der verdrängten Einträge
+ */
+private final LongAdder evictions = new LongAdder();
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Cache.
+ *
+ * @param maximumSize die maximale Anzahl der Einträge
+ */
+public LruCache(int maximumSize)
+   {
+   // Ist die maximale Größe nicht größer als null, so wird eine Ausnahme geworfen.
+   if (maximumSize <= 0)
+      {
+      throw new IllegalArgumentException("Das Argument 'maximumSize' muss größer als Null sein!");
+      }
+
+   this.maximumSize = maximumSize;
+   this.entries = new LinkedHashMap<>(16, 0.75f, true)
+      {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest)
+         {
+         // Der älteste Eintrag wird verdrängt, sobald die maximale Größe überschritten ist.
+         boolean evict = this.size() > LruCache.this.maximumSize;
+         if (evict)
+            {
+            LruCache.this.evictions.increment();
+            }
+         return evict;
+         }
+      };
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt den Wert zum übergebenen Schlüssel zurück. Ist der Schlüssel nicht im Cache enthalten, so wird der Wert mit
+ * der übergebenen Funktion berechnet und in den Cache aufgenommen. Die Funktion wird außerhalb der Sperre des Caches
+ * aufgerufen, so dass eine langsame Berechnung andere Zugriffe nicht blockiert. Wirft die Funktion eine Ausnahme,
+ * so wird kein Eintrag angelegt.
+ *
+ * @param key    der Schlüssel
+ * @param loader die Funktion, die den Wert zu einem Schlüssel berechnet
+ * @return der Wert zum Schlüssel
+ */
+public V get(K key, Function<? super K, ? extends V> loader)
+   {
+   // Ist der Schlüssel im Cache enthalten, so wird der vorhandene Wert zurückgegeben.
+   V value = this.getIfPresent(key);
+   if (value != null)
+      {
+      return value;
+      }
+
+   // Der Wert wird berechnet und in den Cache aufgenommen.
+   value = loader.apply(key);
+   this.put(key, value);
+   return value;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt den Wert zum übergebenen Schlüssel zurück, falls er im Cache enthalten ist.
+ *
+ * @param key der Schlüssel
+ * @return der Wert zum Schlüssel oder <tt>null</tt>, falls der Schlüssel nicht im Cache enthalten ist
+ */
+public V getIfPresent(K key)
+   {
+   V value;
+   synchronized (this.entries)
+      {
+      value = this.entries.get(key);
+      }
+
+   // Der Treffer bzw. Fehlschlag wird gezählt.
+   if (value != null)
+      {
+      this.hits.increment();
+      }
+   else
+      {
+      this.misses.increment();
+      }
+
+   return value;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt den Wert zum übergebenen Schlüssel zurück, falls er im Cache enthalten und noch gültig ist. Ein ungültiger
+ * Wert (z.B. ein abgelaufener Eintrag) wird unter der Sperre des Caches entfernt, sofern er nicht inzwischen durch
+ * einen neuen Wert ersetzt worden ist, und als Fehlschlag gezählt.
+ *
+ * @param key   der Schlüssel
+ * @param valid die Prüfung, ob ein Wert noch gültig ist
+ * @return der Wert zum Schlüssel oder <tt>null</tt>, falls der Schlüssel nicht (mehr) im Cache enthalten ist
+ */
+public V getIfPresent(K key, Predicate<? super V> valid)
+   {
+   V value;
+   synchronized (this.entries)
+      {
+      value = this.entries.get(key);
+      if (value != null && !valid.test(value))
+         {
+         this.entries.remove(key, value);
+         value = null;
+         }
+      }
+
+   // Der Treffer bzw. Fehlschlag wird gezählt.
+   if (value != null)
+      {
+      this.hits.increment();
+      }
+   else
+      {
+      this.misses.increment();
+      }
+
+   return value;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Nimmt einen Wert in den Cache auf. Ist der Cache danach zu groß, so wird der Eintrag verdrängt, auf den am längsten
+ * nicht zugegriffen worden ist.
+ *
+ * @param key   der Schlüssel
+ * @param value der Wert
+ */
+public void put(K key, V value)
+   {
+   synchronized (this.entries)
+      {
+      this.entries.put(key, value);
+      }
+   this.puts.increment();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Entfernt den Eintrag zum übergebenen Schlüssel.
+ *
+ * @param key der Schlüssel
+ */
+public void remove(K key)
+   {
+   synchronized (this.entries)
+      {
+      this.entries.remove(key);
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die aktuelle Anzahl der Einträge zurück.
+ *
+ * @return die Anzahl der Einträge
+ */
+public int size()
+   {
+   synchronized (this.entries)
+      {
+      return this.entries.size();
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die maximale Anzahl der Einträge zurück.
+ *
+ * @return die maximale Anzahl der Einträge
+ */
+public int getMaximumSize()
+   {
+   return this.maximumSize;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Anzahl der Treffer zurück.
+ *
+ * @return die Anzahl der Treffer
+ */
+public long getHits()
+   {
+   return this.hits.sum();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Anzahl der Fehlschläge zurück.
+ *
+ * @return die Anzahl der Fehlschläge
+ */
+public long getMisses()
+   {
+   return this.misses.sum();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Anzahl der aufgenommenen Einträge zurück.
+ *
+ * @return die Anzahl der aufgenommenen Einträge
+ */
+public long getPuts()
+   {
+   return this.puts.sum();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Anzahl der verdrängten Einträge zurück.
+ *
+ * @return die Anzahl der verdrängten Einträge
+ */
+public long getEvictions()
+   {
+   return this.evictions.sum();
+   }
+}
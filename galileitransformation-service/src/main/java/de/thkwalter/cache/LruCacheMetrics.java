@@ -0,0 +1,119 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Diese Klasse veröffentlicht die Zähler eines {@link LruCache} als Metriken nach den Konventionen von Micrometer für
+ * Caches (<tt>cache.gets</tt>, <tt>cache.puts</tt>, <tt>cache.evictions</tt>, <tt>cache.size</tt>). Zusätzlich wird
+ * die maximale Größe des Caches als <tt>cache.max.size</tt> veröffentlicht.
+ *
+ * @author Th. K. Walter
+ */
+public class LruCacheMetrics extends CacheMeterBinder<LruCache<?, ?>>
+{
+/**
+ * Initialisiert die Metriken eines {@link LruCache}.
+ *
+ * @param cache     der Cache
+ * @param cacheName der Name des Caches, der als Tag <tt>cache</tt> veröffentlicht wird
+ * @param tags      weitere Tags der Metriken
+ */
+public LruCacheMetrics(LruCache<?, ?> cache, String cacheName, Iterable<Tag> tags)
+   {
+   super(cache, cacheName, tags);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Registriert die Metriken des übergebenen Caches in der übergebenen {@link MeterRegistry}.
+ *
+ * @param registry  die {@link MeterRegistry}
+ * @param cache     der Cache
+ * @param cacheName der Name des Caches
+ */
+public static void monitor(MeterRegistry registry, LruCache<?, ?> cache, String cacheName)
+   {
+   new LruCacheMetrics(cache, cacheName, Tags.empty()).bindTo(registry);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+protected Long size()
+   {
+   LruCache<?, ?> cache = this.getCache();
+   return cache == null ? null : (long) cache.size();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+protected long hitCount()
+   {
+   LruCache<?, ?> cache = this.getCache();
+   return cache == null ? 0L : cache.getHits();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+protected Long missCount()
+   {
+   LruCache<?, ?> cache = this.getCache();
+   return cache == null ? null : cache.getMisses();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+protected Long evictionCount()
+   {
+   LruCache<?, ?> cache = this.getCache();
+   return cache == null ? null : cache.getEvictions();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+protected long putCount()
+   {
+   LruCache<?, ?> cache = this.getCache();
+   return cache == null ? 0L : cache.getPuts();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+protected void bindImplementationSpecificMetrics(MeterRegistry registry)
+   {
+   Gauge.builder("cache.max.size", this.getCache(), LruCache::getMaximumSize).tags(this.getTagsWithCacheName())
+         .description("Die maximale Anzahl der Einträge des Caches").register(registry);
+   }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.csv;
+
+import de.thkwalter.galileantransformation.EventBatch;
+import de.thkwalter.galileantransformation.GalileanBoost;
+import de.thkwalter.galileantransformation.GalileanBoostFactory;
+import de.thkwalter.galileantransformation.UnitUtils;
+
+import javax.measure.quantity.Speed;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Diese Klasse transformiert die Ereignisse einer CSV-Datei (siehe {@link EventCsvReader}) abschnittsweise mit einer
+ * Galileitransformation und schreibt sie in den Einheiten der Eingabe in eine andere CSV-Datei. Es befindet sich immer
+ * nur ein Abschnitt im Speicher.
+ *
+ * Über {@link de.thkwalter.galileantransformation.GalileanTransformationServer#main(String[])} lässt sich die
+ * Transformation auch von der Kommandozeile aufrufen: <tt>java -jar galileitransformation-service.jar transform-csv
+ * &lt;v&gt; &lt;Einheit&gt; &lt;Eingabe&gt; &lt;Ausgabe&gt;</tt>.
+ *
+ * @author Th. K. Walter
+ */
+public class CsvEventTransformer
+{
+/**
+ * Das Kommando, mit dem die Transformation von der Kommandozeile aufgerufen wird
+ */
+public static final String COMMAND = "transform-csv";
+
+/**
+ * Die Anzahl der Ereignisse eines Abschnitts
+ */
+public static final int CHUNK_EVENTS = 8192;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse einer CSV-Datei. Die Ausgabe verwendet dieselben Einheiten wie die Eingabe.
+ *
+ * @param in    der {@link Reader} der Eingabe
+ * @param out   der {@link Writer} der Ausgabe
+ * @param boost die Galileitransformation
+ * @return die Anzahl der transformierten Ereignisse
+ * @throws IOException falls beim Lesen oder Schreiben ein Fehler auftritt oder die Eingabe ungültig ist
+ */
+public static long transform(Reader in, Writer out, GalileanBoost boost) throws IOException
+   {
+   EventCsvReader reader = new EventCsvReader(in);
+   EventCsvWriter writer = new EventCsvWriter(out, reader.getTUnit(), reader.getXUnit());
+
+   // Die Ereignisse werden abschnittsweise gelesen, transformiert und geschrieben.
+   long count = 0;
+   EventBatch events;
+   while ((events = reader.read(CsvEventTransformer.CHUNK_EVENTS)).size() > 0)
+      {
+      writer.write(boost.transform(events));
+      count += events.size();
+      }
+
+   writer.flush();
+   return count;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Führt die Transformation mit den Argumenten der Kommandozeile aus: die Maßzahl und die Einheit der Geschwindigkeit,
+ * die Eingabedatei und die Ausgabedatei.
+ *
+ * @param args die Argumente der Kommandozeile (ohne das Kommando {@link #COMMAND})
+ * @return die Anzahl der transformierten Ereignisse
+ * @throws IOException falls beim Lesen oder Schreiben ein Fehler auftritt oder die Eingabe ungültig ist
+ */
+public static long run(String... args) throws IOException
+   {
+   // Ist die Anzahl der Argumente falsch, so wird eine Ausnahme geworfen.
+   if (args.length != 4)
+      {
+      throw new IllegalArgumentException("Aufruf: " + CsvEventTransformer.COMMAND +
+            " <v> <Einheit> <Eingabe> <Ausgabe>");
+      }
+
+   GalileanBoost boost = GalileanBoostFactory.getBoost(Double.parseDouble(args[0]),
+         UnitUtils.parseUnit(args[1], Speed.class));
+   try (Reader in = Files.newBufferedReader(Path.of(args[2]), StandardCharsets.UTF_8);
+         Writer out = Files.newBufferedWriter(Path.of(args[3]), StandardCharsets.UTF_8))
+      {
+      return CsvEventTransformer.transform(in, out, boost);
+      }
+   }
+}
@@ -0,0 +1,228 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.csv;
+
+import de.thkwalter.galileantransformation.EventBatch;
+import de.thkwalter.galileantransformation.QuantityUtils;
+import de.thkwalter.galileantransformation.UnitUtils;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Time;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Diese Klasse liest Ereignisse abschnittsweise aus einer CSV-Datei. Die erste Zeile enthält die Namen der beiden
+ * Spalten <tt>t</tt> und <tt>x</tt> (in beliebiger Reihenfolge) mit ihren Einheiten in eckigen Klammern, z.B.
+ * <tt>t[ms],x[km]</tt>. Jede weitere Zeile enthält die Maßzahlen eines Ereignisses. Die Einheiten werden nur einmal
+ * geparst; die Maßzahlen werden direkt in SI-Einheiten umgerechnet und in den Spalten einer {@link EventBatch}
+ * abgelegt, so dass pro Zeile keine {@link javax.measure.Quantity}-Objekte erzeugt werden.
+ *
+ * @author Th. K. Walter
+ */
+public class EventCsvReader implements Closeable
+{
+/**
+ * Das Muster einer Spaltenüberschrift, z.B. <tt>t[ms]</tt>
+ */
+private static final Pattern COLUMN = Pattern.compile("\\s*(\\w+)\\s*\\[(.+)]\\s*");
+
+/**
+ * Der {@link BufferedReader}, aus dem gelesen wird
+ */
+private final BufferedReader reader;
+
+/**
+ * <tt>true</tt>, falls die Zeitkoordinate in der ersten Spalte steht
+ */
+private final boolean tFirst;
+
+/**
+ * Die Einheit der Zeitkoordinaten
+ */
+private final Unit<Time> tUnit;
+
+/**
+ * Die Einheit der Ortskoordinaten
+ */
+private final Unit<Length> xUnit;
+
+/**
+ * Die Umrechnung der Zeitkoordinaten in s
+ */
+private final UnitConverter tConverter;
+
+/**
+ * Die Umrechnung der Ortskoordinaten in m
+ */
+private final UnitConverter xConverter;
+
+/**
+ * Die Nummer der zuletzt gelesenen Zeile
+ */
+private long lineNumber;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Leser und liest die Kopfzeile mit den Spaltenüberschriften.
+ *
+ * @param reader der {@link Reader}, aus dem gelesen wird
+ * @throws IOException falls beim Lesen ein Fehler auftritt oder die Kopfzeile ungültig ist
+ */
+public EventCsvReader(Reader reader) throws IOException
+   {
+   this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+
+   // Die Kopfzeile wird gelesen und in die beiden Spaltenüberschriften zerlegt.
+   String header = this.readLine();
+   String[] columns = header == null ? new String[0] : header.split(",", -1);
+   Matcher first = columns.length == 2 ? EventCsvReader.COLUMN.matcher(columns[0]) : null;
+   Matcher second = columns.length == 2 ? EventCsvReader.COLUMN.matcher(columns[1]) : null;
+   if (first == null || !first.matches() || !second.matches() ||
+         !(first.group(1) + second.group(1)).matches("tx|xt"))
+      {
+      throw new IOException("Die Kopfzeile '" + header + "' hat nicht die Form 't[Einheit],x[Einheit]'!");
+      }
+
+   // Die Einheiten werden geparst und die Umrechnungen in die SI-Einheiten bestimmt.
+   this.tFirst = first.group(1).equals("t");
+   try
+      {
+      this.tUnit = UnitUtils.parseUnit((this.tFirst ? first : second).group(2).trim(), Time.class);
+      this.xUnit = UnitUtils.parseUnit((this.tFirst ? second : first).group(2).trim(), Length.class);
+      }
+   catch (MeasurementParseException | ClassCastException e)
+      {
+      throw new IOException("Die Kopfzeile '" + header + "' enthält eine ungültige Einheit!", e);
+      }
+   this.tConverter = QuantityUtils.getSiConverter(this.tUnit);
+   this.xConverter = QuantityUtils.getSiConverter(this.xUnit);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest die nächsten Ereignisse. Leere Zeilen werden übersprungen.
+ *
+ * @param maxEvents die maximale Anzahl der zu lesenden Ereignisse
+ * @return die Folge der gelesenen Ereignisse mit den Einheiten der Kopfzeile; am Ende der Datei ist die Folge leer
+ * @throws IOException falls beim Lesen ein Fehler auftritt oder eine Zeile ungültig ist
+ */
+public EventBatch read(int maxEvents) throws IOException
+   {
+   double[] t = new double[maxEvents];
+   double[] x = new double[maxEvents];
+
+   int size = 0;
+   String line;
+   while (size < maxEvents && (line = this.readLine()) != null)
+      {
+      // Leere Zeilen werden übersprungen.
+      if (line.isBlank())
+         {
+         continue;
+         }
+
+      // Die Zeile wird am Komma geteilt und die Maßzahlen werden in SI-Einheiten umgerechnet.
+      int comma = line.indexOf(',');
+      try
+         {
+         double first = Double.parseDouble(line.substring(0, comma).trim());
+         double second = Double.parseDouble(line.substring(comma + 1).trim());
+         t[size] = this.tConverter.convert(this.tFirst ? first : second);
+         x[size] = this.xConverter.convert(this.tFirst ? second : first);
+         size++;
+         }
+      catch (IndexOutOfBoundsException | NumberFormatException e)
+         {
+         throw new IOException("Die Zeile " + this.lineNumber + " ('" + line + "') ist ungültig!", e);
+         }
+      }
+
+   // Wurden weniger Ereignisse gelesen, so werden die Spalten gekürzt.
+   if (size < maxEvents)
+      {
+      t = Arrays.copyOf(t, size);
+      x = Arrays.copyOf(x, size);
+      }
+   return new EventBatch(t, x, this.tUnit, this.xUnit);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Einheit der Zeitkoordinaten aus der Kopfzeile zurück.
+ *
+ * @return die Einheit der Zeitkoordinaten
+ */
+public Unit<Time> getTUnit()
+   {
+   return this.tUnit;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Einheit der Ortskoordinaten aus der Kopfzeile zurück.
+ *
+ * @return die Einheit der Ortskoordinaten
+ */
+public Unit<Length> getXUnit()
+   {
+   return this.xUnit;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest die nächste Zeile und zählt die Zeilennummer hoch.
+ *
+ * @return die Zeile oder <tt>null</tt> am Ende der Datei
+ * @throws IOException falls beim Lesen ein Fehler auftritt
+ */
+private String readLine() throws IOException
+   {
+   String line = this.reader.readLine();
+   if (line != null)
+      {
+      this.lineNumber++;
+      }
+   return line;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+public void close() throws IOException
+   {
+   this.reader.close();
+   }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.csv;
+
+import de.thkwalter.galileantransformation.EventBatch;
+import de.thkwalter.galileantransformation.QuantityUtils;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Time;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Diese Klasse schreibt Ereignisse abschnittsweise in eine CSV-Datei im Format von {@link EventCsvReader}. Die
+ * Einheiten werden einmal in der Kopfzeile angegeben, z.B. <tt>t[ms],x[km]</tt>; die Maßzahlen werden direkt aus den
+ * SI-Spalten einer {@link EventBatch} in diese Einheiten umgerechnet.
+ *
+ * @author Th. K. Walter
+ */
+public class EventCsvWriter implements Closeable, Flushable
+{
+/**
+ * Der {@link Writer}, in den geschrieben wird
+ */
+private final Writer writer;
+
+/**
+ * Die Umrechnung der Zeitkoordinaten aus s
+ */
+private final UnitConverter tConverter;
+
+/**
+ * Die Umrechnung der Ortskoordinaten aus m
+ */
+private final UnitConverter xConverter;
+
+/**
+ * Der Puffer für die Zeilen eines Abschnitts
+ */
+private final StringBuilder buffer = new StringBuilder();
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Schreiber und schreibt die Kopfzeile mit den Spaltenüberschriften.
+ *
+ * @param writer der {@link Writer}, in den geschrieben wird
+ * @param tUnit  die Einheit der Zeitkoordinaten
+ * @param xUnit  die Einheit der Ortskoordinaten
+ * @throws IOException falls beim Schreiben ein Fehler auftritt
+ */
+public EventCsvWriter(Writer writer, Unit<Time> tUnit, Unit<Length> xUnit) throws IOException
+   {
+   this.writer = writer;
+   this.tConverter = QuantityUtils.getSiConverter(tUnit).inverse();
+   this.xConverter = QuantityUtils.getSiConverter(xUnit).inverse();
+
+   this.writer.write("t[" + tUnit + "],x[" + xUnit + "]\n");
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Schreibt eine Folge von Ereignissen.
+ *
+ * @param events die Folge von Ereignissen
+ * @throws IOException falls beim Schreiben ein Fehler auftritt
+ */
+public void write(EventBatch events) throws IOException
+   {
+   double[] t = events.getT();
+   double[] x = events.getX();
+   for (int i = 0; i < events.size(); i++)
+      {
+      this.buffer.append(this.tConverter.convert(t[i])).append(',').append(this.xConverter.convert(x[i])).append('\n');
+      }
+
+   this.writer.append(this.buffer);
+   this.buffer.setLength(0);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+public void flush() throws IOException
+   {
+   this.writer.flush();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+public void close() throws IOException
+   {
+   this.writer.close();
+   }
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+/**
+ * Diese Schnittstelle beschreibt den Rechenkern einer Standard-Galileitransformation, d.h. die Berechnung von
+ * <tt>x' = x - vt</tt> für Maßzahlen in SI-Einheiten, die in zwei Feldern vorliegen.
+ *
+ * @author Th. K. Walter
+ */
+public interface BoostKernel
+{
+/**
+ * Transformiert die Ortskoordinaten im Indexbereich <tt>[from, to)</tt>. Die Ortskoordinaten werden dabei im Feld
+ * <tt>x</tt> überschrieben.
+ *
+ * @param vMeasure die Maßzahl der Geschwindigkeit in m/s
+ * @param t        die Maßzahlen der Zeitkoordinaten in s
+ * @param x        die Maßzahlen der Ortskoordinaten in m
+ * @param from     der erste zu transformierende Index
+ * @param to       der Index hinter dem letzten zu transformierenden Index
+ */
+void transform(double vMeasure, double[] t, double[] x, int from, int to);
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import java.util.BitSet;
+
+/**
+ * Diese Klasse enthält das Ergebnis des Vergleichs zweier Folgen von Maßzahlen mit
+ * {@link QuantityUtils#compareMeasures(double[], double[], double, double)}.
+ *
+ * @author Th. K. Walter
+ *
+ * @param mismatches       die Indizes der Wertepaare, die nicht im Rahmen der Toleranzbereiche übereinstimmen (das
+ *                         Objekt wird nicht kopiert)
+ * @param size             die Anzahl der verglichenen Wertepaare
+ * @param maxRelativeError die größte relative Abweichung der Wertepaare, bei denen beide Werte ungleich null sind
+ * @param maxAbsoluteError die größte absolute Abweichung aller Wertepaare (in der SI-Einheit)
+ */
+public record ComparisonResult(BitSet mismatches, int size, double maxRelativeError, double maxAbsoluteError)
+{
+/**
+ * Gibt die Anzahl der Wertepaare zurück, die nicht übereinstimmen.
+ *
+ * @return die Anzahl der Abweichungen
+ */
+public int mismatchCount()
+   {
+   return this.mismatches.cardinality();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Indizes der Wertepaare, die nicht übereinstimmen, in aufsteigender Reihenfolge zurück.
+ *
+ * @return die Indizes der Abweichungen
+ */
+public int[] mismatchIndices()
+   {
+   return this.mismatches.stream().toArray();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt <tt>true</tt> zurück, falls alle Wertepaare übereinstimmen.
+ *
+ * @return <tt>true</tt>, falls keine Abweichung gefunden wurde; <tt>false</tt> sonst
+ */
+public boolean allMatch()
+   {
+   return this.mismatches.isEmpty();
+   }
+}
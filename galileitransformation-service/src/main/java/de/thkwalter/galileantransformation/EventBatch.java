@@ -0,0 +1,224 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Time;
+import java.util.ArrayList;
+import java.util.List;
+
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Diese Klasse repräsentiert eine Folge von Ereignissen in einer zweidimensionalen Raumzeit. Anders als bei einer
+ * Liste von {@link Event}-Objekten werden die Koordinaten nicht als einzelne {@link Quantity}-Objekte, sondern als
+ * Maßzahlen in SI-Einheiten in zwei Feldern (Spalten) gespeichert. Die Einheiten, in denen die Ereignisse an den
+ * Schnittstellen angegeben werden, gelten für alle Ereignisse gemeinsam.
+ *
+ * @author Th. K. Walter
+ */
+public class EventBatch
+{
+/**
+ * Die Maßzahlen der Zeitkoordinaten (in s)
+ */
+private final double[] t;
+
+/**
+ * Die Maßzahlen der Ortskoordinaten (in m)
+ */
+private final double[] x;
+
+/**
+ * Die Einheit, in der die Zeitkoordinaten bei der Umwandlung in {@link Event}-Objekte angegeben werden
+ */
+private final Unit<Time> tUnit;
+
+/**
+ * Die Einheit, in der die Ortskoordinaten bei der Umwandlung in {@link Event}-Objekte angegeben werden
+ */
+private final Unit<Length> xUnit;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Folge von Ereignissen mit den Maßzahlen der Koordinaten in SI-Einheiten. Die Felder werden nicht
+ * kopiert.
+ *
+ * @param t die Maßzahlen der Zeitkoordinaten in s
+ * @param x die Maßzahlen der Ortskoordinaten in m
+ */
+public EventBatch(double[] t, double[] x)
+   {
+   this(t, x, SECOND, METRE);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Folge von Ereignissen mit den Maßzahlen der Koordinaten in SI-Einheiten und den Einheiten, in
+ * denen die Ereignisse bei der Umwandlung in {@link Event}-Objekte angegeben werden. Die Felder werden nicht kopiert.
+ *
+ * @param t     die Maßzahlen der Zeitkoordinaten in s
+ * @param x     die Maßzahlen der Ortskoordinaten in m
+ * @param tUnit die Einheit der Zeitkoordinaten an den Schnittstellen
+ * @param xUnit die Einheit der Ortskoordinaten an den Schnittstellen
+ */
+public EventBatch(double[] t, double[] x, Unit<Time> tUnit, Unit<Length> xUnit)
+   {
+   // Sind die Felder unterschiedlich lang, so wird eine Ausnahme geworfen.
+   if (t.length != x.length)
+      {
+      throw new IllegalArgumentException("Die Felder 't' und 'x' müssen gleich lang sein!");
+      }
+
+   this.t = t;
+   this.x = x;
+   this.tUnit = tUnit;
+   this.xUnit = xUnit;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt aus einer Liste von {@link Event}-Objekten eine Folge von Ereignissen. Als Einheiten an den Schnittstellen
+ * werden die Einheiten des ersten Ereignisses verwendet.
+ *
+ * @param events die Liste der Ereignisse
+ * @return die Folge von Ereignissen
+ */
+public static EventBatch fromEvents(List<Event> events)
+   {
+   // Die Felder für die Maßzahlen werden angelegt.
+   int size = events.size();
+   double[] t = new double[size];
+   double[] x = new double[size];
+
+   // Die Koordinaten werden in die SI-Einheiten umgerechnet.
+   for (int i = 0; i < size; i++)
+      {
+      Event event = events.get(i);
+      t[i] = QuantityUtils.toSiDouble(event.t());
+      x[i] = QuantityUtils.toSiDouble(event.x());
+      }
+
+   // Ist die Liste leer, so werden die SI-Einheiten verwendet.
+   if (size == 0)
+      {
+      return new EventBatch(t, x);
+      }
+
+   return new EventBatch(t, x, events.get(0).t().getUnit(), events.get(0).x().getUnit());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Wandelt die Folge von Ereignissen in eine Liste von {@link Event}-Objekten um. Die Koordinaten werden dabei in den
+ * Einheiten der Folge angegeben.
+ *
+ * @return die Liste der Ereignisse
+ */
+public List<Event> toEvents()
+   {
+   // Die Umrechnungen aus den SI-Einheiten werden nur einmal für alle Ereignisse bestimmt.
+   UnitConverter tConverter = QuantityUtils.getSiConverter(this.tUnit).inverse();
+   UnitConverter xConverter = QuantityUtils.getSiConverter(this.xUnit).inverse();
+
+   // Die Ereignisse werden erzeugt.
+   List<Event> events = new ArrayList<>(this.t.length);
+   for (int i = 0; i < this.t.length; i++)
+      {
+      events.add(EventUtils.createEvent(tConverter.convert(this.t[i]), this.tUnit, xConverter.convert(this.x[i]),
+            this.xUnit));
+      }
+
+   return events;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Anzahl der Ereignisse zurück.
+ *
+ * @return die Anzahl der Ereignisse
+ */
+public int size()
+   {
+   return this.t.length;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt das Feld mit den Maßzahlen der Zeitkoordinaten (in s) zurück. Das Feld wird nicht kopiert.
+ *
+ * @return die Maßzahlen der Zeitkoordinaten in s
+ */
+public double[] getT()
+   {
+   return this.t;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt das Feld mit den Maßzahlen der Ortskoordinaten (in m) zurück. Das Feld wird nicht kopiert.
+ *
+ * @return die Maßzahlen der Ortskoordinaten in m
+ */
+public double[] getX()
+   {
+   return this.x;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Einheit der Zeitkoordinaten an den Schnittstellen zurück.
+ *
+ * @return die Einheit der Zeitkoordinaten
+ */
+public Unit<Time> getTUnit()
+   {
+   return this.tUnit;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Einheit der Ortskoordinaten an den Schnittstellen zurück.
+ *
+ * @return die Einheit der Ortskoordinaten
+ */
+public Unit<Length> getXUnit()
+   {
+   return this.xUnit;
+   }
+}
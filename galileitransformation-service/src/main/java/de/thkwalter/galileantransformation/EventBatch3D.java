@@ -0,0 +1,273 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Time;
+import java.util.ArrayList;
+import java.util.List;
+
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Diese Klasse repräsentiert eine Folge von Ereignissen in einer Raumzeit mit drei Raumdimensionen. Wie bei
+ * {@link EventBatch} werden die Koordinaten nicht als {@link Quantity}-Objekte, sondern als Maßzahlen in SI-Einheiten in
+ * vier Feldern (Spalten) gespeichert. Die Einheiten, in denen die Ereignisse an den Schnittstellen angegeben werden,
+ * gelten für alle Ereignisse gemeinsam; die drei Ortskoordinaten verwenden dieselbe Einheit.
+ *
+ * @author Th. K. Walter
+ */
+public class EventBatch3D
+{
+/**
+ * Die Maßzahlen der Zeitkoordinaten (in s)
+ */
+private final double[] t;
+
+/**
+ * Die Maßzahlen der x-Koordinaten (in m)
+ */
+private final double[] x;
+
+/**
+ * Die Maßzahlen der y-Koordinaten (in m)
+ */
+private final double[] y;
+
+/**
+ * Die Maßzahlen der z-Koordinaten (in m)
+ */
+private final double[] z;
+
+/**
+ * Die Einheit, in der die Zeitkoordinaten bei der Umwandlung in {@link Event3D}-Objekte angegeben werden
+ */
+private final Unit<Time> tUnit;
+
+/**
+ * Die Einheit, in der die Ortskoordinaten bei der Umwandlung in {@link Event3D}-Objekte angegeben werden
+ */
+private final Unit<Length> lengthUnit;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Folge von Ereignissen mit den Maßzahlen der Koordinaten in SI-Einheiten. Die Felder werden nicht
+ * kopiert.
+ *
+ * @param t die Maßzahlen der Zeitkoordinaten in s
+ * @param x die Maßzahlen der x-Koordinaten in m
+ * @param y die Maßzahlen der y-Koordinaten in m
+ * @param z die Maßzahlen der z-Koordinaten in m
+ */
+public EventBatch3D(double[] t, double[] x, double[] y, double[] z)
+   {
+   this(t, x, y, z, SECOND, METRE);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Folge von Ereignissen mit den Maßzahlen der Koordinaten in SI-Einheiten und den Einheiten, in
+ * denen die Ereignisse bei der Umwandlung in {@link Event3D}-Objekte angegeben werden. Die Felder werden nicht
+ * kopiert.
+ *
+ * @param t          die Maßzahlen der Zeitkoordinaten in s
+ * @param x          die Maßzahlen der x-Koordinaten in m
+ * @param y          die Maßzahlen der y-Koordinaten in m
+ * @param z          die Maßzahlen der z-Koordinaten in m
+ * @param tUnit      die Einheit der Zeitkoordinaten an den Schnittstellen
+ * @param lengthUnit die Einheit der Ortskoordinaten an den Schnittstellen
+ */
+public EventBatch3D(double[] t, double[] x, double[] y, double[] z, Unit<Time> tUnit, Unit<Length> lengthUnit)
+   {
+   // Sind die Felder unterschiedlich lang, so wird eine Ausnahme geworfen.
+   if (t.length != x.length || t.length != y.length || t.length != z.length)
+      {
+      throw new IllegalArgumentException("Die Felder 't', 'x', 'y' und 'z' müssen gleich lang sein!");
+      }
+
+   this.t = t;
+   this.x = x;
+   this.y = y;
+   this.z = z;
+   this.tUnit = tUnit;
+   this.lengthUnit = lengthUnit;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt aus einer Liste von {@link Event3D}-Objekten eine Folge von Ereignissen. Als Einheiten an den Schnittstellen
+ * werden die Einheiten der Zeit- und der x-Koordinate des ersten Ereignisses verwendet.
+ *
+ * @param events die Liste der Ereignisse
+ * @return die Folge von Ereignissen
+ */
+public static EventBatch3D fromEvents(List<Event3D> events)
+   {
+   // Die Felder für die Maßzahlen werden angelegt.
+   int size = events.size();
+   double[] t = new double[size];
+   double[] x = new double[size];
+   double[] y = new double[size];
+   double[] z = new double[size];
+
+   // Die Koordinaten werden in die SI-Einheiten umgerechnet.
+   for (int i = 0; i < size; i++)
+      {
+      Event3D event = events.get(i);
+      t[i] = QuantityUtils.toSiDouble(event.t());
+      x[i] = QuantityUtils.toSiDouble(event.x());
+      y[i] = QuantityUtils.toSiDouble(event.y());
+      z[i] = QuantityUtils.toSiDouble(event.z());
+      }
+
+   // Ist die Liste leer, so werden die SI-Einheiten verwendet.
+   if (size == 0)
+      {
+      return new EventBatch3D(t, x, y, z);
+      }
+
+   return new EventBatch3D(t, x, y, z, events.get(0).t().getUnit(), events.get(0).x().getUnit());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Wandelt die Folge von Ereignissen in eine Liste von {@link Event3D}-Objekten um. Die Koordinaten werden dabei in
+ * den Einheiten der Folge angegeben.
+ *
+ * @return die Liste der Ereignisse
+ */
+public List<Event3D> toEvents()
+   {
+   // Die Umrechnungen aus den SI-Einheiten werden nur einmal für alle Ereignisse bestimmt.
+   UnitConverter tConverter = QuantityUtils.getSiConverter(this.tUnit).inverse();
+   UnitConverter lengthConverter = QuantityUtils.getSiConverter(this.lengthUnit).inverse();
+
+   // Die Ereignisse werden erzeugt.
+   List<Event3D> events = new ArrayList<>(this.t.length);
+   for (int i = 0; i < this.t.length; i++)
+      {
+      events.add(new Event3D(QuantityUtils.createTimeQuantity(tConverter.convert(this.t[i]), this.tUnit),
+            QuantityUtils.createLengthQuantity(lengthConverter.convert(this.x[i]), this.lengthUnit),
+            QuantityUtils.createLengthQuantity(lengthConverter.convert(this.y[i]), this.lengthUnit),
+            QuantityUtils.createLengthQuantity(lengthConverter.convert(this.z[i]), this.lengthUnit)));
+      }
+
+   return events;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Anzahl der Ereignisse zurück.
+ *
+ * @return die Anzahl der Ereignisse
+ */
+public int size()
+   {
+   return this.t.length;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt das Feld mit den Maßzahlen der Zeitkoordinaten (in s) zurück. Das Feld wird nicht kopiert.
+ *
+ * @return die Maßzahlen der Zeitkoordinaten in s
+ */
+public double[] getT()
+   {
+   return this.t;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt das Feld mit den Maßzahlen der x-Koordinaten (in m) zurück. Das Feld wird nicht kopiert.
+ *
+ * @return die Maßzahlen der x-Koordinaten in m
+ */
+public double[] getX()
+   {
+   return this.x;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt das Feld mit den Maßzahlen der y-Koordinaten (in m) zurück. Das Feld wird nicht kopiert.
+ *
+ * @return die Maßzahlen der y-Koordinaten in m
+ */
+public double[] getY()
+   {
+   return this.y;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt das Feld mit den Maßzahlen der z-Koordinaten (in m) zurück. Das Feld wird nicht kopiert.
+ *
+ * @return die Maßzahlen der z-Koordinaten in m
+ */
+public double[] getZ()
+   {
+   return this.z;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Einheit der Zeitkoordinaten an den Schnittstellen zurück.
+ *
+ * @return die Einheit der Zeitkoordinaten
+ */
+public Unit<Time> getTUnit()
+   {
+   return this.tUnit;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Einheit der Ortskoordinaten an den Schnittstellen zurück.
+ *
+ * @return die Einheit der Ortskoordinaten
+ */
+public Unit<Length> getLengthUnit()
+   {
+   return this.lengthUnit;
+   }
+}
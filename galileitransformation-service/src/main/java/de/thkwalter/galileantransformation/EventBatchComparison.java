@@ -0,0 +1,68 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import java.util.BitSet;
+
+/**
+ * Diese Klasse enthält das Ergebnis des Vergleichs zweier Folgen von Ereignissen mit
+ * {@link EventUtils#compareEvents(EventBatch, EventBatch, double, double, double, double)}.
+ *
+ * @author Th. K. Walter
+ *
+ * @param t das Ergebnis des Vergleichs der Zeitkoordinaten
+ * @param x das Ergebnis des Vergleichs der Ortskoordinaten
+ */
+public record EventBatchComparison(ComparisonResult t, ComparisonResult x)
+{
+/**
+ * Gibt die Indizes der Ereignisse zurück, bei denen die Zeit- oder die Ortskoordinate nicht übereinstimmt.
+ *
+ * @return die Indizes der abweichenden Ereignisse
+ */
+public BitSet mismatches()
+   {
+   BitSet mismatches = (BitSet) this.t.mismatches().clone();
+   mismatches.or(this.x.mismatches());
+   return mismatches;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Anzahl der Ereignisse zurück, bei denen die Zeit- oder die Ortskoordinate nicht übereinstimmt.
+ *
+ * @return die Anzahl der abweichenden Ereignisse
+ */
+public int mismatchCount()
+   {
+   return this.mismatches().cardinality();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt <tt>true</tt> zurück, falls alle Ereignisse übereinstimmen.
+ *
+ * @return <tt>true</tt>, falls keine Abweichung gefunden wurde; <tt>false</tt> sonst
+ */
+public boolean allMatch()
+   {
+   return this.t.allMatch() && this.x.allMatch();
+   }
+}
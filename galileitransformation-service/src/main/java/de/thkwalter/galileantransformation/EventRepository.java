@@ -0,0 +1,382 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import java.util.Arrays;
+
+/**
+ * Diese Klasse speichert Ereignisse nach ihrer Zeitkoordinate sortiert. Die Maßzahlen der Koordinaten werden in
+ * SI-Einheiten in zwei Feldern abgelegt; das Feld der Zeitkoordinaten dient dabei als Index. Da eine
+ * Standard-Galileitransformation die Zeitkoordinate nicht ändert (<tt>t' = t</tt>), gilt der Index in jedem
+ * Bezugssystem. Die Ereignisse eines Zeitintervalls werden daher mit einer binären Suche bestimmt und nur diese
+ * Ereignisse werden transformiert, d.h. eine Abfrage benötigt <tt>O(log n + k)</tt> statt <tt>O(n)</tt> Schritte.
+ *
+ * Abfragen lesen einen unveränderlichen Stand der Felder und können daher parallel zum Einfügen ausgeführt werden.
+ * Ereignisse, die zeitlich nach allen bisherigen Ereignissen liegen, werden in die freie Kapazität der Felder
+ * angehängt; andernfalls werden die Felder neu zusammengeführt. Die Anzahl der Ereignisse ist begrenzt, so dass ein
+ * Client den Heap des Servers nicht erschöpfen kann.
+ *
+ * @author Th. K. Walter
+ */
+public class EventRepository
+{
+/**
+ * Die voreingestellte maximale Anzahl der Ereignisse (je 256 MiB für die Zeit- und die Ortskoordinaten)
+ */
+public static final int DEFAULT_MAX_EVENTS = 1 << 25;
+
+/**
+ * Die Anfangskapazität der Felder
+ */
+private static final int INITIAL_CAPACITY = 1024;
+
+/**
+ * Die maximale Anzahl der Ereignisse
+ */
+private final int maxEvents;
+
+/**
+ * Der aktuelle Stand der Felder
+ */
+private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Ein Stand der Felder. Die Einträge mit einem Index kleiner als <tt>size</tt> werden nicht mehr geändert.
+ *
+ * @param t    die nach der Größe sortierten Maßzahlen der Zeitkoordinaten in s
+ * @param x    die Maßzahlen der Ortskoordinaten in m
+ * @param size die Anzahl der Ereignisse
+ */
+private record Snapshot(double[] t, double[] x, int size)
+   {
+   /**
+    * Der Stand ohne Ereignisse
+    */
+   private static final Snapshot EMPTY = new Snapshot(new double[0], new double[0], 0);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert ein leeres Repository mit der voreingestellten maximalen Anzahl der Ereignisse.
+ */
+public EventRepository()
+   {
+   this(EventRepository.DEFAULT_MAX_EVENTS);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert ein leeres Repository.
+ *
+ * @param maxEvents die maximale Anzahl der Ereignisse
+ */
+public EventRepository(int maxEvents)
+   {
+   // Ist die maximale Anzahl nicht größer als null, so wird eine Ausnahme geworfen.
+   if (maxEvents <= 0)
+      {
+      throw new IllegalArgumentException("Das Argument 'maxEvents' muss größer als Null sein!");
+      }
+
+   this.maxEvents = maxEvents;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Fügt die Ereignisse einer Folge ein. Die Folge muss nicht sortiert sein; Ereignisse mit gleicher Zeitkoordinate
+ * behalten die Reihenfolge, in der sie eingefügt worden sind.
+ *
+ * @param events die Folge von Ereignissen
+ * @throws IllegalStateException falls das Repository danach mehr als die maximale Anzahl der Ereignisse enthielte
+ */
+public synchronized void addAll(EventBatch events)
+   {
+   // Enthält die Folge eine Zeitkoordinate NaN, so wird eine Ausnahme geworfen.
+   double[] t = events.getT();
+   double[] x = events.getX();
+   int anzahl = events.size();
+   if (Arrays.stream(t).anyMatch(Double::isNaN))
+      {
+      throw new IllegalArgumentException("Die Zeitkoordinaten dürfen nicht NaN sein!");
+      }
+
+   // Würde die maximale Anzahl der Ereignisse überschritten, so wird eine Ausnahme geworfen.
+   if (anzahl > this.maxEvents - this.snapshot.size())
+      {
+      throw new IllegalStateException("Das Repository kann höchstens " + this.maxEvents + " Ereignisse aufnehmen!");
+      }
+
+   // Ist die Folge nicht sortiert, so werden sortierte Kopien der Felder erzeugt.
+   if (!EventRepository.isSorted(t, anzahl))
+      {
+      int[] reihenfolge = EventRepository.sortiere(t, anzahl);
+      double[] tSortiert = new double[anzahl];
+      double[] xSortiert = new double[anzahl];
+      for (int i = 0; i < anzahl; i++)
+         {
+         tSortiert[i] = t[reihenfolge[i]];
+         xSortiert[i] = x[reihenfolge[i]];
+         }
+      this.merge(tSortiert, xSortiert, anzahl);
+      }
+   else
+      {
+      this.merge(t, x, anzahl);
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Entfernt alle Ereignisse.
+ */
+public synchronized void clear()
+   {
+   this.snapshot = Snapshot.EMPTY;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Anzahl der Ereignisse zurück.
+ *
+ * @return die Anzahl der Ereignisse
+ */
+public int size()
+   {
+   return this.snapshot.size();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Ereignisse zurück, deren Zeitkoordinate im Intervall <tt>[t0, t1]</tt> liegt. Die Grenzen des Intervalls
+ * werden mit einer binären Suche bestimmt und nur die Ereignisse des Intervalls werden kopiert.
+ *
+ * @param t0 die untere Grenze des Intervalls in s
+ * @param t1 die obere Grenze des Intervalls in s
+ * @return die Ereignisse des Intervalls, sortiert nach der Zeitkoordinate
+ */
+public EventBatch range(double t0, double t1)
+   {
+   Snapshot stand = this.snapshot;
+   int von = EventRepository.firstIndexAfter(stand, t0, false);
+   int bis = Math.max(von, EventRepository.firstIndexAfter(stand, t1, true));
+   return new EventBatch(Arrays.copyOfRange(stand.t(), von, bis), Arrays.copyOfRange(stand.x(), von, bis));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Ereignisse zurück, deren Zeitkoordinate im Intervall <tt>[t0, t1]</tt> liegt, transformiert mit einer
+ * Standard-Galileitransformation. Da die Zeitkoordinate dabei unverändert bleibt, ist das Intervall in beiden
+ * Bezugssystemen dasselbe.
+ *
+ * @param t0    die untere Grenze des Intervalls in s
+ * @param t1    die obere Grenze des Intervalls in s
+ * @param boost die Galileitransformation
+ * @return die transformierten Ereignisse des Intervalls, sortiert nach der Zeitkoordinate
+ */
+public EventBatch transformRange(double t0, double t1, GalileanBoost boost)
+   {
+   return boost.transform(this.range(t0, t1));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Fügt eine sortierte Folge von Ereignissen ein. Liegt die Folge zeitlich nach allen bisherigen Ereignissen, so wird
+ * sie angehängt, andernfalls werden beide Folgen in neue Felder zusammengeführt.
+ *
+ * @param t      die sortierten Maßzahlen der Zeitkoordinaten in s
+ * @param x      die Maßzahlen der Ortskoordinaten in m
+ * @param anzahl die Anzahl der Ereignisse
+ */
+private void merge(double[] t, double[] x, int anzahl)
+   {
+   Snapshot stand = this.snapshot;
+   int size = stand.size();
+   if (anzahl == 0)
+      {
+      return;
+      }
+
+   // Die Folge wird angehängt. Abfragen auf dem bisherigen Stand lesen die neuen Einträge nicht.
+   if (size == 0 || t[0] >= stand.t()[size - 1])
+      {
+      double[] tNeu = stand.t();
+      double[] xNeu = stand.x();
+      if (size + anzahl > tNeu.length)
+         {
+         int kapazitaet = this.kapazitaet(size + anzahl);
+         tNeu = Arrays.copyOf(tNeu, kapazitaet);
+         xNeu = Arrays.copyOf(xNeu, kapazitaet);
+         }
+      System.arraycopy(t, 0, tNeu, size, anzahl);
+      System.arraycopy(x, 0, xNeu, size, anzahl);
+      this.snapshot = new Snapshot(tNeu, xNeu, size + anzahl);
+      return;
+      }
+
+   // Beide Folgen werden in neue Felder zusammengeführt. Bei gleicher Zeitkoordinate stehen die bisherigen
+   // Ereignisse vorn.
+   int kapazitaet = this.kapazitaet(size + anzahl);
+   double[] tNeu = new double[kapazitaet];
+   double[] xNeu = new double[kapazitaet];
+   int i = 0;
+   int j = 0;
+   for (int k = 0; k < size + anzahl; k++)
+      {
+      if (j == anzahl || (i < size && stand.t()[i] <= t[j]))
+         {
+         tNeu[k] = stand.t()[i];
+         xNeu[k] = stand.x()[i++];
+         }
+      else
+         {
+         tNeu[k] = t[j];
+         xNeu[k] = x[j++];
+         }
+      }
+   this.snapshot = new Snapshot(tNeu, xNeu, size + anzahl);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Bestimmt die Kapazität neuer Felder. Die Felder werden verdoppelt, aber nicht über die maximale Anzahl der
+ * Ereignisse hinaus vergrößert.
+ *
+ * @param benoetigt die benötigte Anzahl der Ereignisse
+ * @return die Kapazität der neuen Felder
+ */
+private int kapazitaet(int benoetigt)
+   {
+   return Math.max(EventRepository.INITIAL_CAPACITY, (int) Math.min(this.maxEvents, 2L * benoetigt));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Bestimmt mit einer binären Suche den ersten Index, dessen Zeitkoordinate größer als (bzw. größer oder gleich) dem
+ * übergebenen Wert ist.
+ *
+ * @param stand     der Stand der Felder
+ * @param t         der gesuchte Wert in s
+ * @param inklusive <tt>true</tt>, falls Ereignisse mit der Zeitkoordinate <tt>t</tt> übersprungen werden
+ * @return der erste Index hinter dem gesuchten Wert (oder die Anzahl der Ereignisse)
+ */
+private static int firstIndexAfter(Snapshot stand, double t, boolean inklusive)
+   {
+   double[] werte = stand.t();
+   int von = 0;
+   int bis = stand.size();
+   while (von < bis)
+      {
+      int mitte = (von + bis) >>> 1;
+      if (werte[mitte] < t || (inklusive && werte[mitte] == t))
+         {
+         von = mitte + 1;
+         }
+      else
+         {
+         bis = mitte;
+         }
+      }
+   return von;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Prüft, ob die Zeitkoordinaten aufsteigend sortiert sind.
+ *
+ * @param t      die Maßzahlen der Zeitkoordinaten
+ * @param anzahl die Anzahl der Ereignisse
+ * @return <tt>true</tt>, falls die Zeitkoordinaten sortiert sind
+ */
+private static boolean isSorted(double[] t, int anzahl)
+   {
+   for (int i = 1; i < anzahl; i++)
+      {
+      if (t[i] < t[i - 1])
+         {
+         return false;
+         }
+      }
+   return true;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Bestimmt die Reihenfolge, in der die Ereignisse nach der Zeitkoordinate sortiert sind. Die Indizes werden als
+ * primitive Werte mit einem stabilen Mergesort sortiert, so dass Ereignisse mit gleicher Zeitkoordinate ihre
+ * Reihenfolge behalten.
+ *
+ * @param t      die Maßzahlen der Zeitkoordinaten
+ * @param anzahl die Anzahl der Ereignisse
+ * @return die Indizes der Ereignisse in sortierter Reihenfolge
+ */
+private static int[] sortiere(double[] t, int anzahl)
+   {
+   int[] reihenfolge = new int[anzahl];
+   int[] puffer = new int[anzahl];
+   for (int i = 0; i < anzahl; i++)
+      {
+      reihenfolge[i] = i;
+      }
+
+   // Die sortierten Abschnitte werden verdoppelt, bis sie alle Ereignisse umfassen.
+   for (long breite = 1; breite < anzahl; breite *= 2)
+      {
+      int von = 0;
+      while (von < anzahl - breite)
+         {
+         int mitte = (int) (von + breite);
+         int bis = (int) Math.min(mitte + breite, anzahl);
+         int i = von;
+         int j = mitte;
+         for (int k = von; k < bis; k++)
+            {
+            puffer[k] = j == bis || (i < mitte && t[reihenfolge[i]] <= t[reihenfolge[j]]) ? reihenfolge[i++] :
+                  reihenfolge[j++];
+            }
+         System.arraycopy(puffer, von, reihenfolge, von, bis - von);
+         von = bis;
+         }
+      }
+   return reihenfolge;
+   }
+}
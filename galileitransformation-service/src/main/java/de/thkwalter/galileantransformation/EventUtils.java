@@ -73,4 +73,34 @@ public static boolean compareEvents(Event expectedEvent, Event actualEvent, doub
          absoluteToleranceX) && QuantityUtils.compareQuantities(expectedEvent.t(), actualEvent.t(), relativeToleranceT,
          absoluterToleranceT);
    }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode vergleicht zwei Folgen von Ereignissen paarweise nach denselben Regeln wie
+ * {@link #compareEvents(Event, Event, double, double, double, double)}. Die Spalten der Folgen werden mit
+ * {@link QuantityUtils#compareMeasures(double[], double[], double, double)} verglichen, d.h. die Toleranzbereiche
+ * werden nur einmal geprüft und es werden keine {@link Quantity}-Objekte erzeugt.
+ *
+ * @param expectedEvents      die erwarteten Ereignisse
+ * @param actualEvents        die vorhandenen Ereignisse
+ * @param relativeToleranceX  die zulässige, relative Abweichung bei der Ortskoordinate
+ * @param absoluteToleranceX  die zulässige absolute Abweichung (falls einer der Werte gleich null ist) bei der
+ *                            Ortskoordinate
+ * @param relativeToleranceT  die zulässige, relative Abweichung bei der Zeitkoordinate
+ * @param absoluterToleranceT die zulässige absolute Abweichung (falls einer der Werte gleich null ist) bei der
+ *                            Zeitkoordinate
+ * @return das Ergebnis des Vergleichs
+ */
+public static EventBatchComparison compareEvents(EventBatch expectedEvents, EventBatch actualEvents,
+      double relativeToleranceX, double absoluteToleranceX, double relativeToleranceT, double absoluterToleranceT)
+   {
+   // Die Zeit- und die Ortskoordinaten werden verglichen.
+   return new EventBatchComparison(
+         QuantityUtils.compareMeasures(expectedEvents.getT(), actualEvents.getT(), relativeToleranceT,
+               absoluterToleranceT),
+         QuantityUtils.compareMeasures(expectedEvents.getX(), actualEvents.getX(), relativeToleranceX,
+               absoluteToleranceX));
+   }
 }
@@ -19,6 +19,11 @@ import javax.measure.Quantity;
 import javax.measure.quantity.Length;
 import javax.measure.quantity.Speed;
 import javax.measure.quantity.Time;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static tech.units.indriya.unit.Units.METRE;
 
 /**
  * Diese Klasse repräsentiert eine spezielle Galileitransformation für zwei Koordinatensysteme in der
@@ -28,11 +33,27 @@ import javax.measure.quantity.Time;
  */
 public class GalileanBoost
 {
+/**
+ * Die Anzahl der Ereignisse, ab der die Methoden <tt>transformAll</tt> standardmäßig parallel arbeiten
+ */
+public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 14;
+
+/**
+ * Der Rechenkern, mit dem Felder von Koordinaten transformiert werden
+ */
+private static final BoostKernel KERNEL = new ScalarBoostKernel();
+
 /**
  * Die Geschwindigkeit (in m/s)
  */
 private final Quantity<Speed> v;
 
+/**
+ * Die Maßzahl der Geschwindigkeit in der SI-Einheit m/s. Sie wird einmalig im Konstruktor bestimmt, damit die
+ * Transformation selbst nur noch mit primitiven Zahlen rechnet.
+ */
+private final double vMeasure;
+
 // =====================================================================================================================
 // =====================================================================================================================
 
@@ -44,6 +65,20 @@ private final Quantity<Speed> v;
 public GalileanBoost(Quantity<Speed> v)
    {
    this.v = v;
+   this.vMeasure = QuantityUtils.toSiDouble(v);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Maßzahl der Geschwindigkeit in der SI-Einheit m/s zurück.
+ *
+ * @return die Maßzahl der Geschwindigkeit in m/s
+ */
+public double getVMeasure()
+   {
+   return this.vMeasure;
    }
 
 // =====================================================================================================================
@@ -63,10 +98,173 @@ public Event transform(Event originalEvent)
    Quantity<Time> t = originalEvent.t();
 
    // Bei einer Standard-Galileitransformation muss nur die x-Koordinate des transformierten Ereignisses berechnet
-   // werden.
-   Quantity<Length> xTransformed = x.subtract(v.multiply(t).asType(Length.class));
+   // werden. Die Rechnung erfolgt mit den Maßzahlen in SI-Einheiten, damit keine Zwischenergebnisse als
+   // Quantity-Objekte erzeugt werden müssen.
+   double xMeasure = this.transformX(QuantityUtils.toSiDouble(t), QuantityUtils.toSiDouble(x));
+   Quantity<Length> xTransformed = QuantityUtils.createLengthQuantity(xMeasure, METRE);
 
    // Das transformierte Ereignis wird erstellt und zurückgegeben.
    return new Event(t, xTransformed);
    }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ortskoordinate eines Ereignisses, dessen Koordinaten als Maßzahlen in SI-Einheiten vorliegen. Die
+ * Zeitkoordinate bleibt bei einer Standard-Galileitransformation unverändert.
+ *
+ * @param tSeconds die Maßzahl der Zeitkoordinate in s
+ * @param xMeters  die Maßzahl der Ortskoordinate in m
+ *
+ * @return die Maßzahl der transformierten Ortskoordinate in m
+ */
+public double transformX(double tSeconds, double xMeters)
+   {
+   return xMeters - this.vMeasure * tSeconds;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert Ereignisse, deren Koordinaten als Maßzahlen in SI-Einheiten in zwei Feldern vorliegen. Die
+ * Ortskoordinaten werden dabei im Feld <tt>xMeters</tt> überschrieben.
+ *
+ * @param tSeconds die Maßzahlen der Zeitkoordinaten in s
+ * @param xMeters  die Maßzahlen der Ortskoordinaten in m, die durch die transformierten Ortskoordinaten ersetzt
+ *                 werden
+ */
+public void transform(double[] tSeconds, double[] xMeters)
+   {
+   // Sind die Felder unterschiedlich lang, so wird eine Ausnahme geworfen.
+   if (tSeconds.length != xMeters.length)
+      {
+      throw new IllegalArgumentException("Die Felder 'tSeconds' und 'xMeters' müssen gleich lang sein!");
+      }
+
+   // Die Ortskoordinaten werden transformiert.
+   this.transform(tSeconds, xMeters, 0, xMeters.length);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse im Indexbereich <tt>[from, to)</tt>, deren Koordinaten als Maßzahlen in SI-Einheiten
+ * in zwei Feldern vorliegen. Die Ortskoordinaten werden dabei im Feld <tt>xMeters</tt> überschrieben.
+ *
+ * @param tSeconds die Maßzahlen der Zeitkoordinaten in s
+ * @param xMeters  die Maßzahlen der Ortskoordinaten in m, die durch die transformierten Ortskoordinaten ersetzt
+ *                 werden
+ * @param from     der erste zu transformierende Index
+ * @param to       der Index hinter dem letzten zu transformierenden Index
+ */
+public void transform(double[] tSeconds, double[] xMeters, int from, int to)
+   {
+   // Die Ortskoordinaten werden mit dem Rechenkern transformiert.
+   GalileanBoost.KERNEL.transform(this.vMeasure, tSeconds, xMeters, from, to);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Folge von Ereignissen. Die Ortskoordinaten der Folge werden dabei überschrieben.
+ *
+ * @param events die Folge von Ereignissen
+ *
+ * @return die übergebene Folge von Ereignissen mit den transformierten Ortskoordinaten
+ */
+public EventBatch transform(EventBatch events)
+   {
+   this.transform(events.getT(), events.getX());
+   return events;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Liste von Ereignissen. Ab {@link #DEFAULT_PARALLEL_THRESHOLD} Ereignissen wird die Liste
+ * aufgeteilt und im {@link ForkJoinPool#commonPool()} parallel transformiert. Server sollten stattdessen einen
+ * eigenen Pool übergeben (siehe {@link TransformationPool}).
+ *
+ * @param originalEvents die originalen Ereignisse
+ *
+ * @return die transformierten Ereignisse in der Reihenfolge der originalen Ereignisse
+ */
+public List<Event> transformAll(List<Event> originalEvents)
+   {
+   return this.transformAll(originalEvents, ForkJoinPool.commonPool(), GalileanBoost.DEFAULT_PARALLEL_THRESHOLD);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Liste von Ereignissen. Die Liste wird so lange halbiert, bis die Teillisten nicht mehr als
+ * <tt>threshold</tt> Ereignisse enthalten. Die Teillisten werden im übergebenen {@link ForkJoinPool} parallel
+ * transformiert, dessen Parallelität damit die Anzahl der verwendeten Threads bestimmt.
+ *
+ * @param originalEvents die originalen Ereignisse
+ * @param pool           der {@link ForkJoinPool}, in dem die Teillisten transformiert werden
+ * @param threshold      die maximale Anzahl der Ereignisse einer Teilliste
+ *
+ * @return die transformierten Ereignisse in der Reihenfolge der originalen Ereignisse
+ */
+public List<Event> transformAll(List<Event> originalEvents, ForkJoinPool pool, int threshold)
+   {
+   // Die Ereignisse werden in ein Feld kopiert, damit jeder Thread über den Index auf seine Ereignisse zugreifen kann.
+   Event[] events = originalEvents.toArray(new Event[0]);
+
+   // Die Ereignisse werden transformiert und an ihrem ursprünglichen Index abgelegt.
+   RangeTask.invoke(pool, events.length, threshold, (from, to) ->
+      {
+      for (int i = from; i < to; i++)
+         {
+         events[i] = this.transform(events[i]);
+         }
+      });
+
+   return Arrays.asList(events);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Folge von Ereignissen. Ab {@link #DEFAULT_PARALLEL_THRESHOLD} Ereignissen wird die Folge
+ * aufgeteilt und im {@link ForkJoinPool#commonPool()} parallel transformiert. Die Ortskoordinaten der Folge werden
+ * dabei überschrieben. Server sollten stattdessen einen eigenen Pool übergeben (siehe {@link TransformationPool}).
+ *
+ * @param events die Folge von Ereignissen
+ *
+ * @return die übergebene Folge von Ereignissen mit den transformierten Ortskoordinaten
+ */
+public EventBatch transformAll(EventBatch events)
+   {
+   return this.transformAll(events, ForkJoinPool.commonPool(), GalileanBoost.DEFAULT_PARALLEL_THRESHOLD);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Folge von Ereignissen. Die Folge wird so lange halbiert, bis die Teilbereiche nicht mehr als
+ * <tt>threshold</tt> Ereignisse enthalten. Die Teilbereiche werden im übergebenen {@link ForkJoinPool} parallel
+ * transformiert. Die Ortskoordinaten der Folge werden dabei überschrieben.
+ *
+ * @param events    die Folge von Ereignissen
+ * @param pool      der {@link ForkJoinPool}, in dem die Teilbereiche transformiert werden
+ * @param threshold die maximale Anzahl der Ereignisse eines Teilbereichs
+ *
+ * @return die übergebene Folge von Ereignissen mit den transformierten Ortskoordinaten
+ */
+public EventBatch transformAll(EventBatch events, ForkJoinPool pool, int threshold)
+   {
+   RangeTask.invoke(pool, events.size(), threshold,
+         (from, to) -> this.transform(events.getT(), events.getX(), from, to));
+   return events;
+   }
 }
@@ -0,0 +1,180 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static tech.units.indriya.unit.Units.METRE;
+
+/**
+ * Diese Klasse repräsentiert eine Galileitransformation mit einer Geschwindigkeit beliebiger Richtung im
+ * dreidimensionalen Raum, d.h. <tt><b>r</b>' = <b>r</b> - <b>v</b>t</tt> und <tt>t' = t</tt>. Für Folgen von
+ * Ereignissen wird mit den Maßzahlen in SI-Einheiten gerechnet, so dass pro Ereignis keine Objekte erzeugt werden.
+ *
+ * @author Th. K. Walter
+ */
+public class GalileanBoost3D
+{
+/**
+ * Die Geschwindigkeit
+ */
+private final Velocity v;
+
+/**
+ * Die x-Komponente der Geschwindigkeit in m/s
+ */
+private final double vx;
+
+/**
+ * Die y-Komponente der Geschwindigkeit in m/s
+ */
+private final double vy;
+
+/**
+ * Die z-Komponente der Geschwindigkeit in m/s
+ */
+private final double vz;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Galileitransformation durch Angabe der Geschwindigkeit.
+ *
+ * @param v die Geschwindigkeit
+ */
+public GalileanBoost3D(Velocity v)
+   {
+   this.v = v;
+   this.vx = v.vx();
+   this.vy = v.vy();
+   this.vz = v.vz();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Geschwindigkeit zurück.
+ *
+ * @return die Geschwindigkeit
+ */
+public Velocity getV()
+   {
+   return this.v;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert ein Ereignis. Die Ortskoordinaten des transformierten Ereignisses werden in m angegeben, die
+ * Zeitkoordinate bleibt unverändert.
+ *
+ * @param originalEvent das originale Ereignis
+ * @return das transformierte Ereignis
+ */
+public Event3D transform(Event3D originalEvent)
+   {
+   double t = QuantityUtils.toSiDouble(originalEvent.t());
+   return new Event3D(originalEvent.t(),
+         QuantityUtils.createLengthQuantity(QuantityUtils.toSiDouble(originalEvent.x()) - this.vx * t, METRE),
+         QuantityUtils.createLengthQuantity(QuantityUtils.toSiDouble(originalEvent.y()) - this.vy * t, METRE),
+         QuantityUtils.createLengthQuantity(QuantityUtils.toSiDouble(originalEvent.z()) - this.vz * t, METRE));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse im Indexbereich <tt>[from, to)</tt>, deren Koordinaten als Maßzahlen in SI-Einheiten
+ * in vier Feldern vorliegen. Die Ortskoordinaten werden dabei in den Feldern <tt>x</tt>, <tt>y</tt> und <tt>z</tt>
+ * überschrieben. Die Schleife enthält nur Multiplikationen und Subtraktionen auf primitiven Feldern, so dass sie vom
+ * JIT-Compiler vektorisiert werden kann.
+ *
+ * @param t    die Maßzahlen der Zeitkoordinaten in s
+ * @param x    die Maßzahlen der x-Koordinaten in m
+ * @param y    die Maßzahlen der y-Koordinaten in m
+ * @param z    die Maßzahlen der z-Koordinaten in m
+ * @param from der erste zu transformierende Index
+ * @param to   der Index hinter dem letzten zu transformierenden Index
+ */
+public void transform(double[] t, double[] x, double[] y, double[] z, int from, int to)
+   {
+   double vx = this.vx;
+   double vy = this.vy;
+   double vz = this.vz;
+   for (int i = from; i < to; i++)
+      {
+      double ti = t[i];
+      x[i] -= vx * ti;
+      y[i] -= vy * ti;
+      z[i] -= vz * ti;
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Folge von Ereignissen. Die Ortskoordinaten der Folge werden dabei überschrieben.
+ *
+ * @param events die Folge von Ereignissen
+ * @return die übergebene Folge von Ereignissen mit den transformierten Ortskoordinaten
+ */
+public EventBatch3D transform(EventBatch3D events)
+   {
+   this.transform(events.getT(), events.getX(), events.getY(), events.getZ(), 0, events.size());
+   return events;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Folge von Ereignissen. Ab {@link GalileanBoost#DEFAULT_PARALLEL_THRESHOLD} Ereignissen wird die
+ * Folge aufgeteilt und im {@link ForkJoinPool#commonPool()} parallel transformiert. Die Ortskoordinaten der Folge
+ * werden dabei überschrieben. Server sollten stattdessen einen eigenen Pool übergeben (siehe
+ * {@link TransformationPool}).
+ *
+ * @param events die Folge von Ereignissen
+ * @return die übergebene Folge von Ereignissen mit den transformierten Ortskoordinaten
+ */
+public EventBatch3D transformAll(EventBatch3D events)
+   {
+   return this.transformAll(events, ForkJoinPool.commonPool(), GalileanBoost.DEFAULT_PARALLEL_THRESHOLD);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Folge von Ereignissen. Die Folge wird so lange halbiert, bis die Teilbereiche nicht mehr als
+ * <tt>threshold</tt> Ereignisse enthalten. Die Teilbereiche werden im übergebenen {@link ForkJoinPool} parallel
+ * transformiert. Die Ortskoordinaten der Folge werden dabei überschrieben.
+ *
+ * @param events    die Folge von Ereignissen
+ * @param pool      der {@link ForkJoinPool}, in dem die Teilbereiche transformiert werden
+ * @param threshold die maximale Anzahl der Ereignisse eines Teilbereichs
+ * @return die übergebene Folge von Ereignissen mit den transformierten Ortskoordinaten
+ */
+public EventBatch3D transformAll(EventBatch3D events, ForkJoinPool pool, int threshold)
+   {
+   RangeTask.invoke(pool, events.size(), threshold,
+         (from, to) -> this.transform(events.getT(), events.getX(), events.getY(), events.getZ(), from, to));
+   return events;
+   }
+}
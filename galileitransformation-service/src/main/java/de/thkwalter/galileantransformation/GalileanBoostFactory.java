@@ -0,0 +1,89 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import de.thkwalter.cache.LruCache;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Speed;
+
+import static tech.units.indriya.unit.Units.METRE_PER_SECOND;
+
+/**
+ * Diese Klasse erzeugt {@link GalileanBoost}-Objekte. Da die Clients in der Praxis nur wenige verschiedene
+ * Geschwindigkeiten verwenden, werden die erzeugten Galileitransformationen in einem {@link LruCache} mit der Maßzahl
+ * der Geschwindigkeit in m/s als Schlüssel zwischengespeichert. Dieselbe Geschwindigkeit in verschiedenen Einheiten
+ * (z.B. <tt>1000 m/s</tt> und <tt>1 km/s</tt>) ergibt daher dieselbe Galileitransformation. Da
+ * {@link GalileanBoost}-Objekte unveränderlich sind, können sie von beliebig vielen Threads gemeinsam verwendet werden.
+ *
+ * @author Th. K. Walter
+ */
+public class GalileanBoostFactory
+{
+/**
+ * Die maximale Anzahl der zwischengespeicherten Galileitransformationen
+ */
+public static final int CACHE_SIZE = 1024;
+
+/**
+ * Der Cache der Galileitransformationen
+ */
+private static final LruCache<Double, GalileanBoost> cache = new LruCache<>(GalileanBoostFactory.CACHE_SIZE);
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Galileitransformation für die übergebene Geschwindigkeit zurück.
+ *
+ * @param vMasszahl die Maßzahl der Geschwindigkeit
+ * @param vUnit     die Einheit der Geschwindigkeit
+ * @return die Galileitransformation
+ */
+public static GalileanBoost getBoost(double vMasszahl, Unit<Speed> vUnit)
+   {
+   return GalileanBoostFactory.getBoost(QuantityUtils.toSiDouble(vMasszahl, vUnit));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Galileitransformation für die übergebene Geschwindigkeit in m/s zurück.
+ *
+ * @param vMeasure die Maßzahl der Geschwindigkeit in m/s
+ * @return die Galileitransformation, deren Geschwindigkeit in m/s angegeben ist
+ */
+public static GalileanBoost getBoost(double vMeasure)
+   {
+   // Durch die Addition von 0.0 wird -0.0 auf 0.0 abgebildet, so dass beide Werte denselben Schlüssel ergeben.
+   return GalileanBoostFactory.cache.get(vMeasure + 0.0,
+         key -> new GalileanBoost(QuantityUtils.createSpeedQuantity(key, METRE_PER_SECOND)));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt den Cache der Galileitransformationen zurück, z.B. um die Anzahl der Treffer und Fehlschläge abzufragen.
+ *
+ * @return der Cache der Galileitransformationen
+ */
+public static LruCache<?, ?> getCache()
+   {
+   return GalileanBoostFactory.cache;
+   }
+}
@@ -0,0 +1,381 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Diese Klasse repräsentiert eine allgemeine Galileitransformation in einer Raumdimension, d.h.
+ * <tt>t' = t + &tau;</tt> und <tt>x' = &epsilon;x - vt + &xi;</tt>. Dabei ist <tt>&tau;</tt> die Verschiebung in der
+ * Zeit, <tt>&xi;</tt> die Verschiebung im Raum, <tt>v</tt> die Geschwindigkeit und <tt>&epsilon; = &plusmn;1</tt>
+ * gibt an, ob die Ortskoordinate gespiegelt wird. Alle Größen werden als Maßzahlen in SI-Einheiten angegeben.
+ *
+ * Die Hintereinanderausführung zweier Galileitransformationen ist wieder eine Galileitransformation. Mit
+ * {@link #andThen(GalileanTransformation)} bzw. {@link #compose(GalileanTransformation)} kann eine Kette von
+ * Transformationen daher zu einer einzigen zusammengefasst werden, die jedes Ereignis mit einer einzigen Auswertung
+ * transformiert. Objekte dieser Klasse sind unveränderlich.
+ *
+ * @author Th. K. Walter
+ */
+public final class GalileanTransformation
+{
+/**
+ * Die identische Transformation
+ */
+private static final GalileanTransformation IDENTITY = new GalileanTransformation(1.0, 0.0, 0.0, 0.0);
+
+/**
+ * Der Faktor <tt>&epsilon;</tt> der Ortskoordinate (<tt>1</tt> oder <tt>-1</tt>)
+ */
+private final double epsilon;
+
+/**
+ * Die Geschwindigkeit in m/s
+ */
+private final double v;
+
+/**
+ * Die Verschiebung in der Zeit in s
+ */
+private final double tau;
+
+/**
+ * Die Verschiebung im Raum in m
+ */
+private final double xi;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Galileitransformation.
+ *
+ * @param epsilon der Faktor der Ortskoordinate (<tt>1</tt> oder <tt>-1</tt>)
+ * @param v       die Geschwindigkeit in m/s
+ * @param tau     die Verschiebung in der Zeit in s
+ * @param xi      die Verschiebung im Raum in m
+ */
+private GalileanTransformation(double epsilon, double v, double tau, double xi)
+   {
+   this.epsilon = epsilon;
+   this.v = v;
+   this.tau = tau;
+   this.xi = xi;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die identische Transformation zurück.
+ *
+ * @return die identische Transformation
+ */
+public static GalileanTransformation identity()
+   {
+   return GalileanTransformation.IDENTITY;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt eine Verschiebung in der Zeit, d.h. <tt>t' = t + &tau;</tt> und <tt>x' = x</tt>.
+ *
+ * @param tau die Verschiebung in s
+ * @return die Verschiebung in der Zeit
+ */
+public static GalileanTransformation timeTranslation(double tau)
+   {
+   return new GalileanTransformation(1.0, 0.0, tau, 0.0);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt eine Verschiebung im Raum, d.h. <tt>t' = t</tt> und <tt>x' = x + &xi;</tt>.
+ *
+ * @param xi die Verschiebung in m
+ * @return die Verschiebung im Raum
+ */
+public static GalileanTransformation spaceTranslation(double xi)
+   {
+   return new GalileanTransformation(1.0, 0.0, 0.0, xi);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt eine Standard-Galileitransformation, d.h. <tt>t' = t</tt> und <tt>x' = x - vt</tt>.
+ *
+ * @param v die Geschwindigkeit in m/s
+ * @return die Standard-Galileitransformation
+ */
+public static GalileanTransformation boost(double v)
+   {
+   return new GalileanTransformation(1.0, v, 0.0, 0.0);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt die zu einem {@link GalileanBoost} gehörende Galileitransformation.
+ *
+ * @param boost die Standard-Galileitransformation
+ * @return die Galileitransformation
+ */
+public static GalileanTransformation of(GalileanBoost boost)
+   {
+   return GalileanTransformation.boost(boost.getVMeasure());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt eine Spiegelung der Ortskoordinate, d.h. <tt>t' = t</tt> und <tt>x' = -x</tt>.
+ *
+ * @return die Spiegelung
+ */
+public static GalileanTransformation reflection()
+   {
+   return new GalileanTransformation(-1.0, 0.0, 0.0, 0.0);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Galileitransformation zurück, die zuerst diese und danach die übergebene Transformation ausführt.
+ * Für <tt>A.andThen(B)</tt> gilt <tt>t'' = t + &tau;<sub>A</sub> + &tau;<sub>B</sub></tt> und
+ * <tt>x'' = &epsilon;<sub>B</sub>&epsilon;<sub>A</sub>x - (&epsilon;<sub>B</sub>v<sub>A</sub> + v<sub>B</sub>)t +
+ * &epsilon;<sub>B</sub>&xi;<sub>A</sub> - v<sub>B</sub>&tau;<sub>A</sub> + &xi;<sub>B</sub></tt>.
+ *
+ * @param next die danach auszuführende Transformation
+ * @return die zusammengefasste Transformation
+ */
+public GalileanTransformation andThen(GalileanTransformation next)
+   {
+   return new GalileanTransformation(next.epsilon * this.epsilon, next.epsilon * this.v + next.v,
+         this.tau + next.tau, next.epsilon * this.xi - next.v * this.tau + next.xi);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Galileitransformation zurück, die zuerst die übergebene und danach diese Transformation ausführt, d.h.
+ * <tt>A.compose(B)</tt> entspricht <tt>B.andThen(A)</tt>.
+ *
+ * @param before die vorher auszuführende Transformation
+ * @return die zusammengefasste Transformation
+ */
+public GalileanTransformation compose(GalileanTransformation before)
+   {
+   return before.andThen(this);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die inverse Transformation zurück, so dass <tt>A.andThen(A.inverse())</tt> die identische Transformation ist.
+ *
+ * @return die inverse Transformation
+ */
+public GalileanTransformation inverse()
+   {
+   // Aus t' = t + tau und x' = eps x - v t + xi folgt t = t' - tau und x = eps x' + eps v t' - eps (v tau + xi).
+   return new GalileanTransformation(this.epsilon, -this.epsilon * this.v, -this.tau,
+         -this.epsilon * (this.v * this.tau + this.xi));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Zeitkoordinate eines Ereignisses.
+ *
+ * @param tSeconds die Maßzahl der Zeitkoordinate in s
+ * @return die Maßzahl der transformierten Zeitkoordinate in s
+ */
+public double transformT(double tSeconds)
+   {
+   return tSeconds + this.tau;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ortskoordinate eines Ereignisses.
+ *
+ * @param tSeconds die Maßzahl der Zeitkoordinate in s
+ * @param xMeters  die Maßzahl der Ortskoordinate in m
+ * @return die Maßzahl der transformierten Ortskoordinate in m
+ */
+public double transformX(double tSeconds, double xMeters)
+   {
+   return this.epsilon * xMeters - this.v * tSeconds + this.xi;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert ein Ereignis. Die Koordinaten des transformierten Ereignisses werden in SI-Einheiten angegeben.
+ *
+ * @param originalEvent das originale Ereignis
+ * @return das transformierte Ereignis
+ */
+public Event transform(Event originalEvent)
+   {
+   double t = QuantityUtils.toSiDouble(originalEvent.t());
+   double x = QuantityUtils.toSiDouble(originalEvent.x());
+   return EventUtils.createEvent(this.transformT(t), SECOND, this.transformX(t, x), METRE);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Ereignisse im Indexbereich <tt>[from, to)</tt>, deren Koordinaten als Maßzahlen in SI-Einheiten
+ * in zwei Feldern vorliegen. Beide Felder werden dabei mit den transformierten Koordinaten überschrieben.
+ *
+ * @param tSeconds die Maßzahlen der Zeitkoordinaten in s
+ * @param xMeters  die Maßzahlen der Ortskoordinaten in m
+ * @param from     der erste zu transformierende Index
+ * @param to       der Index hinter dem letzten zu transformierenden Index
+ */
+public void transform(double[] tSeconds, double[] xMeters, int from, int to)
+   {
+   for (int i = from; i < to; i++)
+      {
+      double t = tSeconds[i];
+      xMeters[i] = this.epsilon * xMeters[i] - this.v * t + this.xi;
+      tSeconds[i] = t + this.tau;
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Folge von Ereignissen. Die Koordinaten der Folge werden dabei überschrieben.
+ *
+ * @param events die Folge von Ereignissen
+ * @return die übergebene Folge von Ereignissen mit den transformierten Koordinaten
+ */
+public EventBatch transform(EventBatch events)
+   {
+   this.transform(events.getT(), events.getX(), 0, events.size());
+   return events;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Folge von Ereignissen. Ab {@link GalileanBoost#DEFAULT_PARALLEL_THRESHOLD} Ereignissen wird die
+ * Folge aufgeteilt und im {@link ForkJoinPool#commonPool()} parallel transformiert. Die Koordinaten der Folge werden
+ * dabei überschrieben. Server sollten stattdessen einen eigenen Pool übergeben (siehe {@link TransformationPool}).
+ *
+ * @param events die Folge von Ereignissen
+ * @return die übergebene Folge von Ereignissen mit den transformierten Koordinaten
+ */
+public EventBatch transformAll(EventBatch events)
+   {
+   return this.transformAll(events, ForkJoinPool.commonPool(), GalileanBoost.DEFAULT_PARALLEL_THRESHOLD);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Folge von Ereignissen. Die Folge wird so lange halbiert, bis die Teilbereiche nicht mehr als
+ * <tt>threshold</tt> Ereignisse enthalten. Die Teilbereiche werden im übergebenen {@link ForkJoinPool} parallel
+ * transformiert. Die Koordinaten der Folge werden dabei überschrieben.
+ *
+ * @param events    die Folge von Ereignissen
+ * @param pool      der {@link ForkJoinPool}, in dem die Teilbereiche transformiert werden
+ * @param threshold die maximale Anzahl der Ereignisse eines Teilbereichs
+ * @return die übergebene Folge von Ereignissen mit den transformierten Koordinaten
+ */
+public EventBatch transformAll(EventBatch events, ForkJoinPool pool, int threshold)
+   {
+   RangeTask.invoke(pool, events.size(), threshold,
+         (from, to) -> this.transform(events.getT(), events.getX(), from, to));
+   return events;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt den Faktor <tt>&epsilon;</tt> der Ortskoordinate zurück.
+ *
+ * @return <tt>1</tt> oder <tt>-1</tt>
+ */
+public double getEpsilon()
+   {
+   return this.epsilon;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Geschwindigkeit zurück.
+ *
+ * @return die Geschwindigkeit in m/s
+ */
+public double getV()
+   {
+   return this.v;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Verschiebung in der Zeit zurück.
+ *
+ * @return die Verschiebung in s
+ */
+public double getTau()
+   {
+   return this.tau;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Verschiebung im Raum zurück.
+ *
+ * @return die Verschiebung in m
+ */
+public double getXi()
+   {
+   return this.xi;
+   }
+}
@@ -16,12 +16,31 @@
 package de.thkwalter.galileantransformation;
 
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import de.thkwalter.binary.EventBatchHttpMessageConverter;
+import de.thkwalter.binary.EventBinaryFormat;
+import de.thkwalter.cache.LruCacheMetrics;
+import de.thkwalter.binary.MappedEventFileTransformer;
+import de.thkwalter.csv.CsvEventTransformer;
+import de.thkwalter.jackson.EventBatchSerializer;
+import de.thkwalter.jackson.EventDeserializer;
+import de.thkwalter.jackson.EventSerializer;
 import de.thkwalter.jackson.QuantitySerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
 
 import javax.measure.Quantity;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
 
 /**
  * Diese Klasse startet einen Server, der den {@link GalileanBoost -Services} anbietet.
@@ -31,8 +50,36 @@ import javax.measure.Quantity;
 @SpringBootApplication
 public class GalileanTransformationServer
 {
-public static void main(String[] args)
+/**
+ * Der Logger dieser Klasse
+ */
+private static final Log log = LogFactory.getLog(GalileanTransformationServer.class);
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Startet den Server. Ist das erste Argument {@link MappedEventFileTransformer#COMMAND} bzw.
+ * {@link CsvEventTransformer#COMMAND}, so wird stattdessen ohne Server eine binäre Datei bzw. eine CSV-Datei mit
+ * Ereignissen transformiert (siehe {@link MappedEventFileTransformer} und {@link CsvEventTransformer}).
+ *
+ * @param args die Argumente der Kommandozeile
+ * @throws IOException falls beim Transformieren der Datei ein Fehler auftritt
+ */
+public static void main(String[] args) throws IOException
    {
+   // Soll eine Datei transformiert werden, so wird der Server nicht gestartet.
+   String command = args.length > 0 ? args[0] : "";
+   if (command.equals(MappedEventFileTransformer.COMMAND) || command.equals(CsvEventTransformer.COMMAND))
+      {
+      long beginn = System.nanoTime();
+      String[] argumente = Arrays.copyOfRange(args, 1, args.length);
+      long anzahl = command.equals(CsvEventTransformer.COMMAND) ? CsvEventTransformer.run(argumente) :
+            MappedEventFileTransformer.run(argumente);
+      System.out.printf("%d Ereignisse in %.1f s transformiert.%n", anzahl, (System.nanoTime() - beginn) / 1E9);
+      return;
+      }
+
    SpringApplication.run(GalileanTransformationServer.class, args);
    }
 
@@ -41,11 +88,93 @@ public static void main(String[] args)
 // =====================================================================================================================
 
 
+/**
+ * Diese Methode wird von Spring aufgerufen und erzeugt die {@link TransformationMetrics}, die in der von Spring Boot
+ * Actuator bereitgestellten {@link MeterRegistry} registriert und über <tt>/actuator/prometheus</tt> veröffentlicht
+ * werden.
+ *
+ * @param registry die {@link MeterRegistry}
+ * @return die {@link TransformationMetrics}
+ */
+@Bean
+public TransformationMetrics getTransformationMetrics(MeterRegistry registry)
+   {
+   return new TransformationMetrics(registry);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode wird von Spring aufgerufen und erzeugt den {@link TransformationResultCache} für die Ergebnisse von
+ * <tt>/transformiere</tt>. Mit <tt>galilei.result-cache.size=0</tt> (der Voreinstellung) ist der Cache abgeschaltet;
+ * andernfalls wird er als <tt>cache.*</tt> mit dem Tag <tt>cache=results</tt> veröffentlicht.
+ *
+ * @param registry    die {@link MeterRegistry}
+ * @param maximumSize die maximale Anzahl der Einträge
+ * @param ttl         die Lebensdauer eines Eintrags
+ * @return der {@link TransformationResultCache}
+ */
+@Bean
+public TransformationResultCache getTransformationResultCache(MeterRegistry registry,
+      @Value("${galilei.result-cache.size:0}") int maximumSize, @Value("${galilei.result-cache.ttl:60s}") Duration ttl)
+   {
+   TransformationResultCache resultCache = new TransformationResultCache(maximumSize, ttl);
+   if (resultCache.getCache() != null)
+      {
+      LruCacheMetrics.monitor(registry, resultCache.getCache(), TransformationMetrics.RESULT_CACHE);
+      }
+   return resultCache;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode wird von Spring aufgerufen und erzeugt den {@link TransformationPool}, in dem große Aufträge von
+ * <tt>/transformiereBatch</tt> parallel transformiert werden. Der Pool hat <tt>galilei.parallel.parallelism</tt>
+ * Threads (<tt>0</tt> für die Anzahl der Prozessoren) und wird beim Beenden des Servers heruntergefahren.
+ *
+ * @param parallelism die Anzahl der Threads
+ * @param threshold   die Anzahl der Ereignisse, ab der ein Auftrag parallel transformiert wird
+ * @return der {@link TransformationPool}
+ */
+@Bean(destroyMethod = "close")
+public TransformationPool getTransformationPool(@Value("${galilei.parallel.parallelism:0}") int parallelism,
+      @Value("${galilei.parallel.threshold:" + GalileanBoost.DEFAULT_PARALLEL_THRESHOLD + "}") int threshold)
+   {
+   return new TransformationPool(parallelism, threshold);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode wird von Spring aufgerufen und erzeugt das {@link EventRepository}, in dem die Ereignisse für
+ * <tt>/transformiereZeitbereich</tt> abgelegt werden. Es nimmt höchstens <tt>galilei.repository.max-events</tt>
+ * Ereignisse auf.
+ *
+ * @param maxEvents die maximale Anzahl der abgelegten Ereignisse
+ * @return das {@link EventRepository}
+ */
+@Bean
+public EventRepository getEventRepository(
+      @Value("${galilei.repository.max-events:" + EventRepository.DEFAULT_MAX_EVENTS + "}") int maxEvents)
+   {
+   return new EventRepository(maxEvents);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
 /**
  * Diese Methode wird vom Jackson-Framework aufgerufen und initialisiert den Jackson-Serializer mit einem 
- * {@link QuantitySerializer} zum Serialisieren von {@link Quantity}-Objekten.
+ * {@link QuantitySerializer} zum Serialisieren von {@link Quantity}-Objekten, einem {@link EventSerializer} und
+ * einem {@link EventDeserializer} zum Serialisieren und Deserialisieren von {@link Event}-Objekten sowie einem
+ * {@link EventBatchSerializer} zum Serialisieren von {@link EventBatch}-Objekten.
  * 
- * @return ein {@link SimpleModule} das einen {@link QuantitySerializer} kapselt.
+ * @return ein {@link SimpleModule} das einen {@link QuantitySerializer}, einen {@link EventSerializer}, einen
+ * {@link EventDeserializer} und einen {@link EventBatchSerializer} kapselt.
  */
 @SuppressWarnings("rawtypes")
 @Bean
@@ -55,7 +184,62 @@ public SimpleModule getJacksonQuantityModule()
    SimpleModule module = new SimpleModule();
    //noinspection unchecked
    module.addSerializer(Quantity.class, new QuantitySerializer());
+   module.addSerializer(Event.class, new EventSerializer());
+   module.addDeserializer(Event.class, new EventDeserializer());
+   module.addSerializer(EventBatch.class, new EventBatchSerializer());
 
    return module;
    }
-}
\ No newline at end of file
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode wird von Spring aufgerufen und registriert einen {@link EventBatchHttpMessageConverter}, so dass
+ * Folgen von Ereignissen auch im binären Austauschformat <tt>application/x-galilei-events</tt> (siehe
+ * {@link EventBinaryFormat}) gelesen und geschrieben werden können. Requests mit mehr als
+ * <tt>galilei.binary.max-events</tt> Ereignissen werden abgewiesen.
+ *
+ * @param maxEvents die maximale Anzahl der Ereignisse eines Requests
+ * @return ein {@link EventBatchHttpMessageConverter}
+ */
+@Bean
+public EventBatchHttpMessageConverter getEventBatchHttpMessageConverter(
+      @Value("${galilei.binary.max-events:" + EventBinaryFormat.DEFAULT_MAX_EVENTS + "}") int maxEvents)
+   {
+   return new EventBatchHttpMessageConverter(maxEvents);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode wird von Spring nach dem Start des Servers aufgerufen und protokolliert, auf welchen Threads die
+ * Requests bearbeitet werden. Mit <tt>spring.threads.virtual.enabled=true</tt> wird für jeden Request ein virtueller
+ * Thread gestartet, so dass die Anzahl gleichzeitiger Requests nicht durch die Größe des Thread-Pools begrenzt ist.
+ * Virtuelle Threads stehen erst ab Java 21 zur Verfügung; auf älteren JDKs wird weiterhin der Thread-Pool von Tomcat
+ * (<tt>server.tomcat.threads.max</tt>) verwendet.
+ *
+ * @param event das {@link ApplicationReadyEvent}
+ */
+@EventListener(ApplicationReadyEvent.class)
+public void logThreading(ApplicationReadyEvent event)
+   {
+   Environment environment = event.getApplicationContext().getEnvironment();
+   boolean virtuellKonfiguriert = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+
+   if (Threading.VIRTUAL.isActive(environment))
+      {
+      GalileanTransformationServer.log.info("Die Requests werden auf virtuellen Threads bearbeitet.");
+      }
+   else if (virtuellKonfiguriert)
+      {
+      GalileanTransformationServer.log.warn("Virtuelle Threads werden von Java " + Runtime.version().feature() +
+            " nicht unterstützt. Die Requests werden im Thread-Pool von Tomcat bearbeitet.");
+      }
+   else
+      {
+      GalileanTransformationServer.log.info("Die Requests werden im Thread-Pool von Tomcat bearbeitet.");
+      }
+   }
+}
@@ -0,0 +1,28 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+/**
+ * Diese Klasse repräsentiert die Maßzahlen der Zeit- und der Ortskoordinate eines Ereignisses. Die zugehörigen
+ * Einheiten werden nicht mitgeführt, sondern für eine ganze Liste von Ereignissen gemeinsam angegeben (siehe
+ * {@link TransformationsAuftrag}).
+ *
+ * @author Th. K. Walter
+ *
+ * @param tMasszahl die Maßzahl der Zeitkoordinate
+ * @param xMasszahl die Maßzahl der Ortskoordinate
+ */
+public record Koordinaten(double tMasszahl, double xMasszahl) {}
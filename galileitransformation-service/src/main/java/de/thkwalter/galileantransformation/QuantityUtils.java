@@ -17,11 +17,15 @@ package de.thkwalter.galileantransformation;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
+import javax.measure.UnitConverter;
 import javax.measure.quantity.Length;
 import javax.measure.quantity.Speed;
 import javax.measure.quantity.Time;
 import javax.measure.spi.QuantityFactory;
 import javax.measure.spi.ServiceProvider;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Diese Klasse enthält Methoden, um den Umgang mit {@link Quantity}--Objekten zu erleichtern.
@@ -44,6 +48,16 @@ private static QuantityFactory<Length> lengthFactory;
  */
 private static QuantityFactory<Speed> speedFactory;
 
+/**
+ * Die maximale Anzahl der zwischengespeicherten Umrechnungen in SI-Einheiten
+ */
+private static final int MAXIMUM_SI_CONVERTERS = 1024;
+
+/**
+ * Die Umrechnungen der bereits verwendeten Einheiten in die zugehörigen SI-Einheiten
+ */
+private static final Map<Unit<?>, UnitConverter> siConverters = new ConcurrentHashMap<>();
+
 // =====================================================================================================================
 // =====================================================================================================================
 
@@ -77,6 +91,93 @@ static
 public static <Q extends Quantity<Q>> boolean compareQuantities(Quantity<Q> expectedValue, Quantity<Q> actualValue,
       double relativeTolerance, double absoluteTolerance)
    {
+   // Die Toleranzbereiche werden geprüft.
+   QuantityUtils.checkTolerances(relativeTolerance, absoluteTolerance);
+
+   // Die Maßzahlen der Größen werden in der SI-Einheit bestimmt.
+   double expectedMeasure = QuantityUtils.toSiDouble(expectedValue);
+   double actualMeasure = QuantityUtils.toSiDouble(actualValue);
+
+   double difference = expectedMeasure - actualMeasure;
+
+   // Falls beide Werte ungleich null sind, ...
+   if (expectedMeasure != 0 && actualMeasure != 0)
+      {
+      return (Math.abs(difference / expectedMeasure) < relativeTolerance);
+      }
+
+   // Falls einer der beiden Werte gleich null ist, ...
+   else
+      {
+      return Math.abs(difference) < absoluteTolerance;
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode vergleicht zwei Folgen von Maßzahlen in SI-Einheiten paarweise nach denselben Regeln wie
+ * {@link #compareQuantities(Quantity, Quantity, double, double)}. Die Toleranzbereiche werden nur einmal geprüft und
+ * die Maßzahlen werden nicht umgerechnet, so dass sich auch Folgen mit Millionen von Werten schnell vergleichen lassen.
+ * Die Indizes der abweichenden Wertepaare werden zunächst in einem <tt>long</tt>-Feld gesammelt, in das pro Wertepaar
+ * ohne Verzweigung ein Bit geschrieben wird. Ist eine der Maßzahlen <tt>NaN</tt>, so stimmt das Wertepaar nicht
+ * überein und die größten Abweichungen sind ebenfalls <tt>NaN</tt>.
+ *
+ * @param expectedMeasures  die erwarteten Maßzahlen in SI-Einheiten
+ * @param actualMeasures    die vorhandenen Maßzahlen in SI-Einheiten
+ * @param relativeTolerance die zulässige, relative Abweichung
+ * @param absoluteTolerance die zulässige absolute Abweichung (falls einer der Werte gleich null ist)
+ * @return das Ergebnis des Vergleichs
+ */
+public static ComparisonResult compareMeasures(double[] expectedMeasures, double[] actualMeasures,
+      double relativeTolerance, double absoluteTolerance)
+   {
+   // Die Toleranzbereiche werden geprüft.
+   QuantityUtils.checkTolerances(relativeTolerance, absoluteTolerance);
+
+   // Sind die Felder unterschiedlich lang, so wird eine Ausnahme geworfen.
+   if (expectedMeasures.length != actualMeasures.length)
+      {
+      throw new IllegalArgumentException("Die Felder 'expectedMeasures' und 'actualMeasures' müssen gleich lang sein!");
+      }
+
+   int size = expectedMeasures.length;
+   long[] words = new long[(size + 63) >>> 6];
+   double maxRelativeError = 0.0;
+   double maxAbsoluteError = 0.0;
+
+   // Die Wertepaare werden verglichen.
+   for (int i = 0; i < size; i++)
+      {
+      double expectedMeasure = expectedMeasures[i];
+      double actualMeasure = actualMeasures[i];
+      double absoluteError = Math.abs(expectedMeasure - actualMeasure);
+      double relativeError = absoluteError / Math.abs(expectedMeasure);
+      boolean relative = expectedMeasure != 0 && actualMeasure != 0;
+
+      // Stimmt das Wertepaar nicht überein, so wird das Bit des Index gesetzt.
+      boolean match = relative ? relativeError < relativeTolerance : absoluteError < absoluteTolerance;
+      words[i >>> 6] |= (match ? 0L : 1L) << i;
+
+      maxAbsoluteError = Math.max(maxAbsoluteError, absoluteError);
+      maxRelativeError = Math.max(maxRelativeError, relative ? relativeError : 0.0);
+      }
+
+   return new ComparisonResult(BitSet.valueOf(words), size, maxRelativeError, maxAbsoluteError);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode prüft, ob die Toleranzbereiche größer als null sind.
+ *
+ * @param relativeTolerance die zulässige, relative Abweichung
+ * @param absoluteTolerance die zulässige absolute Abweichung
+ */
+private static void checkTolerances(double relativeTolerance, double absoluteTolerance)
+   {
    // Ist die relative Abweichung nicht größer als null, so wird eine Ausnahme geworfen.
    if (relativeTolerance <= 0)
       {
@@ -88,24 +189,80 @@ public static <Q extends Quantity<Q>> boolean compareQuantities(Quantity<Q> expe
       {
       throw new IllegalArgumentException("Das Argument 'absoluteTolerance' muss größer als Null sein!");
       }
+   }
 
-   // Die Größen werden in die SI-Einheit umgerechnet und dann wird jeweils ihre Maßzahl bestimmt.
-   double expectedMeasure = expectedValue.toSystemUnit().getValue().doubleValue();
-   double actualMeasure = actualValue.toSystemUnit().getValue().doubleValue();
-
-   double difference = expectedMeasure - actualMeasure;
+// =====================================================================================================================
+// =====================================================================================================================
 
-   // Falls beide Werte ungleich null sind, ...
-   if (expectedMeasure != 0 && actualMeasure != 0)
+/**
+ * Diese Methode gibt die Umrechnung der übergebenen Einheit in die zugehörige SI-Einheit zurück. Die Umrechnung wird
+ * für jede Einheit nur einmal bestimmt und danach zwischengespeichert.
+ *
+ * @param unit die Einheit
+ * @return die Umrechnung der Einheit in die SI-Einheit
+ */
+public static UnitConverter getSiConverter(Unit<?> unit)
+   {
+   // Ist die Umrechnung bereits bekannt, so wird sie zurückgegeben.
+   UnitConverter converter = QuantityUtils.siConverters.get(unit);
+   if (converter != null)
       {
-      return (Math.abs(difference / expectedMeasure) < relativeTolerance);
+      return converter;
       }
 
-   // Falls einer der beiden Werte gleich null ist, ...
-   else
+   // Die Umrechnung wird bestimmt und, solange der Zwischenspeicher nicht voll ist, zwischengespeichert.
+   converter = QuantityUtils.createSiConverter(unit);
+   if (QuantityUtils.siConverters.size() < QuantityUtils.MAXIMUM_SI_CONVERTERS)
       {
-      return Math.abs(difference) < absoluteTolerance;
+      QuantityUtils.siConverters.putIfAbsent(unit, converter);
       }
+
+   return converter;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode bestimmt die Umrechnung einer Einheit in die zugehörige SI-Einheit.
+ *
+ * @param unit die Einheit
+ * @return die Umrechnung der Einheit in die SI-Einheit
+ */
+private static <Q extends Quantity<Q>> UnitConverter createSiConverter(Unit<Q> unit)
+   {
+   return unit.getConverterTo(unit.getSystemUnit());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode rechnet eine Maßzahl aus der übergebenen Einheit in die zugehörige SI-Einheit um. Im Gegensatz zu
+ * {@link Quantity#toSystemUnit()} wird dabei kein neues {@link Quantity}-Objekt erzeugt.
+ *
+ * @param measure die Maßzahl
+ * @param unit    die Einheit der Maßzahl
+ * @return die Maßzahl in der SI-Einheit
+ */
+public static double toSiDouble(double measure, Unit<?> unit)
+   {
+   return QuantityUtils.getSiConverter(unit).convert(measure);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode bestimmt die Maßzahl einer Größe in der zugehörigen SI-Einheit. Im Gegensatz zu
+ * {@link Quantity#toSystemUnit()} wird dabei kein neues {@link Quantity}-Objekt erzeugt.
+ *
+ * @param quantity die Größe
+ * @return die Maßzahl der Größe in der SI-Einheit
+ */
+public static double toSiDouble(Quantity<?> quantity)
+   {
+   return QuantityUtils.toSiDouble(quantity.getValue().doubleValue(), quantity.getUnit());
    }
 
 // =====================================================================================================================
@@ -0,0 +1,144 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Diese Klasse zerlegt einen Indexbereich rekursiv in Teilbereiche, die in einem {@link ForkJoinPool} parallel
+ * bearbeitet werden. Jeder Teilbereich wird genau einmal bearbeitet, so dass die Ergebnisse über ihren Index in der
+ * Reihenfolge der Eingabe abgelegt werden können.
+ *
+ * @author Th. K. Walter
+ */
+class RangeTask extends RecursiveAction
+{
+/**
+ * Diese Schnittstelle beschreibt die Bearbeitung eines Teilbereichs.
+ */
+@FunctionalInterface
+interface RangeAction
+{
+/**
+ * Bearbeitet den Indexbereich <tt>[from, to)</tt>.
+ *
+ * @param from der erste Index des Bereichs
+ * @param to   der Index hinter dem letzten Index des Bereichs
+ */
+void apply(int from, int to);
+}
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Die Versionsnummer der Serialisierung
+ */
+private static final long serialVersionUID = 1L;
+
+/**
+ * Die Bearbeitung eines Teilbereichs. Aufgaben werden nicht serialisiert, die Bearbeitung ist daher
+ * <tt>transient</tt>.
+ */
+private final transient RangeAction action;
+
+/**
+ * Der erste Index des Bereichs
+ */
+private final int from;
+
+/**
+ * Der Index hinter dem letzten Index des Bereichs
+ */
+private final int to;
+
+/**
+ * Die maximale Größe eines Bereichs, der nicht weiter zerlegt wird
+ */
+private final int threshold;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Aufgabe für den Indexbereich <tt>[from, to)</tt>.
+ *
+ * @param action    die Bearbeitung eines Teilbereichs
+ * @param from      der erste Index des Bereichs
+ * @param to        der Index hinter dem letzten Index des Bereichs
+ * @param threshold die maximale Größe eines Bereichs, der nicht weiter zerlegt wird
+ */
+private RangeTask(RangeAction action, int from, int to, int threshold)
+   {
+   this.action = action;
+   this.from = from;
+   this.to = to;
+   this.threshold = threshold;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Bearbeitet den Indexbereich <tt>[0, size)</tt> im übergebenen {@link ForkJoinPool}. Die Methode kehrt erst zurück,
+ * wenn alle Teilbereiche bearbeitet worden sind.
+ *
+ * @param pool      der {@link ForkJoinPool}, der die Teilbereiche bearbeitet
+ * @param size      die Größe des Indexbereichs
+ * @param threshold die maximale Größe eines Bereichs, der nicht weiter zerlegt wird
+ * @param action    die Bearbeitung eines Teilbereichs
+ */
+static void invoke(ForkJoinPool pool, int size, int threshold, RangeAction action)
+   {
+   // Ist der Schwellwert nicht größer als null, so wird eine Ausnahme geworfen.
+   if (threshold <= 0)
+      {
+      throw new IllegalArgumentException("Das Argument 'threshold' muss größer als Null sein!");
+      }
+
+   // Kleine Bereiche werden ohne Umweg über den ForkJoinPool im aufrufenden Thread bearbeitet.
+   if (size <= threshold)
+      {
+      action.apply(0, size);
+      }
+   else
+      {
+      pool.invoke(new RangeTask(action, 0, size, threshold));
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+protected void compute()
+   {
+   // Ein Bereich, der nicht größer als der Schwellwert ist, wird direkt bearbeitet.
+   if (this.to - this.from <= this.threshold)
+      {
+      this.action.apply(this.from, this.to);
+      }
+
+   // Ein größerer Bereich wird halbiert und die beiden Hälften werden parallel bearbeitet.
+   else
+      {
+      int middle = (this.from + this.to) >>> 1;
+      RecursiveAction.invokeAll(new RangeTask(this.action, this.from, middle, this.threshold),
+            new RangeTask(this.action, middle, this.to, this.threshold));
+      }
+   }
+}
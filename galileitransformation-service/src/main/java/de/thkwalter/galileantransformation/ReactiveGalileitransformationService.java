@@ -0,0 +1,177 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import de.thkwalter.galileantransformation.TransformationMetrics.Phase;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Speed;
+import javax.measure.quantity.Time;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Diese Klasse implementiert die Endpunkte des StandardGalileitransformation-Services mit Spring WebFlux. Sie wird im
+ * Profil <tt>reactive</tt> anstelle des {@link StandardGalileitransformationService} und des
+ * {@link StreamingGalileitransformationService} verwendet. Die Endpunkte <tt>/transformiere</tt> und
+ * <tt>/transformiereBatch</tt> liefern dieselben Antworten wie die Spring-MVC-Variante, so dass die Pact-Verträge
+ * unverändert gelten. Der Endpunkt <tt>/transformiereStream</tt> liest und schreibt die Ereignisse als {@link Flux},
+ * so dass die Backpressure eines reaktiven Produzenten bis zum Client erhalten bleibt.
+ *
+ * @author Th. K. Walter
+ */
+@RestController
+@Profile(ReactiveGalileitransformationService.PROFILE)
+public class ReactiveGalileitransformationService
+{
+/**
+ * Das Spring-Profil, in dem der Service mit Spring WebFlux betrieben wird
+ */
+public static final String PROFILE = "reactive";
+
+/**
+ * Die Metriken der Transformationsendpunkte
+ */
+private final TransformationMetrics metrics;
+
+/**
+ * Der {@link StandardGalileitransformationService}, an den die Berechnung einzelner Ereignisse und Aufträge
+ * delegiert wird
+ */
+private final StandardGalileitransformationService standardService;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Endpunkte.
+ *
+ * @param metrics     die Metriken der Transformationsendpunkte
+ * @param resultCache der Cache der Ergebnisse von <tt>/transformiere</tt>
+ * @param pool        der Pool, in dem große Aufträge parallel transformiert werden
+ */
+public ReactiveGalileitransformationService(TransformationMetrics metrics, TransformationResultCache resultCache,
+      TransformationPool pool)
+   {
+   this.metrics = metrics;
+   this.standardService = new StandardGalileitransformationService(metrics, resultCache, pool);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert das mittels der Request-Parameter spezifizierte Ereignis (siehe
+ * {@link StandardGalileitransformationService#transformiere(double, String, double, String, double, String,
+ * org.springframework.web.context.request.WebRequest)}). Kennt der Client das Ergebnis bereits
+ * (<tt>If-None-Match</tt>), so bleibt der {@link Mono} leer und es wird <tt>304 Not Modified</tt> zurückgegeben.
+ *
+ * @param tMasszahl die Maßzahl der Zeitkoordinate
+ * @param tEinheit  die Einheit der Zeitkoordinate
+ * @param xMasszahl die Maßzahl der Ortskoordinate
+ * @param xEinheit  Die Einheit der Ortskoordinate
+ * @param vMasszahl Die Maßzahl der Geschwindigkeit
+ * @param vEinheit  Die Einheit der Geschwindigkeit
+ * @param exchange  der Austausch für die Prüfung von <tt>If-None-Match</tt>
+ * @return Das transformierte {@link Event}
+ */
+@RequestMapping("/transformiere")
+public Mono<Event> transformiere(@RequestParam(value = "tMasszahl") double tMasszahl,
+      @RequestParam(value = "tEinheit") String tEinheit, @RequestParam(value = "xMasszahl") double xMasszahl,
+      @RequestParam(value = "xEinheit") String xEinheit, @RequestParam(value = "vMasszahl") double vMasszahl,
+      @RequestParam(value = "vEinheit") String vEinheit, ServerWebExchange exchange)
+   {
+   return Mono.fromSupplier(() -> this.standardService.transformiere(tMasszahl, tEinheit, xMasszahl, xEinheit,
+         vMasszahl, vEinheit, exchange::checkNotModified));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert alle Ereignisse des übergebenen Auftrags (siehe
+ * {@link StandardGalileitransformationService#transformiereBatch(TransformationsAuftrag)}). Da große Aufträge parallel
+ * transformiert werden, wird die Berechnung nicht auf dem Event-Loop ausgeführt.
+ *
+ * @param auftrag der Auftrag mit den Einheiten, der Geschwindigkeit und den Koordinaten der Ereignisse
+ * @return die transformierten Ereignisse in der Reihenfolge des Auftrags
+ */
+@PostMapping(value = "/transformiereBatch", consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+public Mono<EventBatch> transformiereBatch(@RequestBody Mono<TransformationsAuftrag> auftrag)
+   {
+   return auftrag.publishOn(Schedulers.parallel()).map(this.standardService::transformiereBatch);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert einen Strom von Ereignissen. Die Ereignisse werden als NDJSON (ein Objekt pro Zeile, siehe
+ * {@link Koordinaten}) oder als JSON-Feld gelesen und einzeln transformiert, sobald sie eintreffen. Die
+ * transformierten Ereignisse werden je nach Accept-Header als NDJSON oder als JSON-Feld mit den Koordinaten in
+ * SI-Einheiten geschrieben. Es werden nur so viele Ereignisse gelesen, wie der Client abnimmt.
+ *
+ * @param tEinheit   die Einheit der Zeitkoordinaten
+ * @param xEinheit   die Einheit der Ortskoordinaten
+ * @param vMasszahl  die Maßzahl der Geschwindigkeit
+ * @param vEinheit   die Einheit der Geschwindigkeit
+ * @param ereignisse der Strom der originalen Ereignisse
+ * @return der Strom der transformierten Ereignisse
+ */
+@PostMapping(value = "/transformiereStream",
+      consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+      produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+public Flux<Event> transformiereStream(@RequestParam(value = "tEinheit") String tEinheit,
+      @RequestParam(value = "xEinheit") String xEinheit, @RequestParam(value = "vMasszahl") double vMasszahl,
+      @RequestParam(value = "vEinheit") String vEinheit, @RequestBody Flux<Koordinaten> ereignisse)
+   {
+   // Die Einheiten, die Umrechnungen in SI-Einheiten und die Galileitransformation werden nur einmal bestimmt.
+   long zeitpunkt = System.nanoTime();
+   Unit<Time> tUnit = UnitUtils.parseUnit(tEinheit, Time.class);
+   Unit<Length> xUnit = UnitUtils.parseUnit(xEinheit, Length.class);
+   Unit<Speed> vUnit = UnitUtils.parseUnit(vEinheit, Speed.class);
+   this.metrics.record(Phase.UNITS, zeitpunkt);
+   UnitConverter tConverter = QuantityUtils.getSiConverter(tUnit);
+   UnitConverter xConverter = QuantityUtils.getSiConverter(xUnit);
+   GalileanBoost galileitransformation = GalileanBoostFactory.getBoost(vMasszahl, vUnit);
+
+   // Die Ereignisse werden einzeln transformiert. Nach dem Ende des Stroms wird seine Länge erfasst.
+   AtomicInteger anzahl = new AtomicInteger();
+   return ereignisse.map(koordinaten ->
+      {
+      anzahl.incrementAndGet();
+      double t = tConverter.convert(koordinaten.tMasszahl());
+      double x = galileitransformation.transformX(t, xConverter.convert(koordinaten.xMasszahl()));
+      return EventUtils.createEvent(t, SECOND, x, METRE);
+      }).doFinally(signal -> this.metrics.recordBatchSize(anzahl.get()));
+   }
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import de.thkwalter.binary.EventBinaryFormat;
+import de.thkwalter.galileantransformation.TransformationMetrics.Phase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Speed;
+import javax.measure.quantity.Time;
+import java.util.List;
+
+/**
+ * Diese Klasse implementiert Endpunkte, mit denen Ereignisse im {@link EventRepository} des Servers abgelegt und die
+ * Ereignisse eines Zeitintervalls transformiert abgefragt werden. Im Profil <tt>reactive</tt> stehen diese Endpunkte
+ * nicht zur Verfügung.
+ *
+ * @author Th. K. Walter
+ */
+@RestController
+@Profile("!" + ReactiveGalileitransformationService.PROFILE)
+public class RepositoryGalileitransformationService
+{
+/**
+ * Die abgelegten Ereignisse
+ */
+private final EventRepository repository;
+
+/**
+ * Die Metriken der Transformationsendpunkte
+ */
+private final TransformationMetrics metrics;
+
+/**
+ * <tt>true</tt>, falls die abgelegten Ereignisse mit <tt>DELETE /ereignisse</tt> entfernt werden dürfen
+ */
+private final boolean loeschenErlaubt;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Endpunkte.
+ *
+ * @param repository      die abgelegten Ereignisse
+ * @param metrics         die Metriken der Transformationsendpunkte
+ * @param loeschenErlaubt <tt>true</tt>, falls die abgelegten Ereignisse mit <tt>DELETE /ereignisse</tt> entfernt
+ *                        werden dürfen (<tt>galilei.repository.delete-enabled</tt>)
+ */
+public RepositoryGalileitransformationService(EventRepository repository, TransformationMetrics metrics,
+      @Value("${galilei.repository.delete-enabled:false}") boolean loeschenErlaubt)
+   {
+   this.repository = repository;
+   this.metrics = metrics;
+   this.loeschenErlaubt = loeschenErlaubt;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Legt die übergebenen Ereignisse ab. Die Einheiten der Koordinaten gelten für alle Ereignisse der Liste. Würde das
+ * {@link EventRepository} dadurch mehr als <tt>galilei.repository.max-events</tt> Ereignisse enthalten, so wird der
+ * Request mit dem Status 413 abgewiesen; ist eine Zeitkoordinate NaN, so wird er mit dem Status 400 abgewiesen.
+ *
+ * @param tEinheit   die Einheit der Zeitkoordinaten
+ * @param xEinheit   die Einheit der Ortskoordinaten
+ * @param ereignisse die Maßzahlen der Koordinaten der Ereignisse
+ * @return die Anzahl der abgelegten Ereignisse nach dem Einfügen
+ */
+@PostMapping(value = "/ereignisse", consumes = MediaType.APPLICATION_JSON_VALUE)
+public int speichere(@RequestParam(value = "tEinheit") String tEinheit,
+      @RequestParam(value = "xEinheit") String xEinheit, @RequestBody List<Koordinaten> ereignisse)
+   {
+   // Die Maßzahlen der Koordinaten werden in SI-Einheiten umgerechnet. Die Umrechnungen werden dabei nur einmal für
+   // alle Ereignisse bestimmt.
+   UnitConverter tConverter = QuantityUtils.getSiConverter(UnitUtils.parseUnit(tEinheit, Time.class));
+   UnitConverter xConverter = QuantityUtils.getSiConverter(UnitUtils.parseUnit(xEinheit, Length.class));
+   double[] t = new double[ereignisse.size()];
+   double[] x = new double[ereignisse.size()];
+   for (int i = 0; i < ereignisse.size(); i++)
+      {
+      t[i] = tConverter.convert(ereignisse.get(i).tMasszahl());
+      x[i] = xConverter.convert(ereignisse.get(i).xMasszahl());
+      }
+
+   return this.speichere(new EventBatch(t, x));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Legt die Ereignisse ab, die im binären Austauschformat <tt>application/x-galilei-events</tt> (siehe
+ * {@link EventBinaryFormat}) übergeben werden. Würde das {@link EventRepository} dadurch mehr als
+ * <tt>galilei.repository.max-events</tt> Ereignisse enthalten, so wird der Request mit dem Status 413 abgewiesen;
+ * ist eine Zeitkoordinate NaN, so wird er mit dem Status 400 abgewiesen.
+ *
+ * @param ereignisse die Ereignisse
+ * @return die Anzahl der abgelegten Ereignisse nach dem Einfügen
+ */
+@PostMapping(value = "/ereignisse", consumes = EventBinaryFormat.MEDIA_TYPE)
+public int speichere(@RequestBody EventBatch ereignisse)
+   {
+   try
+      {
+      this.repository.addAll(ereignisse);
+      }
+   catch (IllegalArgumentException e)
+      {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+      }
+   catch (IllegalStateException e)
+      {
+      throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage(), e);
+      }
+   return this.repository.size();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Entfernt alle abgelegten Ereignisse. Da jeder Client damit die Ereignisse aller anderen Clients entfernen würde, ist
+ * der Endpunkt nur mit <tt>galilei.repository.delete-enabled=true</tt> freigeschaltet; andernfalls wird der Request
+ * mit dem Status 403 abgewiesen.
+ */
+@DeleteMapping("/ereignisse")
+public void loesche()
+   {
+   // Ist das Entfernen nicht freigeschaltet, so wird eine Ausnahme geworfen.
+   if (!this.loeschenErlaubt)
+      {
+      throw new ResponseStatusException(HttpStatus.FORBIDDEN,
+            "DELETE /ereignisse ist nur mit galilei.repository.delete-enabled=true erlaubt!");
+      }
+
+   this.repository.clear();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die abgelegten Ereignisse, deren Zeitkoordinate im Intervall <tt>[t0, t1]</tt> liegt, mit einer
+ * Standard-Galileitransformation. Das Intervall wird mit einer binären Suche bestimmt, so dass nur die Ereignisse des
+ * Intervalls gelesen und transformiert werden. Die transformierten Ereignisse werden nach der Zeitkoordinate sortiert
+ * und je nach Accept-Header als JSON oder im binären Austauschformat zurückgegeben.
+ *
+ * @param t0Masszahl die Maßzahl der unteren Grenze des Intervalls
+ * @param t1Masszahl die Maßzahl der oberen Grenze des Intervalls
+ * @param tEinheit   die Einheit der Grenzen des Intervalls
+ * @param vMasszahl  die Maßzahl der Geschwindigkeit
+ * @param vEinheit   die Einheit der Geschwindigkeit
+ * @return die transformierten Ereignisse des Intervalls
+ */
+@GetMapping(value = "/transformiereZeitbereich",
+      produces = {MediaType.APPLICATION_JSON_VALUE, EventBinaryFormat.MEDIA_TYPE})
+public EventBatch transformiereZeitbereich(@RequestParam(value = "t0Masszahl") double t0Masszahl,
+      @RequestParam(value = "t1Masszahl") double t1Masszahl, @RequestParam(value = "tEinheit") String tEinheit,
+      @RequestParam(value = "vMasszahl") double vMasszahl, @RequestParam(value = "vEinheit") String vEinheit)
+   {
+   long zeitpunkt = System.nanoTime();
+
+   // Die Einheiten werden bestimmt. Bereits bekannte Einheiten werden dabei aus dem Cache entnommen.
+   Unit<Time> tUnit = UnitUtils.parseUnit(tEinheit, Time.class);
+   Unit<Speed> vUnit = UnitUtils.parseUnit(vEinheit, Speed.class);
+   zeitpunkt = this.metrics.record(Phase.UNITS, zeitpunkt);
+
+   // Die Ereignisse des Intervalls werden bestimmt und transformiert.
+   GalileanBoost galileitransformation = GalileanBoostFactory.getBoost(vMasszahl, vUnit);
+   EventBatch transformierteEreignisse = this.repository.transformRange(QuantityUtils.toSiDouble(t0Masszahl, tUnit),
+         QuantityUtils.toSiDouble(t1Masszahl, tUnit), galileitransformation);
+   this.metrics.record(Phase.BOOST, zeitpunkt);
+   this.metrics.recordBatchSize(transformierteEreignisse.size());
+
+   return transformierteEreignisse;
+   }
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+/**
+ * Dieser Rechenkern transformiert die Ortskoordinaten mit einer einfachen Schleife, die der C2-Compiler automatisch
+ * vektorisiert.
+ *
+ * @author Th. K. Walter
+ */
+public class ScalarBoostKernel implements BoostKernel
+{
+@Override
+public void transform(double vMeasure, double[] t, double[] x, int from, int to)
+   {
+   for (int i = from; i < to; i++)
+      {
+      x[i] -= vMeasure * t[i];
+      }
+   }
+}
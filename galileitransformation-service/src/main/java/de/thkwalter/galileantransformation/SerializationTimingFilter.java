@@ -0,0 +1,128 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import de.thkwalter.galileantransformation.TransformationMetrics.Phase;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+
+/**
+ * Diese Klasse erfasst die Dauer der Serialisierung der Antworten der Transformationsendpunkte einmal pro Request.
+ * Als {@link ResponseBodyAdvice} merkt sie sich den Zeitpunkt, zu dem der {@link HttpMessageConverter} mit dem
+ * Schreiben der Antwort beginnt, in einem Attribut des Requests. Als Filter erfasst sie nach der Bearbeitung des
+ * Requests die Dauer ab diesem Zeitpunkt in der Phase {@link Phase#SERIALIZATION}. Die Serializer selbst erfassen
+ * keine Metriken, so dass die Serialisierung einzelner Ereignisse nicht durch Zeitmessungen verlangsamt wird.
+ *
+ * @author Th. K. Walter
+ */
+@ControllerAdvice(assignableTypes = {StandardGalileitransformationService.class,
+      RepositoryGalileitransformationService.class})
+public class SerializationTimingFilter extends OncePerRequestFilter implements ResponseBodyAdvice<Object>
+{
+/**
+ * Der Name des Request-Attributs mit dem Beginn der Serialisierung (in ns, siehe {@link System#nanoTime()})
+ */
+private static final String BEGINN = SerializationTimingFilter.class.getName() + ".beginn";
+
+/**
+ * Die Metriken der Transformationsendpunkte
+ */
+private final TransformationMetrics metrics;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Filter.
+ *
+ * @param metrics die Metriken der Transformationsendpunkte, in denen die Dauer der Serialisierung erfasst wird
+ */
+public SerializationTimingFilter(TransformationMetrics metrics)
+   {
+   this.metrics = metrics;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Override
+public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType)
+   {
+   return true;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Merkt sich den Beginn der Serialisierung im Request. Die Antwort wird unverändert zurückgegeben.
+ */
+@Override
+public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+      ServerHttpResponse response)
+   {
+   if (request instanceof ServletServerHttpRequest servletRequest)
+      {
+      servletRequest.getServletRequest().setAttribute(SerializationTimingFilter.BEGINN, System.nanoTime());
+      }
+   return body;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Bearbeitet den Request und erfasst danach die Dauer der Serialisierung, falls eine Antwort serialisiert wurde.
+ */
+@Override
+protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException
+   {
+   filterChain.doFilter(request, response);
+
+   if (request.getAttribute(SerializationTimingFilter.BEGINN) instanceof Long beginn)
+      {
+      request.removeAttribute(SerializationTimingFilter.BEGINN);
+      this.metrics.record(Phase.SERIALIZATION, beginn);
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Auch asynchron fortgesetzte Requests werden gefiltert, da ihre Antwort erst dabei serialisiert wird.
+ */
+@Override
+protected boolean shouldNotFilterAsyncDispatch()
+   {
+   return false;
+   }
+}
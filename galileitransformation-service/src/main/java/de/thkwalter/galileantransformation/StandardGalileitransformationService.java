@@ -15,25 +15,73 @@
  */
 package de.thkwalter.galileantransformation;
 
+import de.thkwalter.binary.EventBinaryFormat;
+import de.thkwalter.galileantransformation.TransformationMetrics.Phase;
+import org.springframework.http.MediaType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import tech.units.indriya.AbstractUnit;
+import org.springframework.web.context.request.WebRequest;
 
-import javax.measure.Quantity;
 import javax.measure.Unit;
+import javax.measure.UnitConverter;
 import javax.measure.quantity.Length;
 import javax.measure.quantity.Speed;
 import javax.measure.quantity.Time;
+import java.util.function.Predicate;
+
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
 
 /**
- * Diese Klasse implementiert den Endpunkt des StandardGalileitransformation-Services.
+ * Diese Klasse implementiert den Endpunkt des StandardGalileitransformation-Services. Im Profil <tt>reactive</tt> wird
+ * stattdessen der {@link ReactiveGalileitransformationService} verwendet.
  *
  * @author Th. K. Walter
  */
 @RestController
+@Profile("!" + ReactiveGalileitransformationService.PROFILE)
 public class StandardGalileitransformationService
 {
+/**
+ * Die Metriken der Transformationsendpunkte
+ */
+private final TransformationMetrics metrics;
+
+/**
+ * Der Cache der Ergebnisse von <tt>/transformiere</tt>
+ */
+private final TransformationResultCache resultCache;
+
+/**
+ * Der Pool, in dem große Aufträge parallel transformiert werden
+ */
+private final TransformationPool pool;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Endpunkt.
+ *
+ * @param metrics     die Metriken der Transformationsendpunkte
+ * @param resultCache der Cache der Ergebnisse von <tt>/transformiere</tt>
+ * @param pool        der Pool, in dem große Aufträge parallel transformiert werden
+ */
+public StandardGalileitransformationService(TransformationMetrics metrics, TransformationResultCache resultCache,
+      TransformationPool pool)
+   {
+   this.metrics = metrics;
+   this.resultCache = resultCache;
+   this.pool = pool;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
 /**
  * Transformiert das mittels der Request-Parameter spezifizierte Ereignis. Die Geschwindigkeit der
  * Standard-Galileitransformation wird mithilfe des letzten Request-Parameters bestimmt.
@@ -45,25 +93,192 @@ public class StandardGalileitransformationService
  * @param vMasszahl Die Maßzahl der Geschwindigkeit
  * @return Das transformierte {@link Event}
  */
+public Event transformiere(double tMasszahl, String tEinheit, double xMasszahl, String xEinheit, double vMasszahl,
+      String vEinheit)
+   {
+   return this.transformiere(tMasszahl, tEinheit, xMasszahl, xEinheit, vMasszahl, vEinheit, etag -> false);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert das mittels der Request-Parameter spezifizierte Ereignis. Die Geschwindigkeit der
+ * Standard-Galileitransformation wird mithilfe des letzten Request-Parameters bestimmt.
+ *
+ * Die Antwort erhält einen Entity-Tag, der aus den Koordinaten und der Geschwindigkeit in SI-Einheiten gebildet wird
+ * (siehe {@link TransformationResultCache.Key#etag()}). Sendet der Client diesen Entity-Tag mit
+ * <tt>If-None-Match</tt>, so wird ohne Transformation und Serialisierung <tt>304 Not Modified</tt> zurückgegeben.
+ * Andernfalls wird das Ergebnis, falls vorhanden, dem {@link TransformationResultCache} entnommen.
+ *
+ * @param tMasszahl die Maßzahl der Zeitkoordinate
+ * @param tEinheit  die Einheit der Zeitkoordinate
+ * @param xMasszahl die Maßzahl der Ortskoordinate
+ * @param xEinheit  Die Einheit der Ortskoordinate
+ * @param vMasszahl Die Maßzahl der Geschwindigkeit
+ * @param vEinheit  Die Einheit der Geschwindigkeit
+ * @param request   der Request für die Prüfung von <tt>If-None-Match</tt>
+ * @return Das transformierte {@link Event} oder <tt>null</tt>, falls sich das Ergebnis nicht geändert hat
+ */
 @RequestMapping("/transformiere")
 public Event transformiere(@RequestParam(value = "tMasszahl") double tMasszahl,
       @RequestParam(value = "tEinheit") String tEinheit, @RequestParam(value = "xMasszahl") double xMasszahl,
       @RequestParam(value = "xEinheit") String xEinheit, @RequestParam(value = "vMasszahl") double vMasszahl,
-      @RequestParam(value = "vEinheit") String vEinheit)
+      @RequestParam(value = "vEinheit") String vEinheit, WebRequest request)
+   {
+   return this.transformiere(tMasszahl, tEinheit, xMasszahl, xEinheit, vMasszahl, vEinheit,
+         request::checkNotModified);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert das spezifizierte Ereignis (siehe
+ * {@link #transformiere(double, String, double, String, double, String, WebRequest)}). Die Prüfung von
+ * <tt>If-None-Match</tt> wird übergeben, so dass die Spring-MVC- und die Spring-WebFlux-Variante des Endpunkts
+ * dieselbe Implementierung verwenden.
+ *
+ * @param tMasszahl      die Maßzahl der Zeitkoordinate
+ * @param tEinheit       die Einheit der Zeitkoordinate
+ * @param xMasszahl      die Maßzahl der Ortskoordinate
+ * @param xEinheit       die Einheit der Ortskoordinate
+ * @param vMasszahl      die Maßzahl der Geschwindigkeit
+ * @param vEinheit       die Einheit der Geschwindigkeit
+ * @param nichtGeaendert prüft, ob der Client das Ergebnis mit dem übergebenen Entity-Tag bereits kennt, und setzt
+ *                       in diesem Fall den Status 304
+ * @return Das transformierte {@link Event} oder <tt>null</tt>, falls sich das Ergebnis nicht geändert hat
+ */
+Event transformiere(double tMasszahl, String tEinheit, double xMasszahl, String xEinheit, double vMasszahl,
+      String vEinheit, Predicate<String> nichtGeaendert)
+   {
+   long zeitpunkt = System.nanoTime();
+
+   // Die Einheiten werden bestimmt. Bereits bekannte Einheiten werden dabei aus dem Cache entnommen.
+   Unit<Time> tUnit = UnitUtils.parseUnit(tEinheit, Time.class);
+   Unit<Length> xUnit = UnitUtils.parseUnit(xEinheit, Length.class);
+   Unit<Speed> vUnit = UnitUtils.parseUnit(vEinheit, Speed.class);
+   zeitpunkt = this.metrics.record(Phase.UNITS, zeitpunkt);
+
+   // Die Koordinaten und die Geschwindigkeit werden in SI-Einheiten umgerechnet. Kennt der Client das Ergebnis
+   // bereits, so wird 304 Not Modified zurückgegeben.
+   TransformationResultCache.Key key = new TransformationResultCache.Key(QuantityUtils.toSiDouble(tMasszahl, tUnit),
+         QuantityUtils.toSiDouble(xMasszahl, xUnit), QuantityUtils.toSiDouble(vMasszahl, vUnit));
+   if (nichtGeaendert.test(key.etag()))
+      {
+      return null;
+      }
+
+   // Ist das Ergebnis bereits bekannt, so wird es aus dem Cache entnommen.
+   Event transformiertesEvent = this.resultCache.getIfPresent(key);
+   if (transformiertesEvent == null)
+      {
+      // Das originale Ereignis wird mit den Koordinaten in SI-Einheiten erzeugt.
+      Event originalEvent = EventUtils.createEvent(key.t(), SECOND, key.x(), METRE);
+      zeitpunkt = this.metrics.record(Phase.EVENTS, zeitpunkt);
+
+      // Die Galileitransformation wird bestimmt. Bereits bekannte Geschwindigkeiten werden dabei aus dem Cache
+      // entnommen.
+      GalileanBoost galileitransformation = GalileanBoostFactory.getBoost(key.v());
+
+      // Das originale Ereignis wird transformiert und das transformierte Ereignis zwischengespeichert.
+      transformiertesEvent = galileitransformation.transform(originalEvent);
+      this.metrics.record(Phase.BOOST, zeitpunkt);
+      this.resultCache.put(key, transformiertesEvent);
+      }
+   this.metrics.recordBatchSize(1);
+
+   return transformiertesEvent;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert alle Ereignisse des übergebenen Auftrags mit derselben Standard-Galileitransformation. Die Einheiten
+ * werden nur einmal bestimmt und die {@link GalileanBoost} wird nur einmal erzeugt, so dass auch große Listen von
+ * Ereignissen mit einem einzigen Request transformiert werden können.
+ *
+ * Die transformierten Ereignisse werden je nach Accept-Header als JSON oder im binären Austauschformat
+ * <tt>application/x-galilei-events</tt> (siehe {@link EventBinaryFormat}) zurückgegeben. Die Abbildung schränkt den
+ * Content-Type nicht ein und ist damit der Standard; nur binäre Aufträge werden über ihren Content-Type der
+ * binären Variante zugeordnet.
+ *
+ * @param auftrag der Auftrag mit den Einheiten, der Geschwindigkeit und den Koordinaten der Ereignisse
+ * @return die transformierten Ereignisse in der Reihenfolge des Auftrags
+ */
+@PostMapping(value = "/transformiereBatch",
+      produces = {MediaType.APPLICATION_JSON_VALUE, EventBinaryFormat.MEDIA_TYPE})
+public EventBatch transformiereBatch(@RequestBody TransformationsAuftrag auftrag)
+   {
+   long zeitpunkt = System.nanoTime();
+
+   // Die Einheiten werden bestimmt. Bereits bekannte Einheiten werden dabei aus dem Cache entnommen.
+   Unit<Time> tUnit = UnitUtils.parseUnit(auftrag.tEinheit(), Time.class);
+   Unit<Length> xUnit = UnitUtils.parseUnit(auftrag.xEinheit(), Length.class);
+   Unit<Speed> vUnit = UnitUtils.parseUnit(auftrag.vEinheit(), Speed.class);
+   zeitpunkt = this.metrics.record(Phase.UNITS, zeitpunkt);
+
+   // Die Galileitransformation wird für alle Ereignisse gemeinsam bestimmt.
+   GalileanBoost galileitransformation = GalileanBoostFactory.getBoost(auftrag.vMasszahl(), vUnit);
+
+   // Die Maßzahlen der Koordinaten werden in SI-Einheiten umgerechnet und spaltenweise abgelegt. Die Umrechnungen
+   // werden dabei nur einmal für alle Ereignisse bestimmt.
+   UnitConverter tConverter = QuantityUtils.getSiConverter(tUnit);
+   UnitConverter xConverter = QuantityUtils.getSiConverter(xUnit);
+
+   int anzahl = auftrag.ereignisse().size();
+   double[] t = new double[anzahl];
+   double[] x = new double[anzahl];
+   for (int i = 0; i < anzahl; i++)
+      {
+      Koordinaten koordinaten = auftrag.ereignisse().get(i);
+      t[i] = tConverter.convert(koordinaten.tMasszahl());
+      x[i] = xConverter.convert(koordinaten.xMasszahl());
+      }
+   zeitpunkt = this.metrics.record(Phase.EVENTS, zeitpunkt);
+
+   // Die Ereignisse werden (bei großen Aufträgen parallel im Pool des Services) transformiert und in der
+   // ursprünglichen Reihenfolge zurückgegeben.
+   EventBatch transformierteEreignisse = this.pool.transformAll(galileitransformation, new EventBatch(t, x));
+   this.metrics.record(Phase.BOOST, zeitpunkt);
+   this.metrics.recordBatchSize(anzahl);
+
+   return transformierteEreignisse;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert alle Ereignisse, die im binären Austauschformat <tt>application/x-galilei-events</tt> (siehe
+ * {@link EventBinaryFormat}) übergeben werden, mit derselben Standard-Galileitransformation. Die Geschwindigkeit wird
+ * mithilfe der Request-Parameter bestimmt. Die transformierten Ereignisse werden je nach Accept-Header im binären
+ * Austauschformat oder als JSON zurückgegeben.
+ *
+ * @param vMasszahl  die Maßzahl der Geschwindigkeit
+ * @param vEinheit   die Einheit der Geschwindigkeit
+ * @param ereignisse die zu transformierenden Ereignisse
+ * @return die transformierten Ereignisse in der ursprünglichen Reihenfolge
+ */
+@PostMapping(value = "/transformiereBatch", consumes = EventBinaryFormat.MEDIA_TYPE,
+      produces = {EventBinaryFormat.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+public EventBatch transformiereBatch(@RequestParam(value = "vMasszahl") double vMasszahl,
+      @RequestParam(value = "vEinheit") String vEinheit, @RequestBody EventBatch ereignisse)
    {
-   // Die Einheiten werden bestimmt.
-   Unit<Time> tUnit = AbstractUnit.parse(tEinheit).asType(Time.class);
-   Unit<Length> xUnit = AbstractUnit.parse(xEinheit).asType(Length.class);
-   Unit<Speed> vUnit = AbstractUnit.parse(vEinheit).asType(Speed.class);
+   long zeitpunkt = System.nanoTime();
 
-   // Das originale Ereignis wird mithilfe der Request-Parameter erzeugt.
-   Event originalEvent = EventUtils.createEvent(tMasszahl, tUnit, xMasszahl, xUnit);
+   // Die Galileitransformation wird für alle Ereignisse gemeinsam bestimmt.
+   Unit<Speed> vUnit = UnitUtils.parseUnit(vEinheit, Speed.class);
+   zeitpunkt = this.metrics.record(Phase.UNITS, zeitpunkt);
+   GalileanBoost galileitransformation = GalileanBoostFactory.getBoost(vMasszahl, vUnit);
 
-   // Die Galileitransformation wird mithilfe des letzten Request-Parameters erzeugt.
-   Quantity<Speed> v = QuantityUtils.createSpeedQuantity(vMasszahl, vUnit);
-   GalileanBoost galileitransformation = new GalileanBoost(v);
+   // Die Ereignisse werden (bei großen Aufträgen parallel im Pool des Services) transformiert und in der
+   // ursprünglichen Reihenfolge zurückgegeben.
+   EventBatch transformierteEreignisse = this.pool.transformAll(galileitransformation, ereignisse);
+   this.metrics.record(Phase.BOOST, zeitpunkt);
+   this.metrics.recordBatchSize(ereignisse.size());
 
-   // Das originale Ereignis wird transformiert und das transformierte Ereignis zurückgegeben.
-   return galileitransformation.transform(originalEvent);
+   return transformierteEreignisse;
    }
 }
@@ -0,0 +1,280 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.thkwalter.jackson.EventSerializer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Speed;
+import javax.measure.quantity.Time;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Set;
+
+/**
+ * Diese Klasse implementiert einen Endpunkt, der einen Strom von Ereignissen im Format NDJSON (ein JSON-Objekt pro
+ * Zeile) oder als JSON-Feld transformiert. Jedes Ereignis wird transformiert und ausgegeben, sobald es gelesen worden
+ * ist, so dass der Speicherbedarf unabhängig von der Länge des Stroms ist. Muss auf weitere Ereignisse gewartet werden,
+ * so werden die bereits transformierten Ereignisse vorher an den Client übertragen. Da der Request gelesen wird,
+ * während die Antwort geschrieben wird, blockiert ein langsamer Client das Lesen weiterer Ereignisse (Backpressure). Im
+ * Profil <tt>reactive</tt> wird stattdessen der nicht blockierende {@link ReactiveGalileitransformationService}
+ * verwendet.
+ *
+ * @author Th. K. Walter
+ */
+@RestController
+@Profile("!" + ReactiveGalileitransformationService.PROFILE)
+public class StreamingGalileitransformationService
+{
+/**
+ * Die maximale Anzahl der Ereignisse, die geschrieben werden, bevor die Antwort an den Client übertragen wird
+ */
+private static final int FLUSH_EVENTS = 1024;
+
+/**
+ * Die maximale Zeit (in ns), nach der geschriebene Ereignisse an den Client übertragen werden
+ */
+private static final long FLUSH_NANOS = 50_000_000L;
+
+/**
+ * Dieser {@link InputStream} überträgt die gepufferten Ereignisse eines {@link JsonGenerator}, bevor er auf weitere
+ * Bytes der Eingabe wartet. Liefert die Eingabe gerade keine Bytes, so würde das Lesen blockieren; die Ereignisse
+ * werden daher vorher an den Client übertragen.
+ */
+private static class FlushBeforeBlockingInputStream extends FilterInputStream
+   {
+   /**
+    * Der {@link JsonGenerator}, der die transformierten Ereignisse schreibt
+    */
+   private final JsonGenerator generator;
+
+   /**
+    * Initialisiert den {@link InputStream}.
+    *
+    * @param in        die Eingabe
+    * @param generator der {@link JsonGenerator}, der die transformierten Ereignisse schreibt
+    */
+   private FlushBeforeBlockingInputStream(InputStream in, JsonGenerator generator)
+      {
+      super(in);
+      this.generator = generator;
+      }
+
+   @Override
+   public int read() throws IOException
+      {
+      this.flushBeforeBlocking();
+      return super.read();
+      }
+
+   @Override
+   public int read(byte[] bytes, int offset, int length) throws IOException
+      {
+      this.flushBeforeBlocking();
+      return super.read(bytes, offset, length);
+      }
+
+   /**
+    * Überträgt die gepufferten Ereignisse, falls die Eingabe gerade keine Bytes liefert.
+    *
+    * @throws IOException falls beim Übertragen ein Fehler auftritt
+    */
+   private void flushBeforeBlocking() throws IOException
+      {
+      if (this.generator.getOutputBuffered() != 0 && this.in.available() == 0)
+         {
+         this.generator.flush();
+         }
+      }
+   }
+
+/**
+ * Der {@link ObjectMapper} zum Lesen und Schreiben der Ereignisse
+ */
+private final ObjectMapper objectMapper;
+
+/**
+ * Die Metriken der Transformationsendpunkte
+ */
+private final TransformationMetrics metrics;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Endpunkt.
+ *
+ * @param objectMapper der {@link ObjectMapper} zum Lesen und Schreiben der Ereignisse
+ * @param metrics      die Metriken der Transformationsendpunkte
+ */
+public StreamingGalileitransformationService(ObjectMapper objectMapper, TransformationMetrics metrics)
+   {
+   this.objectMapper = objectMapper;
+   this.metrics = metrics;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert einen Strom von Ereignissen. Die Ereignisse werden wie beim
+ * {@link ReactiveGalileitransformationService} als NDJSON (ein Objekt pro Zeile, siehe {@link Koordinaten}) oder als
+ * JSON-Feld gelesen. Die transformierten Ereignisse werden mit den Koordinaten in SI-Einheiten als NDJSON geschrieben;
+ * lässt der Accept-Header nur JSON zu, so werden sie als JSON-Feld geschrieben.
+ *
+ * @param tEinheit  die Einheit der Zeitkoordinaten
+ * @param xEinheit  die Einheit der Ortskoordinaten
+ * @param vMasszahl die Maßzahl der Geschwindigkeit
+ * @param vEinheit  die Einheit der Geschwindigkeit
+ * @param eingabe   der Request-Body
+ * @param request   der Request, dem die zum Accept-Header passenden Content-Types entnommen werden
+ * @param response  die Antwort
+ * @throws IOException falls beim Lesen oder Schreiben ein Fehler auftritt
+ */
+@PostMapping(value = "/transformiereStream",
+      consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+      produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+public void transformiereStream(@RequestParam(value = "tEinheit") String tEinheit,
+      @RequestParam(value = "xEinheit") String xEinheit, @RequestParam(value = "vMasszahl") double vMasszahl,
+      @RequestParam(value = "vEinheit") String vEinheit, InputStream eingabe, HttpServletRequest request,
+      HttpServletResponse response) throws IOException
+   {
+   // Lässt der Accept-Header NDJSON zu, so wird NDJSON geschrieben.
+   Object producible = request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
+   boolean ndjson = !(producible instanceof Set<?> contentTypes) ||
+         contentTypes.contains(MediaType.APPLICATION_NDJSON);
+
+   response.setContentType(ndjson ? MediaType.APPLICATION_NDJSON_VALUE : MediaType.APPLICATION_JSON_VALUE);
+   this.transformiere(tEinheit, xEinheit, vMasszahl, vEinheit, eingabe, response.getOutputStream(), ndjson);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest Ereignisse im Format NDJSON aus einem {@link InputStream}, transformiert sie und schreibt sie im Format
+ * NDJSON in einen {@link OutputStream}.
+ *
+ * @param tEinheit  die Einheit der Zeitkoordinaten
+ * @param xEinheit  die Einheit der Ortskoordinaten
+ * @param vMasszahl die Maßzahl der Geschwindigkeit
+ * @param vEinheit  die Einheit der Geschwindigkeit
+ * @param eingabe   der Strom der originalen Ereignisse
+ * @param ausgabe   der Strom der transformierten Ereignisse
+ * @throws IOException falls beim Lesen oder Schreiben ein Fehler auftritt
+ */
+public void transformiere(String tEinheit, String xEinheit, double vMasszahl, String vEinheit, InputStream eingabe,
+      OutputStream ausgabe) throws IOException
+   {
+   this.transformiere(tEinheit, xEinheit, vMasszahl, vEinheit, eingabe, ausgabe, true);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest Ereignisse im Format NDJSON oder als JSON-Feld aus einem {@link InputStream}, transformiert sie und schreibt
+ * sie im Format NDJSON oder als JSON-Feld in einen {@link OutputStream}.
+ *
+ * @param tEinheit  die Einheit der Zeitkoordinaten
+ * @param xEinheit  die Einheit der Ortskoordinaten
+ * @param vMasszahl die Maßzahl der Geschwindigkeit
+ * @param vEinheit  die Einheit der Geschwindigkeit
+ * @param eingabe   der Strom der originalen Ereignisse
+ * @param ausgabe   der Strom der transformierten Ereignisse
+ * @param ndjson    <tt>true</tt>, falls die transformierten Ereignisse als NDJSON geschrieben werden, sonst als
+ *                  JSON-Feld
+ * @throws IOException falls beim Lesen oder Schreiben ein Fehler auftritt
+ */
+public void transformiere(String tEinheit, String xEinheit, double vMasszahl, String vEinheit, InputStream eingabe,
+      OutputStream ausgabe, boolean ndjson) throws IOException
+   {
+   // Die Einheiten, die Umrechnungen in SI-Einheiten und die Galileitransformation werden nur einmal bestimmt.
+   long zeitpunkt = System.nanoTime();
+   Unit<Time> tUnit = UnitUtils.parseUnit(tEinheit, Time.class);
+   Unit<Length> xUnit = UnitUtils.parseUnit(xEinheit, Length.class);
+   Unit<Speed> vUnit = UnitUtils.parseUnit(vEinheit, Speed.class);
+   this.metrics.record(TransformationMetrics.Phase.UNITS, zeitpunkt);
+   UnitConverter tConverter = QuantityUtils.getSiConverter(tUnit);
+   UnitConverter xConverter = QuantityUtils.getSiConverter(xUnit);
+   GalileanBoost galileitransformation = GalileanBoostFactory.getBoost(vMasszahl, vUnit);
+
+   // Bevor beim Lesen auf weitere Ereignisse gewartet wird, werden die bereits geschriebenen Ereignisse übertragen,
+   // so dass sie nicht bis zum Eintreffen des nächsten Ereignisses zurückgehalten werden.
+   try (JsonGenerator generator = this.objectMapper.getFactory().createGenerator(ausgabe);
+         MappingIterator<Koordinaten> iterator = this.objectMapper.readerFor(Koordinaten.class).readValues(
+               new FlushBeforeBlockingInputStream(eingabe, generator)))
+      {
+      generator.setRootValueSeparator(null);
+      if (!ndjson)
+         {
+         generator.writeStartArray();
+         }
+
+      int anzahl = 0;
+      int ungesendet = 0;
+      long letzteUebertragung = System.nanoTime();
+
+      // Die Ereignisse werden einzeln gelesen, transformiert und geschrieben.
+      while (iterator.hasNextValue())
+         {
+         Koordinaten koordinaten = iterator.nextValue();
+         double t = tConverter.convert(koordinaten.tMasszahl());
+         double x = galileitransformation.transformX(t, xConverter.convert(koordinaten.xMasszahl()));
+
+         EventSerializer.writeEvent(generator, t, x);
+         if (ndjson)
+            {
+            generator.writeRaw('\n');
+            }
+
+         // Die geschriebenen Ereignisse werden regelmäßig an den Client übertragen.
+         anzahl++;
+         ungesendet++;
+         if (ungesendet >= StreamingGalileitransformationService.FLUSH_EVENTS ||
+               System.nanoTime() - letzteUebertragung >= StreamingGalileitransformationService.FLUSH_NANOS)
+            {
+            generator.flush();
+            ungesendet = 0;
+            letzteUebertragung = System.nanoTime();
+            }
+         }
+
+      if (!ndjson)
+         {
+         generator.writeEndArray();
+         }
+
+      // Da Lesen, Transformieren und Schreiben verzahnt sind, wird nur die Länge des Stroms erfasst.
+      this.metrics.recordBatchSize(anzahl);
+      }
+   }
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import de.thkwalter.cache.LruCacheMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Diese Klasse bündelt die Metriken der Transformationsendpunkte. Die Dauer eines Requests wird nach Phasen (siehe
+ * {@link Phase}) aufgeteilt im Timer <tt>galilei.transformation.phase</tt> erfasst, die Anzahl der Ereignisse pro
+ * Request in <tt>galilei.transformation.batch.size</tt>. Für beide Metriken werden Histogramme veröffentlicht, so dass
+ * sich die Perzentile (und damit die Ursache langer Antwortzeiten) über mehrere Instanzen hinweg aggregieren lassen.
+ * Außerdem werden die Zähler des Einheiten-Caches (siehe {@link UnitUtils#getCache()}) und des Caches der
+ * Galileitransformationen (siehe {@link GalileanBoostFactory#getCache()}) als <tt>cache.*</tt> mit den Tags
+ * <tt>cache=units</tt> bzw. <tt>cache=boosts</tt> veröffentlicht.
+ *
+ * @author Th. K. Walter
+ */
+public class TransformationMetrics
+{
+/**
+ * Der Name des Timers für die Phasen eines Requests
+ */
+public static final String PHASE_TIMER = "galilei.transformation.phase";
+
+/**
+ * Der Name der Verteilung der Anzahl der Ereignisse pro Request
+ */
+public static final String BATCH_SIZE = "galilei.transformation.batch.size";
+
+/**
+ * Der Name des Einheiten-Caches in den Metriken
+ */
+public static final String UNIT_CACHE = "units";
+
+/**
+ * Der Name des Caches der Galileitransformationen in den Metriken
+ */
+public static final String BOOST_CACHE = "boosts";
+
+/**
+ * Der Name des Caches der Ergebnisse (siehe {@link TransformationResultCache}) in den Metriken
+ */
+public static final String RESULT_CACHE = "results";
+
+/**
+ * Die Phasen eines Requests
+ */
+public enum Phase
+   {
+   /**
+    * Das Bestimmen der Einheiten
+    */
+   UNITS("units"),
+
+   /**
+    * Das Erzeugen der Ereignisse bzw. das Umrechnen der Koordinaten in SI-Einheiten
+    */
+   EVENTS("events"),
+
+   /**
+    * Das Berechnen der Galileitransformation
+    */
+   BOOST("boost"),
+
+   /**
+    * Das Serialisieren der transformierten Ereignisse
+    */
+   SERIALIZATION("serialization");
+
+   /**
+    * Der Wert des Tags <tt>phase</tt>
+    */
+   private final String tag;
+
+   Phase(String tag)
+      {
+      this.tag = tag;
+      }
+   }
+
+/**
+ * Die Metriken, die nirgends veröffentlicht werden (siehe {@link #none()})
+ */
+private static final TransformationMetrics NONE = new TransformationMetrics(new CompositeMeterRegistry());
+
+/**
+ * Die Timer der Phasen, indiziert über {@link Phase#ordinal()}
+ */
+private final Timer[] phaseTimers = new Timer[Phase.values().length];
+
+/**
+ * Die Verteilung der Anzahl der Ereignisse pro Request
+ */
+private final DistributionSummary batchSize;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert die Metriken und registriert sie in der übergebenen {@link MeterRegistry}.
+ *
+ * @param registry die {@link MeterRegistry}
+ */
+public TransformationMetrics(MeterRegistry registry)
+   {
+   for (Phase phase : Phase.values())
+      {
+      this.phaseTimers[phase.ordinal()] = Timer.builder(TransformationMetrics.PHASE_TIMER).tag("phase", phase.tag)
+            .description("Die Dauer einer Phase eines Transformationsrequests").publishPercentileHistogram()
+            .register(registry);
+      }
+
+   this.batchSize = DistributionSummary.builder(TransformationMetrics.BATCH_SIZE).baseUnit("events")
+         .description("Die Anzahl der Ereignisse pro Transformationsrequest").publishPercentileHistogram()
+         .register(registry);
+
+   LruCacheMetrics.monitor(registry, UnitUtils.getCache(), TransformationMetrics.UNIT_CACHE);
+   LruCacheMetrics.monitor(registry, GalileanBoostFactory.getCache(), TransformationMetrics.BOOST_CACHE);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt Metriken zurück, die nirgends veröffentlicht werden, z.B. für Tests oder Benchmarks. Es wird immer dieselbe
+ * Instanz zurückgegeben, so dass die Caches nur einmal an eine Registry gebunden werden.
+ *
+ * @return Metriken ohne Wirkung
+ */
+public static TransformationMetrics none()
+   {
+   return TransformationMetrics.NONE;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erfasst die Dauer einer Phase, die zum übergebenen Zeitpunkt begonnen hat, und gibt das Ende der Phase zurück. Der
+ * Rückgabewert kann als Beginn der nächsten Phase verwendet werden.
+ *
+ * @param phase  die Phase
+ * @param beginn der Beginn der Phase (in ns, siehe {@link System#nanoTime()})
+ * @return das Ende der Phase (in ns)
+ */
+public long record(Phase phase, long beginn)
+   {
+   long ende = System.nanoTime();
+   this.phaseTimers[phase.ordinal()].record(ende - beginn, TimeUnit.NANOSECONDS);
+   return ende;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erfasst die Anzahl der Ereignisse eines Requests.
+ *
+ * @param anzahl die Anzahl der Ereignisse
+ */
+public void recordBatchSize(int anzahl)
+   {
+   this.batchSize.record(anzahl);
+   }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Diese Klasse kapselt den {@link ForkJoinPool}, in dem die Endpunkte große Folgen von Ereignissen parallel
+ * transformieren. Der Pool gehört nur dem Service, so dass parallele Requests nicht mit anderen Nutzern des
+ * {@link ForkJoinPool#commonPool()} konkurrieren. Die Anzahl seiner Threads ist fest begrenzt; der Pool legt auch
+ * beim Warten auf Teilaufgaben keine zusätzlichen Threads an.
+ *
+ * @author Th. K. Walter
+ */
+public class TransformationPool implements AutoCloseable
+{
+/**
+ * Der Präfix der Namen der Threads
+ */
+private static final String THREAD_NAME_PREFIX = "galilei-transform-";
+
+/**
+ * Die Zeit in s, nach der ein unbeschäftigter Thread beendet wird
+ */
+private static final long KEEP_ALIVE_SECONDS = 60;
+
+/**
+ * Der {@link ForkJoinPool}
+ */
+private final ForkJoinPool pool;
+
+/**
+ * Die Anzahl der Ereignisse, ab der eine Folge parallel transformiert wird
+ */
+private final int threshold;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Pool.
+ *
+ * @param parallelism die Anzahl der Threads (<tt>0</tt> für die Anzahl der verfügbaren Prozessoren)
+ * @param threshold   die Anzahl der Ereignisse, ab der eine Folge parallel transformiert wird
+ */
+public TransformationPool(int parallelism, int threshold)
+   {
+   // Ist eines der Argumente außerhalb des zulässigen Bereichs, so wird eine Ausnahme geworfen.
+   if (parallelism < 0 || threshold <= 0)
+      {
+      throw new IllegalArgumentException("Die Argumente 'parallelism' und 'threshold' sind ungültig!");
+      }
+
+   int threads = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+   this.pool = new ForkJoinPool(threads, TransformationPool::newThread, null, false, 0, threads, 1, pool -> true,
+         TransformationPool.KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+   this.threshold = threshold;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert eine Folge von Ereignissen mit einer Standard-Galileitransformation. Ab {@link #getThreshold()}
+ * Ereignissen wird die Folge aufgeteilt und in diesem Pool parallel transformiert.
+ *
+ * @param boost  die Standard-Galileitransformation
+ * @param events die Folge von Ereignissen
+ * @return die übergebene Folge von Ereignissen mit den transformierten Ortskoordinaten
+ */
+public EventBatch transformAll(GalileanBoost boost, EventBatch events)
+   {
+   return boost.transformAll(events, this.pool, this.threshold);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt den {@link ForkJoinPool} zurück.
+ *
+ * @return der {@link ForkJoinPool}
+ */
+public ForkJoinPool getPool()
+   {
+   return this.pool;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt die Anzahl der Ereignisse zurück, ab der eine Folge parallel transformiert wird.
+ *
+ * @return die Anzahl der Ereignisse
+ */
+public int getThreshold()
+   {
+   return this.threshold;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Fährt den Pool herunter. Bereits begonnene Transformationen werden noch beendet.
+ */
+@Override
+public void close()
+   {
+   this.pool.shutdown();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt einen Thread des Pools mit einem sprechenden Namen.
+ *
+ * @param pool der {@link ForkJoinPool}
+ * @return der Thread
+ */
+private static ForkJoinWorkerThread newThread(ForkJoinPool pool)
+   {
+   ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+   thread.setName(TransformationPool.THREAD_NAME_PREFIX + thread.getPoolIndex());
+   return thread;
+   }
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import de.thkwalter.cache.LruCache;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Diese Klasse speichert die Ergebnisse von <tt>/transformiere</tt> zwischen. Dashboards fragen häufig immer wieder
+ * dieselben Referenzereignisse ab; der Schlüssel ist daher das Tripel aus Zeitkoordinate, Ortskoordinate und
+ * Geschwindigkeit in SI-Einheiten, so dass dieselbe Anfrage in verschiedenen Einheiten denselben Eintrag trifft. Die
+ * Einträge werden nach der maximalen Größe (least recently used) und nach Ablauf ihrer Lebensdauer verdrängt. Der Cache
+ * ist optional; mit der Größe <tt>0</tt> ist er abgeschaltet.
+ *
+ * @author Th. K. Walter
+ */
+public class TransformationResultCache
+{
+/**
+ * Der Schlüssel eines Ergebnisses
+ *
+ * @param t die Maßzahl der Zeitkoordinate in s
+ * @param x die Maßzahl der Ortskoordinate in m
+ * @param v die Maßzahl der Geschwindigkeit in m/s
+ */
+public record Key(double t, double x, double v)
+   {
+   /**
+    * Initialisiert den Schlüssel. Durch die Addition von 0.0 wird -0.0 auf 0.0 abgebildet, so dass beide Werte
+    * denselben Schlüssel ergeben.
+    */
+   public Key
+      {
+      t += 0.0;
+      x += 0.0;
+      v += 0.0;
+      }
+
+   /**
+    * Die Version des Services, mit der die Entity-Tags beginnen. Sie wird dem Manifest entnommen; außerhalb eines
+    * Jar-Archivs (z. B. in den Tests) wird <tt>dev</tt> verwendet.
+    */
+   private static final String VERSION = Key.version();
+
+   /**
+    * Gibt den Entity-Tag des Ergebnisses zurück. Er besteht aus der Version des Services und den Maßzahlen in
+    * SI-Einheiten. Er ist daher auf allen Instanzen derselben Version gleich; nach einem Update des Services wird
+    * ein Ergebnis, das Clients zwischengespeichert haben, erneut übertragen.
+    *
+    * @return der Entity-Tag (ohne Anführungszeichen)
+    */
+   public String etag()
+      {
+      return Key.VERSION + "-" + Long.toHexString(Double.doubleToLongBits(this.t)) + "-" +
+            Long.toHexString(Double.doubleToLongBits(this.x)) + "-" + Long.toHexString(Double.doubleToLongBits(this.v));
+      }
+
+   /**
+    * Bestimmt die Version des Services für die Entity-Tags.
+    *
+    * @return die Version aus dem Manifest oder <tt>dev</tt>, falls sie nicht verfügbar ist
+    */
+   private static String version()
+      {
+      String version = Key.class.getPackage().getImplementationVersion();
+      return version == null ? "dev" : version;
+      }
+   }
+
+/**
+ * Ein Eintrag des Caches
+ *
+ * @param event   das transformierte Ereignis
+ * @param expires der Zeitpunkt (in ns, siehe {@link System#nanoTime()}), an dem der Eintrag abläuft
+ */
+private record Entry(Event event, long expires) {}
+
+/**
+ * Der Cache der Ergebnisse oder <tt>null</tt>, falls der Cache abgeschaltet ist
+ */
+private final LruCache<Key, Entry> cache;
+
+/**
+ * Die Lebensdauer eines Eintrags in ns
+ */
+private final long ttlNanos;
+
+/**
+ * Die Uhr, mit der die Lebensdauer der Einträge gemessen wird
+ */
+private final LongSupplier clock;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Cache.
+ *
+ * @param maximumSize die maximale Anzahl der Einträge (<tt>0</tt> schaltet den Cache ab)
+ * @param ttl         die Lebensdauer eines Eintrags
+ */
+public TransformationResultCache(int maximumSize, Duration ttl)
+   {
+   this(maximumSize, ttl, System::nanoTime);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Initialisiert den Cache mit einer vorgegebenen Uhr.
+ *
+ * @param maximumSize die maximale Anzahl der Einträge (<tt>0</tt> schaltet den Cache ab)
+ * @param ttl         die Lebensdauer eines Eintrags
+ * @param clock       die Uhr in ns
+ */
+TransformationResultCache(int maximumSize, Duration ttl, LongSupplier clock)
+   {
+   this.cache = maximumSize > 0 ? new LruCache<>(maximumSize) : null;
+   this.ttlNanos = ttl.toNanos();
+   this.clock = clock;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt einen abgeschalteten Cache zurück.
+ *
+ * @return ein Cache, der keine Ergebnisse speichert
+ */
+public static TransformationResultCache disabled()
+   {
+   return new TransformationResultCache(0, Duration.ZERO);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt das zwischengespeicherte Ergebnis zum übergebenen Schlüssel zurück. Ein abgelaufener Eintrag wird entfernt
+ * und als Fehlschlag gezählt.
+ *
+ * @param key der Schlüssel
+ * @return das transformierte Ereignis oder <tt>null</tt>, falls es nicht (mehr) im Cache enthalten ist
+ */
+public Event getIfPresent(Key key)
+   {
+   // Ist der Cache abgeschaltet, so wird kein Ergebnis zurückgegeben.
+   if (this.cache == null)
+      {
+      return null;
+      }
+
+   // Ein abgelaufener Eintrag wird entfernt und als Fehlschlag gezählt.
+   long jetzt = this.clock.getAsLong();
+   Entry entry = this.cache.getIfPresent(key, eintrag -> jetzt - eintrag.expires() < 0);
+   return entry == null ? null : entry.event();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Speichert ein Ergebnis zwischen.
+ *
+ * @param key   der Schlüssel
+ * @param event das transformierte Ereignis
+ */
+public void put(Key key, Event event)
+   {
+   if (this.cache != null)
+      {
+      this.cache.put(key, new Entry(event, this.clock.getAsLong() + this.ttlNanos));
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt den zugrunde liegenden {@link LruCache} zurück, z.B. um ihn in den Metriken zu veröffentlichen.
+ *
+ * @return der {@link LruCache} oder <tt>null</tt>, falls der Cache abgeschaltet ist
+ */
+public LruCache<?, ?> getCache()
+   {
+   return this.cache;
+   }
+}
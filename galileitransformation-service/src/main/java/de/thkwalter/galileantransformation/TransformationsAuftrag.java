@@ -0,0 +1,33 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import java.util.List;
+
+/**
+ * Diese Klasse repräsentiert einen Auftrag, eine Liste von Ereignissen mit derselben Standard-Galileitransformation zu
+ * transformieren. Die Einheiten der Koordinaten gelten für alle Ereignisse der Liste.
+ *
+ * @author Th. K. Walter
+ *
+ * @param tEinheit   die Einheit der Zeitkoordinaten
+ * @param xEinheit   die Einheit der Ortskoordinaten
+ * @param vMasszahl  die Maßzahl der Geschwindigkeit
+ * @param vEinheit   die Einheit der Geschwindigkeit
+ * @param ereignisse die Maßzahlen der Koordinaten der zu transformierenden Ereignisse
+ */
+public record TransformationsAuftrag(String tEinheit, String xEinheit, double vMasszahl, String vEinheit,
+      List<Koordinaten> ereignisse) {}
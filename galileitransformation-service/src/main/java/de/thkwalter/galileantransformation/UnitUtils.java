@@ -0,0 +1,87 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import de.thkwalter.cache.LruCache;
+import tech.units.indriya.AbstractUnit;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+/**
+ * Diese Klasse enthält Methoden, um den Umgang mit {@link Unit}--Objekten zu erleichtern. Da das Parsen von Einheiten
+ * aufwendig ist und in der Praxis nur wenige verschiedene Einheiten verwendet werden, werden die geparsten Einheiten
+ * in einem {@link LruCache} zwischengespeichert.
+ *
+ * @author Th. K. Walter
+ */
+public class UnitUtils
+{
+/**
+ * Die maximale Anzahl der zwischengespeicherten Einheiten
+ */
+public static final int CACHE_SIZE = 256;
+
+/**
+ * Der Cache der geparsten Einheiten
+ */
+private static final LruCache<UnitKey, Unit<?>> cache = new LruCache<>(UnitUtils.CACHE_SIZE);
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Der Schlüssel einer geparsten Einheit im Cache
+ *
+ * @param symbol das Symbol der Einheit
+ * @param type   der Typ der physikalischen Größe, dem die Einheit zugeordnet ist
+ */
+private record UnitKey(String symbol, Class<?> type) {}
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Diese Methode bestimmt die Einheit zu einem Symbol (z.B. <tt>km</tt> oder <tt>m/s</tt>) und ordnet sie dem
+ * übergebenen Typ einer physikalischen Größe zu. Wurde dieselbe Einheit für denselben Typ bereits bestimmt, so wird
+ * sie aus dem Cache zurückgegeben.
+ *
+ * @param symbol das Symbol der Einheit
+ * @param type   der Typ der physikalischen Größe
+ * @return die Einheit
+ * @throws javax.measure.format.MeasurementParseException falls das Symbol nicht erkannt wird
+ * @throws ClassCastException falls die Einheit nicht zum Typ der physikalischen Größe passt
+ */
+@SuppressWarnings("unchecked")
+public static <Q extends Quantity<Q>> Unit<Q> parseUnit(String symbol, Class<Q> type)
+   {
+   return (Unit<Q>) UnitUtils.cache.get(new UnitKey(symbol, type),
+         key -> AbstractUnit.parse(symbol).asType(type));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt den Cache der geparsten Einheiten zurück, z.B. um die Anzahl der Treffer und Fehlschläge abzufragen.
+ *
+ * @return der Cache der geparsten Einheiten
+ */
+public static LruCache<?, ?> getCache()
+   {
+   return UnitUtils.cache;
+   }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Speed;
+
+/**
+ * Diese Klasse repräsentiert einen Geschwindigkeitsvektor im dreidimensionalen Raum. Die Komponenten werden als
+ * Maßzahlen in der SI-Einheit m/s gespeichert.
+ *
+ * @author Th. K. Walter
+ *
+ * @param vx die x-Komponente in m/s
+ * @param vy die y-Komponente in m/s
+ * @param vz die z-Komponente in m/s
+ */
+public record Velocity(double vx, double vy, double vz)
+{
+/**
+ * Erzeugt einen Geschwindigkeitsvektor, dessen Komponenten in der übergebenen Einheit angegeben sind.
+ *
+ * @param vx   die x-Komponente
+ * @param vy   die y-Komponente
+ * @param vz   die z-Komponente
+ * @param unit die Einheit der Komponenten
+ * @return der Geschwindigkeitsvektor mit den Komponenten in m/s
+ */
+public static Velocity of(double vx, double vy, double vz, Unit<Speed> unit)
+   {
+   return new Velocity(QuantityUtils.toSiDouble(vx, unit), QuantityUtils.toSiDouble(vy, unit),
+         QuantityUtils.toSiDouble(vz, unit));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Gibt den Betrag der Geschwindigkeit zurück.
+ *
+ * @return der Betrag in m/s
+ */
+public double norm()
+   {
+   return Math.sqrt(this.vx * this.vx + this.vy * this.vy + this.vz * this.vz);
+   }
+}
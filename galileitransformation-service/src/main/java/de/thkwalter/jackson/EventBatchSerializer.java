@@ -0,0 +1,47 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import de.thkwalter.galileantransformation.EventBatch;
+
+import java.io.IOException;
+
+/**
+ * Diese Klasse serialisiert {@link EventBatch}-Objekte für den Jackson-Serializer als JSON-Feld von Ereignissen im
+ * Aufbau des {@link EventSerializer}, ohne dafür {@link de.thkwalter.galileantransformation.Event}-Objekte zu
+ * erzeugen.
+ *
+ * @author Th. K. Walter
+ */
+public class EventBatchSerializer extends JsonSerializer<EventBatch>
+{
+@Override
+public void serialize(EventBatch events, JsonGenerator gen, SerializerProvider serializers) throws IOException
+   {
+   double[] t = events.getT();
+   double[] x = events.getX();
+
+   gen.writeStartArray(events, events.size());
+   for (int i = 0; i < events.size(); i++)
+      {
+      EventSerializer.writeEvent(gen, t[i], x[i]);
+      }
+   gen.writeEndArray();
+   }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import de.thkwalter.galileantransformation.Event;
+import de.thkwalter.galileantransformation.EventUtils;
+
+import java.io.IOException;
+
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Diese Klasse deserialisiert {@link Event}-Objekte für den Jackson-Deserializer. Erwartet wird der Aufbau, den der
+ * {@link EventSerializer} erzeugt, d.h. <tt>{"t":..,"x":..}</tt> mit den Koordinaten in SI-Einheiten. Die Werte
+ * werden direkt als primitive Zahlen aus dem {@link JsonParser} gelesen.
+ *
+ * @author Th. K. Walter
+ */
+public class EventDeserializer extends JsonDeserializer<Event>
+{
+@Override
+public Event deserialize(JsonParser parser, DeserializationContext context) throws IOException
+   {
+   // Steht der Parser am Beginn eines Objekts, so wird das erste Feld gelesen.
+   JsonToken token = parser.currentToken();
+   if (token == JsonToken.START_OBJECT)
+      {
+      token = parser.nextToken();
+      }
+
+   double t = 0.0;
+   double x = 0.0;
+   boolean tGelesen = false;
+   boolean xGelesen = false;
+
+   // Die Felder des Objekts werden gelesen. Unbekannte Felder werden übersprungen.
+   for (; token == JsonToken.FIELD_NAME; token = parser.nextToken())
+      {
+      String name = parser.currentName();
+      parser.nextToken();
+      switch (name)
+         {
+         case "t" ->
+            {
+            t = parser.getDoubleValue();
+            tGelesen = true;
+            }
+         case "x" ->
+            {
+            x = parser.getDoubleValue();
+            xGelesen = true;
+            }
+         default -> parser.skipChildren();
+         }
+      }
+
+   // Fehlt eine der Koordinaten, so wird eine Ausnahme geworfen.
+   if (!tGelesen || !xGelesen)
+      {
+      return context.reportInputMismatch(Event.class, "Ein Ereignis muss die Felder 't' und 'x' enthalten!");
+      }
+
+   return EventUtils.createEvent(t, SECOND, x, METRE);
+   }
+}
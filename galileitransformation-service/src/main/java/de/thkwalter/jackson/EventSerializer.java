@@ -0,0 +1,59 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import de.thkwalter.galileantransformation.Event;
+import de.thkwalter.galileantransformation.QuantityUtils;
+
+import java.io.IOException;
+
+/**
+ * Diese Klasse serialisiert {@link Event}-Objekte für den Jackson-Serializer. Die Koordinaten werden als Maßzahlen in
+ * SI-Einheiten direkt in den {@link JsonGenerator} geschrieben, d.h. <tt>{"t":..,"x":..}</tt>.
+ *
+ * @author Th. K. Walter
+ */
+public class EventSerializer extends JsonSerializer<Event>
+{
+@Override
+public void serialize(Event event, JsonGenerator gen, SerializerProvider serializers) throws IOException
+   {
+   EventSerializer.writeEvent(gen, QuantityUtils.toSiDouble(event.t()), QuantityUtils.toSiDouble(event.x()));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Schreibt ein Ereignis, dessen Koordinaten als Maßzahlen in SI-Einheiten vorliegen, in denselben JSON-Objekt-Aufbau
+ * wie {@link #serialize(Event, JsonGenerator, SerializerProvider)}.
+ *
+ * @param gen der {@link JsonGenerator}
+ * @param t   die Maßzahl der Zeitkoordinate in s
+ * @param x   die Maßzahl der Ortskoordinate in m
+ * @throws IOException falls beim Schreiben ein Fehler auftritt
+ */
+public static void writeEvent(JsonGenerator gen, double t, double x) throws IOException
+   {
+   gen.writeStartObject();
+   gen.writeNumberField("t", t);
+   gen.writeNumberField("x", x);
+   gen.writeEndObject();
+   }
+}
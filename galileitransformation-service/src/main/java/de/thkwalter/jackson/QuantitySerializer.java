@@ -18,6 +18,7 @@ package de.thkwalter.jackson;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import de.thkwalter.galileantransformation.QuantityUtils;
 
 import javax.measure.Quantity;
 import java.io.IOException;
@@ -32,7 +33,7 @@ public class QuantitySerializer<Q extends Quantity<Q>> extends JsonSerializer<Qu
 @Override
 public void serialize(Quantity<Q> quantity, JsonGenerator gen, SerializerProvider serializers) throws IOException
    {
-   // Der Wert der Größe wird in der Grundeinheit ausgegeben.
-   gen.writeNumber(quantity.toSystemUnit().getValue().doubleValue());
+   // Der Wert der Größe wird in der Grundeinheit ausgegeben, ohne dafür ein neues Quantity-Objekt zu erzeugen.
+   gen.writeNumber(QuantityUtils.toSiDouble(quantity));
    }
 }
@@ -0,0 +1,45 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.binary;
+
+import de.thkwalter.galileantransformation.EventBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Testklasse für die Klasse {@link EventBatchHttpMessageConverter}.
+ *
+ * @author Th. K. Walter
+ */
+class EventBatchHttpMessageConverterTest
+{
+@Test
+@DisplayName("Testet die Umrechnung einer Nachricht mit Einheiten, die keine SI-Einheiten sind")
+void testToEventBatch()
+   {
+   // Eine Nachricht mit den Einheiten ms und km wird erzeugt.
+   EventColumns columns = new EventColumns("ms", "km", new double[] {2000.0}, new double[] {-0.004});
+
+   // Die zu testende Methode wird aufgerufen.
+   EventBatch events = EventBatchHttpMessageConverter.toEventBatch(columns);
+
+   // Die Koordinaten müssen in SI-Einheiten umgerechnet worden sein.
+   assertArrayEquals(new double[] {2.0}, events.getT(), 1E-12);
+   assertArrayEquals(new double[] {-4.0}, events.getX(), 1E-12);
+   }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.binary;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testklasse für die Klasse {@link EventBinaryFormat}.
+ *
+ * @author Th. K. Walter
+ */
+class EventBinaryFormatTest
+{
+@Test
+@DisplayName("Testet, ob eine geschriebene Folge von Ereignissen unverändert gelesen wird")
+void testWriteRead() throws IOException
+   {
+   // Eine Folge mit mehr Ereignissen als in einen Abschnitt passen wird erzeugt.
+   Random random = new Random(5L);
+   double[] t = random.doubles(10_000, -100, 100).toArray();
+   double[] x = random.doubles(10_000, -100, 100).toArray();
+
+   // Die Folge wird geschrieben und wieder gelesen.
+   ByteArrayOutputStream out = new ByteArrayOutputStream();
+   EventBinaryFormat.write(new EventColumns("s", "m", t, x), out);
+   EventColumns events = EventBinaryFormat.read(new ByteArrayInputStream(out.toByteArray()));
+
+   // Die Größe der Nachricht und die Koordinaten werden geprüft.
+   assertEquals(13 + 16 * 10_000, out.size());
+   assertArrayEquals(t, events.t());
+   assertArrayEquals(x, events.x());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet, ob die Einheiten einer Nachricht unverändert geschrieben und gelesen werden")
+void testWriteReadMitEinheiten() throws IOException
+   {
+   // Eine Folge von Ereignissen in ms und km wird geschrieben.
+   ByteArrayOutputStream out = new ByteArrayOutputStream();
+   EventBinaryFormat.write(new EventColumns("ms", "km", new double[] {2000.0}, new double[] {-0.004}), out);
+
+   // Die Nachricht wird Byte für Byte mit dem Format verglichen.
+   ByteBuffer buffer = ByteBuffer.allocate(15 + 16).order(ByteOrder.LITTLE_ENDIAN);
+   buffer.put(new byte[] {'G', 'A', 'L', 'E', 1}).putInt(1);
+   buffer.put((byte) 2).put(new byte[] {'m', 's'}).put((byte) 2).put(new byte[] {'k', 'm'});
+   buffer.putDouble(2000.0).putDouble(-0.004);
+   assertArrayEquals(buffer.array(), out.toByteArray());
+
+   // Beim Lesen werden die Einheiten und Maßzahlen nicht umgerechnet.
+   EventColumns events = EventBinaryFormat.read(new ByteArrayInputStream(buffer.array()));
+   assertEquals("ms", events.tEinheit());
+   assertEquals("km", events.xEinheit());
+   assertArrayEquals(new double[] {2000.0}, events.t());
+   assertArrayEquals(new double[] {-0.004}, events.x());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet das Lesen fehlerhafter Nachrichten")
+void testReadFehlerhaft() throws IOException
+   {
+   // Eine gültige Nachricht mit einem Ereignis wird erzeugt.
+   ByteArrayOutputStream out = new ByteArrayOutputStream();
+   EventBinaryFormat.write(new EventColumns("s", "m", new double[] {1.0}, new double[] {2.0}), out);
+   byte[] bytes = out.toByteArray();
+
+   // Eine abgeschnittene Nachricht führt zu einer EOFException.
+   assertThrows(EOFException.class, () -> EventBinaryFormat.read(new ByteArrayInputStream(Arrays.copyOf(bytes,
+         bytes.length - 1))));
+
+   // Eine falsche Kennung führt zu einer IOException.
+   bytes[0] = 'X';
+   assertThrows(IOException.class, () -> EventBinaryFormat.read(new ByteArrayInputStream(bytes)));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Eine zu große oder nicht durch Daten gedeckte Anzahl von Ereignissen wird abgewiesen")
+void testReadAnzahl()
+   {
+   // Der Kopf kündigt 200 Millionen Ereignisse an, ohne dass Daten folgen.
+   byte[] kopf = EventBinaryFormat.header(200_000_000);
+
+   // Ohne Daten endet die Nachricht vorzeitig, ohne dass Felder für alle Ereignisse angelegt werden.
+   assertThrows(EOFException.class, () -> EventBinaryFormat.read(new ByteArrayInputStream(kopf), Integer.MAX_VALUE));
+
+   // Mehr Ereignisse als erlaubt führen zu einer IOException, bevor Daten gelesen werden.
+   IOException exception = assertThrows(IOException.class,
+         () -> EventBinaryFormat.read(new ByteArrayInputStream(kopf)));
+   assertTrue(exception.getMessage().contains("200000000"));
+   }
+}
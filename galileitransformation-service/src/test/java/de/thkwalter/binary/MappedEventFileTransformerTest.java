@@ -0,0 +1,164 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.binary;
+
+import de.thkwalter.galileantransformation.GalileanBoost;
+import de.thkwalter.galileantransformation.GalileanBoostFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testklasse für die Klasse {@link MappedEventFileTransformer}.
+ *
+ * @author Th. K. Walter
+ */
+class MappedEventFileTransformerTest
+{
+/**
+ * Die Anzahl der Ereignisse in den Testdateien (mehr als in ein Fenster und in einen Abschnitt passen)
+ */
+private static final int SIZE = 10_001;
+
+/**
+ * Ein temporäres Verzeichnis für die Testdateien
+ */
+@TempDir
+Path verzeichnis;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet die Transformation in eine Ausgabedatei über mehrere Fenster")
+void testTransformOutput() throws IOException
+   {
+   // Die Testdatei wird geschrieben.
+   double[] paare = new Random(3L).doubles(2 * MappedEventFileTransformerTest.SIZE, -100, 100).toArray();
+   Path eingabe = this.schreibe("eingabe.bin", paare);
+   Path ausgabe = this.verzeichnis.resolve("ausgabe.bin");
+
+   // Die zu testende Methode wird aufgerufen. Ein Fenster umfasst 1000 Ereignisse.
+   GalileanBoost boost = GalileanBoostFactory.getBoost(2.5);
+   long anzahl = new MappedEventFileTransformer(boost, 16_000).transform(eingabe, ausgabe);
+
+   // Die Eingabedatei bleibt unverändert, die Ausgabedatei enthält die transformierten Ereignisse.
+   assertEquals(MappedEventFileTransformerTest.SIZE, anzahl);
+   assertArrayEquals(paare, this.lies(eingabe));
+   assertArrayEquals(MappedEventFileTransformerTest.transformiere(boost, paare), this.lies(ausgabe));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet die Transformation, bei der die Eingabedatei überschrieben wird")
+void testTransformInPlace() throws IOException
+   {
+   // Die Testdatei wird geschrieben.
+   double[] paare = new Random(4L).doubles(2 * MappedEventFileTransformerTest.SIZE, -100, 100).toArray();
+   Path datei = this.schreibe("ereignisse.bin", paare);
+
+   // Die zu testende Methode wird über die Kommandozeile aufgerufen.
+   long anzahl = MappedEventFileTransformer.run("-1.5", "km/s", datei.toString());
+
+   // Die Ortskoordinaten in der Datei sind transformiert.
+   assertEquals(MappedEventFileTransformerTest.SIZE, anzahl);
+   assertArrayEquals(MappedEventFileTransformerTest.transformiere(GalileanBoostFactory.getBoost(-1500.0), paare),
+         this.lies(datei));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet, ob eine Datei mit einem unvollständigen Ereignis abgewiesen wird")
+void testTransformUnvollstaendig() throws IOException
+   {
+   Path datei = Files.write(this.verzeichnis.resolve("kaputt.bin"), new byte[24]);
+
+   MappedEventFileTransformer transformer = new MappedEventFileTransformer(GalileanBoostFactory.getBoost(1.0));
+   assertThrows(IOException.class, () -> transformer.transform(datei));
+   assertThrows(IllegalArgumentException.class, () -> MappedEventFileTransformer.run("1.0", "m/s"));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Schreibt eine Testdatei.
+ *
+ * @param name  der Name der Datei
+ * @param paare die Paare von Zeit- und Ortskoordinaten
+ * @return der Pfad der Datei
+ * @throws IOException falls beim Schreiben ein Fehler auftritt
+ */
+private Path schreibe(String name, double[] paare) throws IOException
+   {
+   ByteBuffer buffer = ByteBuffer.allocate(8 * paare.length).order(ByteOrder.LITTLE_ENDIAN);
+   buffer.asDoubleBuffer().put(paare);
+   return Files.write(this.verzeichnis.resolve(name), buffer.array());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest eine Testdatei.
+ *
+ * @param datei der Pfad der Datei
+ * @return die Paare von Zeit- und Ortskoordinaten
+ * @throws IOException falls beim Lesen ein Fehler auftritt
+ */
+private double[] lies(Path datei) throws IOException
+   {
+   byte[] bytes = Files.readAllBytes(datei);
+   double[] paare = new double[bytes.length / 8];
+   ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(paare);
+   return paare;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Transformiert die Paare von Zeit- und Ortskoordinaten mit einer Galileitransformation.
+ *
+ * @param boost die Galileitransformation
+ * @param paare die Paare von Zeit- und Ortskoordinaten
+ * @return die transformierten Paare
+ */
+private static double[] transformiere(GalileanBoost boost, double[] paare)
+   {
+   double[] erwartet = paare.clone();
+   for (int i = 0; i < erwartet.length; i += 2)
+      {
+      erwartet[i + 1] = boost.transformX(erwartet[i], erwartet[i + 1]);
+      }
+   return erwartet;
+   }
+}
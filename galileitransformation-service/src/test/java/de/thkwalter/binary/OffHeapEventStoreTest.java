@@ -0,0 +1,212 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.binary;
+
+import de.thkwalter.galileantransformation.EventBatch;
+import de.thkwalter.galileantransformation.GalileanBoost;
+import de.thkwalter.galileantransformation.GalileanBoostFactory;
+import de.thkwalter.galileantransformation.GalileanTransformation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testklasse für die Klasse {@link OffHeapEventStore}.
+ *
+ * @author Th. K. Walter
+ */
+class OffHeapEventStoreTest
+{
+/**
+ * Die Anzahl der Ereignisse (mehr als in zwei Segmente passen)
+ */
+private static final int SIZE = 2_501;
+
+/**
+ * Die Anzahl der Ereignisse eines Segments
+ */
+private static final int SEGMENT_EVENTS = 1_000;
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet die Transformation in eine andere Folge über mehrere Segmente")
+void testTransformTo()
+   {
+   EventBatch events = OffHeapEventStoreTest.erzeugeEreignisse(5L);
+   OffHeapEventStore store = new OffHeapEventStore(OffHeapEventStoreTest.SEGMENT_EVENTS);
+   store.addAll(events);
+
+   // Die zu testende Methode wird zweimal mit derselben Zielfolge aufgerufen.
+   GalileanTransformation transformation = GalileanTransformation.boost(2.0)
+         .andThen(GalileanTransformation.timeTranslation(-1.0)).andThen(GalileanTransformation.reflection());
+   OffHeapEventStore target = new OffHeapEventStore(OffHeapEventStoreTest.SEGMENT_EVENTS);
+   store.transformTo(GalileanTransformation.boost(7.0), target);
+   store.transformTo(transformation, target);
+
+   // Die originale Folge bleibt unverändert, die Zielfolge enthält die transformierten Ereignisse.
+   assertArrayEquals(events.getX(), OffHeapEventStoreTest.liesX(store));
+   EventBatch erwartet = transformation.transform(new EventBatch(events.getT().clone(), events.getX().clone()));
+   assertEquals(OffHeapEventStoreTest.SIZE, target.size());
+   assertArrayEquals(erwartet.getT(), OffHeapEventStoreTest.liesT(target));
+   assertArrayEquals(erwartet.getX(), OffHeapEventStoreTest.liesX(target));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet die Standard-Galileitransformation in der Folge selbst")
+void testTransformBoost()
+   {
+   EventBatch events = OffHeapEventStoreTest.erzeugeEreignisse(6L);
+   OffHeapEventStore store = new OffHeapEventStore(OffHeapEventStoreTest.SEGMENT_EVENTS);
+   store.addAll(events);
+
+   // Die zu testende Methode wird aufgerufen.
+   GalileanBoost boost = GalileanBoostFactory.getBoost(-3.5);
+   store.transform(boost);
+
+   // Die Ortskoordinaten sind wie bei einer EventBatch transformiert.
+   boost.transform(events);
+   assertArrayEquals(events.getT(), OffHeapEventStoreTest.liesT(store));
+   assertArrayEquals(events.getX(), OffHeapEventStoreTest.liesX(store));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Die Ereignisse werden im binären Austauschformat geschrieben")
+void testWriteTo() throws IOException
+   {
+   EventBatch events = OffHeapEventStoreTest.erzeugeEreignisse(7L);
+   OffHeapEventStore store = new OffHeapEventStore(OffHeapEventStoreTest.SEGMENT_EVENTS);
+   store.addAll(events);
+
+   // Die zu testende Methode wird aufgerufen.
+   ByteArrayOutputStream out = new ByteArrayOutputStream();
+   store.writeTo(Channels.newChannel(out));
+
+   // Die geschriebenen Ereignisse werden mit dem binären Austauschformat gelesen.
+   EventColumns gelesen = EventBinaryFormat.read(new ByteArrayInputStream(out.toByteArray()));
+   assertArrayEquals(events.getT(), gelesen.t());
+   assertArrayEquals(events.getX(), gelesen.x());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Nach clear ist die Folge leer und ein Zugriff außerhalb der Folge führt zu einer Ausnahme")
+void testClear()
+   {
+   OffHeapEventStore store = new OffHeapEventStore(OffHeapEventStoreTest.SEGMENT_EVENTS);
+   store.add(1.0, 2.0);
+   assertEquals(2.0, store.getX(0));
+
+   // Die zu testende Methode wird aufgerufen.
+   store.clear();
+
+   assertEquals(0, store.size());
+   assertThrows(IndexOutOfBoundsException.class, () -> store.getT(0));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Nach close ist die Folge leer und kann nicht mehr verwendet werden")
+void testClose()
+   {
+   OffHeapEventStore store = new OffHeapEventStore(OffHeapEventStoreTest.SEGMENT_EVENTS);
+   store.addAll(OffHeapEventStoreTest.erzeugeEreignisse(9L));
+
+   // Die zu testende Methode wird zweimal aufgerufen.
+   store.close();
+   store.close();
+
+   assertEquals(0, store.size());
+   assertThrows(IllegalStateException.class, () -> store.add(1.0, 2.0));
+   assertThrows(IllegalStateException.class, () -> store.getT(0));
+   assertThrows(IllegalStateException.class,
+         () -> store.transformTo(GalileanTransformation.boost(1.0), new OffHeapEventStore()));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Erzeugt eine Folge von zufälligen Ereignissen.
+ *
+ * @param seed der Startwert des Zufallszahlengenerators
+ * @return die Folge von Ereignissen
+ */
+private static EventBatch erzeugeEreignisse(long seed)
+   {
+   Random random = new Random(seed);
+   return new EventBatch(random.doubles(OffHeapEventStoreTest.SIZE, -100, 100).toArray(),
+         random.doubles(OffHeapEventStoreTest.SIZE, -100, 100).toArray());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest die Maßzahlen der Zeitkoordinaten einer Folge.
+ *
+ * @param store die Folge
+ * @return die Maßzahlen der Zeitkoordinaten in s
+ */
+private static double[] liesT(OffHeapEventStore store)
+   {
+   double[] t = new double[(int) store.size()];
+   for (int i = 0; i < t.length; i++)
+      {
+      t[i] = store.getT(i);
+      }
+   return t;
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest die Maßzahlen der Ortskoordinaten einer Folge.
+ *
+ * @param store die Folge
+ * @return die Maßzahlen der Ortskoordinaten in m
+ */
+private static double[] liesX(OffHeapEventStore store)
+   {
+   double[] x = new double[(int) store.size()];
+   for (int i = 0; i < x.length; i++)
+      {
+      x[i] = store.getX(i);
+      }
+   return x;
+   }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse enthält JUnit-Tests für die Klasse {@link LruCache}.
+ *
+ * @author Th. K. Walter
+ */
+class LruCacheTest
+{
+@Test
+@DisplayName("Testet das Zählen von Treffern und Fehlschlägen")
+void testGet()
+   {
+   // Ein Cache wird erzeugt.
+   LruCache<String, Integer> cache = new LruCache<>(4);
+
+   // Die zu testende Methode wird aufgerufen.
+   assertEquals(1, cache.get("a", String::length));
+   assertEquals(1, cache.get("a", key -> 42));
+   assertEquals(2, cache.get("bb", String::length));
+
+   // Die Treffer und Fehlschläge werden geprüft.
+   assertEquals(1, cache.getHits());
+   assertEquals(2, cache.getMisses());
+   assertEquals(2, cache.getPuts());
+   assertEquals(2, cache.size());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet die Verdrängung des am längsten nicht verwendeten Eintrags")
+void testVerdraengung()
+   {
+   // Ein Cache mit zwei Einträgen wird erzeugt.
+   LruCache<String, Integer> cache = new LruCache<>(2);
+   cache.put("a", 1);
+   cache.put("b", 2);
+
+   // Durch den Zugriff auf "a" ist "b" der am längsten nicht verwendete Eintrag.
+   assertEquals(1, cache.getIfPresent("a"));
+   cache.put("c", 3);
+
+   // Der Eintrag "b" muss verdrängt worden sein.
+   assertNull(cache.getIfPresent("b"));
+   assertEquals(1, cache.getIfPresent("a"));
+   assertEquals(3, cache.getIfPresent("c"));
+   assertEquals(1, cache.getEvictions());
+   assertEquals(2, cache.size());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet, ob ein ungültiger Eintrag entfernt und als Fehlschlag gezählt wird")
+void testGetIfPresentMitPruefung()
+   {
+   // Ein Cache mit zwei Einträgen wird erzeugt.
+   LruCache<String, Integer> cache = new LruCache<>(4);
+   cache.put("a", 1);
+   cache.put("b", 2);
+
+   // Die zu testende Methode wird aufgerufen. Nur ungerade Werte sind gültig.
+   assertEquals(1, cache.getIfPresent("a", wert -> wert % 2 == 1));
+   assertNull(cache.getIfPresent("b", wert -> wert % 2 == 1));
+
+   // Der ungültige Eintrag "b" muss entfernt und als Fehlschlag gezählt worden sein.
+   assertEquals(1, cache.size());
+   assertEquals(1, cache.getHits());
+   assertEquals(1, cache.getMisses());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet, ob bei einer Ausnahme der Ladefunktion kein Eintrag angelegt wird")
+void testGetMitAusnahme()
+   {
+   // Ein Cache wird erzeugt.
+   LruCache<String, Integer> cache = new LruCache<>(2);
+
+   // Die Ladefunktion wirft eine Ausnahme.
+   assertThrows(IllegalStateException.class, () -> cache.get("a", key ->
+      {
+      throw new IllegalStateException();
+      }));
+
+   // Es darf kein Eintrag angelegt worden sein.
+   assertEquals(0, cache.size());
+   assertThrows(IllegalArgumentException.class, () -> new LruCache<String, Integer>(0));
+   }
+}
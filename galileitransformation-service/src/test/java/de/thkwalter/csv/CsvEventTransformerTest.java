@@ -0,0 +1,86 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.csv;
+
+import de.thkwalter.galileantransformation.EventBatch;
+import de.thkwalter.galileantransformation.GalileanBoostFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testklasse für die Klassen {@link EventCsvReader}, {@link EventCsvWriter} und {@link CsvEventTransformer}.
+ *
+ * @author Th. K. Walter
+ */
+class CsvEventTransformerTest
+{
+@Test
+@DisplayName("Testet, ob die Maßzahlen beim Lesen abschnittsweise in SI-Einheiten umgerechnet werden")
+void testRead() throws IOException
+   {
+   EventCsvReader reader = new EventCsvReader(new StringReader("x [km], t[ms]\n1.5,2000\n\n-2,500\n0,0\n"));
+
+   // Die Ereignisse werden in zwei Abschnitten gelesen, danach ist die Folge leer.
+   EventBatch first = reader.read(2);
+   EventBatch second = reader.read(2);
+   assertArrayEquals(new double[] {2.0, 0.5}, first.getT(), 1E-12);
+   assertArrayEquals(new double[] {1500.0, -2000.0}, first.getX(), 1E-9);
+   assertArrayEquals(new double[] {0.0}, second.getT());
+   assertEquals("ms", first.getTUnit().toString());
+   assertEquals(0, reader.read(2).size());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet die Transformation einer CSV-Datei in den Einheiten der Eingabe")
+void testTransform() throws IOException
+   {
+   StringWriter out = new StringWriter();
+
+   // Die zu testende Methode wird aufgerufen: x' = x - 1 km/s * t.
+   long anzahl = CsvEventTransformer.transform(new StringReader("t[s],x[km]\n1.0,3.0\n2.0,0.5\n"), out,
+         GalileanBoostFactory.getBoost(1000.0));
+
+   assertEquals(2, anzahl);
+   assertEquals("t[s],x[km]\n1.0,2.0\n2.0,-1.5\n", out.toString());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet, ob ungültige Kopfzeilen und Zeilen abgewiesen werden")
+void testUngueltig() throws IOException
+   {
+   assertThrows(IOException.class, () -> new EventCsvReader(new StringReader("t,x\n1,2\n")));
+   assertThrows(IOException.class, () -> new EventCsvReader(new StringReader("t[m],x[m]\n")));
+   assertThrows(IOException.class, () -> new EventCsvReader(new StringReader("")));
+
+   EventCsvReader reader = new EventCsvReader(new StringReader("t[s],x[m]\n1;2\n"));
+   IOException exception = assertThrows(IOException.class, () -> reader.read(10));
+   assertEquals("Die Zeile 2 ('1;2') ist ungültig!", exception.getMessage());
+   }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static javax.measure.MetricPrefix.KILO;
+import static javax.measure.MetricPrefix.MILLI;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Diese Klasse enthält JUnit-Tests für die Klasse {@link EventBatch3D}.
+ *
+ * @author Th. K. Walter
+ */
+class EventBatch3DTest
+{
+@Test
+@DisplayName("Testet die Umwandlung einer Liste von Ereignissen in eine Folge von Ereignissen und zurück")
+void testFromEventsToEvents()
+   {
+   // Die Testdaten werden initialisiert.
+   List<Event3D> events = List.of(new Event3D(QuantityUtils.createTimeQuantity(2000, MILLI(SECOND)),
+         QuantityUtils.createLengthQuantity(-0.004, KILO(METRE)), QuantityUtils.createLengthQuantity(1.5, KILO(METRE)),
+         QuantityUtils.createLengthQuantity(0.25, KILO(METRE))));
+
+   // Die zu testende Methode wird aufgerufen.
+   EventBatch3D eventBatch = EventBatch3D.fromEvents(events);
+
+   // Die Koordinaten müssen in SI-Einheiten gespeichert sein.
+   assertArrayEquals(new double[] {2.0}, eventBatch.getT(), 1E-12);
+   assertArrayEquals(new double[] {-4.0}, eventBatch.getX(), 1E-12);
+   assertArrayEquals(new double[] {1500.0}, eventBatch.getY(), 1E-12);
+   assertArrayEquals(new double[] {250.0}, eventBatch.getZ(), 1E-12);
+   assertEquals(KILO(METRE), eventBatch.getLengthUnit());
+
+   // Bei der Rückumwandlung müssen die ursprünglichen Einheiten verwendet werden.
+   Event3D event = eventBatch.toEvents().get(0);
+   assertEquals(MILLI(SECOND), event.t().getUnit());
+   assertEquals(KILO(METRE), event.z().getUnit());
+   assertEquals(0.25, event.z().getValue().doubleValue(), 1E-12);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet, ob unterschiedlich lange Felder zurückgewiesen werden")
+void testKonstruktor()
+   {
+   assertThrows(IllegalArgumentException.class,
+         () -> new EventBatch3D(new double[1], new double[1], new double[2], new double[1]));
+   }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static javax.measure.MetricPrefix.KILO;
+import static javax.measure.MetricPrefix.MILLI;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Diese Klasse enthält JUnit-Tests für die Klasse {@link EventBatch}.
+ *
+ * @author Th. K. Walter
+ */
+class EventBatchTest
+{
+@Test
+@DisplayName("Testet die Umwandlung einer Liste von Ereignissen in eine Folge von Ereignissen und zurück")
+void testFromEventsToEvents()
+   {
+   // Die Testdaten werden initialisiert.
+   List<Event> events = List.of(EventUtils.createEvent(2000, MILLI(SECOND), -0.004, KILO(METRE)),
+         EventUtils.createEvent(-500, MILLI(SECOND), 1.5, KILO(METRE)));
+
+   // Die zu testende Methode wird aufgerufen.
+   EventBatch eventBatch = EventBatch.fromEvents(events);
+
+   // Die Koordinaten müssen in SI-Einheiten gespeichert sein.
+   assertEquals(2, eventBatch.size());
+   assertArrayEquals(new double[] {2.0, -0.5}, eventBatch.getT(), 1E-12);
+   assertArrayEquals(new double[] {-4.0, 1500.0}, eventBatch.getX(), 1E-12);
+   assertEquals(MILLI(SECOND), eventBatch.getTUnit());
+   assertEquals(KILO(METRE), eventBatch.getXUnit());
+
+   // Bei der Rückumwandlung müssen die ursprünglichen Ereignisse entstehen.
+   List<Event> convertedEvents = eventBatch.toEvents();
+   assertEquals(events.size(), convertedEvents.size());
+   for (int i = 0; i < events.size(); i++)
+      {
+      assertTrue(EventUtils.compareEvents(events.get(i), convertedEvents.get(i), 1E-9, 1E-9, 1E-9, 1E-9));
+      assertEquals(KILO(METRE), convertedEvents.get(i).x().getUnit());
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet die Umwandlung einer leeren Liste von Ereignissen")
+void testFromEventsLeer()
+   {
+   // Die zu testende Methode wird aufgerufen.
+   EventBatch eventBatch = EventBatch.fromEvents(List.of());
+
+   // Die Folge muss leer sein und die SI-Einheiten verwenden.
+   assertEquals(0, eventBatch.size());
+   assertEquals(SECOND, eventBatch.getTUnit());
+   assertEquals(METRE, eventBatch.getXUnit());
+   assertTrue(eventBatch.toEvents().isEmpty());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet, ob unterschiedlich lange Felder zurückgewiesen werden")
+void testKonstruktor()
+   {
+   assertThrows(IllegalArgumentException.class, () -> new EventBatch(new double[1], new double[2]));
+   }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse enthält JUnit-Tests für die Klasse {@link EventRepository}.
+ *
+ * @author Th. K. Walter
+ */
+class EventRepositoryTest
+{
+@Test
+@DisplayName("Die Grenzen des Intervalls gehören zum Intervall")
+void testRange()
+   {
+   EventRepository repository = new EventRepository();
+   repository.addAll(new EventBatch(new double[] {1.0, 2.0, 2.0, 3.0, 4.0}, new double[] {10.0, 20.0, 21.0, 30.0,
+         40.0}));
+
+   // Die zu testende Methode wird aufgerufen.
+   EventBatch bereich = repository.range(2.0, 3.0);
+
+   assertArrayEquals(new double[] {2.0, 2.0, 3.0}, bereich.getT());
+   assertArrayEquals(new double[] {20.0, 21.0, 30.0}, bereich.getX());
+   assertEquals(0, repository.range(3.5, 3.9).size());
+   assertEquals(0, repository.range(3.0, 2.0).size());
+   assertEquals(5, repository.range(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY).size());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Unsortierte und überlappende Folgen werden sortiert eingefügt")
+void testAddAllUnsortiert()
+   {
+   // Die Ereignisse werden in drei Folgen eingefügt: angehängt, unsortiert und überlappend.
+   Random random = new Random(8L);
+   EventRepository repository = new EventRepository();
+   double[][] alle = new double[2][0];
+   for (int folge = 0; folge < 3; folge++)
+      {
+      double[] t = random.doubles(1_500, -100, 100).toArray();
+      if (folge == 0)
+         {
+         Arrays.sort(t);
+         }
+      double[] x = Arrays.stream(t).map(wert -> 3.0 * wert).toArray();
+      repository.addAll(new EventBatch(t, x));
+      alle[0] = EventRepositoryTest.verkette(alle[0], t);
+      alle[1] = EventRepositoryTest.verkette(alle[1], x);
+      }
+
+   // Das Intervall enthält genau die Ereignisse, die ein vollständiger Durchlauf findet.
+   EventBatch bereich = repository.range(-10.0, 25.0);
+   double[] tSoll = Arrays.stream(alle[0]).filter(t -> t >= -10.0 && t <= 25.0).sorted().toArray();
+   assertEquals(4_500, repository.size());
+   assertArrayEquals(tSoll, bereich.getT());
+   assertArrayEquals(Arrays.stream(tSoll).map(t -> 3.0 * t).toArray(), bereich.getX());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Ereignisse mit gleicher Zeitkoordinate behalten beim Sortieren ihre Reihenfolge")
+void testAddAllStabil()
+   {
+   EventRepository repository = new EventRepository();
+
+   // Die zu testende Methode wird mit einer unsortierten Folge aufgerufen.
+   repository.addAll(new EventBatch(new double[] {2.0, 1.0, 2.0, 0.0, 1.0}, new double[] {1.0, 2.0, 3.0, 4.0, 5.0}));
+
+   EventBatch alle = repository.range(0.0, 2.0);
+   assertArrayEquals(new double[] {0.0, 1.0, 1.0, 2.0, 2.0}, alle.getT());
+   assertArrayEquals(new double[] {4.0, 2.0, 5.0, 1.0, 3.0}, alle.getX());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Mehr als die maximale Anzahl der Ereignisse wird zurückgewiesen")
+void testMaxEvents()
+   {
+   EventRepository repository = new EventRepository(3);
+   repository.addAll(new EventBatch(new double[] {1.0, 2.0}, new double[] {0.0, 0.0}));
+
+   // Die Folge wird vollständig zurückgewiesen, danach passt genau noch ein Ereignis hinein.
+   assertThrows(IllegalStateException.class,
+         () -> repository.addAll(new EventBatch(new double[] {0.0, 3.0}, new double[] {0.0, 0.0})));
+   assertEquals(2, repository.size());
+   repository.addAll(new EventBatch(new double[] {0.0}, new double[] {0.0}));
+   assertEquals(3, repository.size());
+   assertThrows(IllegalArgumentException.class, () -> new EventRepository(0));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Nur die Ereignisse des Intervalls werden transformiert")
+void testTransformRange()
+   {
+   EventRepository repository = new EventRepository();
+   repository.addAll(new EventBatch(new double[] {0.0, 1.0, 2.0, 3.0}, new double[] {5.0, 5.0, 5.0, 5.0}));
+
+   // Die zu testende Methode wird aufgerufen.
+   EventBatch transformiert = repository.transformRange(1.0, 2.0, GalileanBoostFactory.getBoost(2.0));
+
+   assertArrayEquals(new double[] {1.0, 2.0}, transformiert.getT());
+   assertArrayEquals(new double[] {3.0, 1.0}, transformiert.getX());
+   assertEquals(5.0, repository.range(1.0, 1.0).getX()[0]);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Zeitkoordinaten NaN werden zurückgewiesen und clear entfernt alle Ereignisse")
+void testNaNUndClear()
+   {
+   EventRepository repository = new EventRepository();
+   repository.addAll(new EventBatch(new double[] {1.0}, new double[] {2.0}));
+
+   assertThrows(IllegalArgumentException.class,
+         () -> repository.addAll(new EventBatch(new double[] {Double.NaN}, new double[] {0.0})));
+   assertEquals(1, repository.size());
+
+   // Die zu testende Methode wird aufgerufen.
+   repository.clear();
+
+   assertEquals(0, repository.size());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Verkettet zwei Felder.
+ *
+ * @param a das erste Feld
+ * @param b das zweite Feld
+ * @return die Verkettung beider Felder
+ */
+private static double[] verkette(double[] a, double[] b)
+   {
+   double[] ergebnis = Arrays.copyOf(a, a.length + b.length);
+   System.arraycopy(b, 0, ergebnis, a.length, b.length);
+   return ergebnis;
+   }
+}
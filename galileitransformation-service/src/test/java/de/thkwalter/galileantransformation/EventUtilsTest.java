@@ -23,9 +23,13 @@ import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.quantity.Length;
 import javax.measure.quantity.Time;
+import java.util.BitSet;
+import java.util.List;
 
 import static javax.measure.MetricPrefix.KILO;
 import static javax.measure.MetricPrefix.MILLI;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.units.indriya.unit.Units.METRE;
@@ -76,4 +80,31 @@ void testCompareEvents()
    assertFalse(EventUtils.compareEvents(expectedEvent, falseEvent1,1E-9, 1E-9, 1E-9, 1E-9));
    assertFalse(EventUtils.compareEvents(expectedEvent, falseEvent2,1E-9, 1E-9, 1E-9, 1E-9));
    }
-}
\ No newline at end of file
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet den Vergleich zweier Folgen von Ereignissen")
+void testCompareEventBatches()
+   {
+   // Die Testdaten werden intialisiert.
+   Event expectedEvent = EventUtils.createEvent(2.2, SECOND, 0.0, KILO(METRE));
+   Event correctEvent = EventUtils.createEvent(2200, MILLI(SECOND), 0.0, METRE);
+   Event falseEvent1 = EventUtils.createEvent(2.2001, SECOND, 0.0, KILO(METRE));
+   Event falseEvent2 = EventUtils.createEvent(2.2, SECOND, 0.001, KILO(METRE));
+   EventBatch expectedEvents = EventBatch.fromEvents(List.of(expectedEvent, expectedEvent, expectedEvent));
+   EventBatch actualEvents = EventBatch.fromEvents(List.of(correctEvent, falseEvent1, falseEvent2));
+
+   // Die zu testende Methode wird aufgerufen.
+   EventBatchComparison result = EventUtils.compareEvents(expectedEvents, actualEvents, 1E-9, 1E-9, 1E-9, 1E-9);
+
+   // Das Ergebnis muss mit dem Vergleich der einzelnen Ereignisse übereinstimmen.
+   assertEquals(BitSet.valueOf(new long[] {0b110}), result.mismatches());
+   assertArrayEquals(new int[] {1}, result.t().mismatchIndices());
+   assertArrayEquals(new int[] {2}, result.x().mismatchIndices());
+   assertEquals(2, result.mismatchCount());
+   assertFalse(result.allMatch());
+   assertTrue(EventUtils.compareEvents(expectedEvents, expectedEvents, 1E-9, 1E-9, 1E-9, 1E-9).allMatch());
+   }
+}
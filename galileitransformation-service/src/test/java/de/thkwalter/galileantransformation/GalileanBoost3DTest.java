@@ -0,0 +1,95 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static javax.measure.MetricPrefix.KILO;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.METRE_PER_SECOND;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Diese Klasse enthält JUnit-Tests für die Klasse {@link GalileanBoost3D}.
+ *
+ * @author Th. K. Walter
+ */
+class GalileanBoost3DTest
+{
+@Test
+@DisplayName("Ein Ereignis wird mit einer Geschwindigkeit beliebiger Richtung transformiert")
+void testTransformEvent()
+   {
+   // Die Testdaten werden initialisiert.
+   GalileanBoost3D boost = new GalileanBoost3D(Velocity.of(1.0, -2.0, 0.5, METRE_PER_SECOND));
+   Event3D event = new Event3D(QuantityUtils.createTimeQuantity(2.0, SECOND),
+         QuantityUtils.createLengthQuantity(0.001, KILO(METRE)), QuantityUtils.createLengthQuantity(0.0, METRE),
+         QuantityUtils.createLengthQuantity(-1.0, METRE));
+
+   // Die zu testende Methode wird aufgerufen.
+   Event3D transformiertesEvent = boost.transform(event);
+
+   // Die Ortskoordinaten werden in m angegeben.
+   assertEquals(2.0, transformiertesEvent.t().getValue().doubleValue());
+   assertEquals(-1.0, transformiertesEvent.x().getValue().doubleValue(), 1E-12);
+   assertEquals(4.0, transformiertesEvent.y().getValue().doubleValue(), 1E-12);
+   assertEquals(-2.0, transformiertesEvent.z().getValue().doubleValue(), 1E-12);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Die parallele Transformation einer Folge ergibt dieselben Koordinaten wie die sequentielle")
+void testTransformAll()
+   {
+   // Die Testdaten werden initialisiert.
+   int anzahl = 10_000;
+   Random random = new Random(42);
+   double[][] spalten = new double[4][anzahl];
+   for (double[] spalte : spalten)
+      {
+      for (int i = 0; i < anzahl; i++)
+         {
+         spalte[i] = random.nextDouble() * 100.0 - 50.0;
+         }
+      }
+   EventBatch3D sequentiell = new EventBatch3D(spalten[0].clone(), spalten[1].clone(), spalten[2].clone(),
+         spalten[3].clone());
+   EventBatch3D parallel = new EventBatch3D(spalten[0].clone(), spalten[1].clone(), spalten[2].clone(),
+         spalten[3].clone());
+   GalileanBoost3D boost = new GalileanBoost3D(new Velocity(3.0, 0.0, -7.0));
+
+   // Die zu testenden Methoden werden aufgerufen.
+   boost.transform(sequentiell);
+   boost.transformAll(parallel, new ForkJoinPool(4), 100);
+
+   // Beide Folgen müssen übereinstimmen und der Transformationsvorschrift genügen.
+   assertArrayEquals(sequentiell.getX(), parallel.getX());
+   assertArrayEquals(sequentiell.getY(), parallel.getY());
+   assertArrayEquals(sequentiell.getZ(), parallel.getZ());
+   assertArrayEquals(spalten[0], parallel.getT());
+   assertEquals(spalten[1][17] - 3.0 * spalten[0][17], parallel.getX()[17]);
+   assertEquals(spalten[2][17], parallel.getY()[17]);
+   assertEquals(spalten[3][17] + 7.0 * spalten[0][17], parallel.getZ()[17]);
+   }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.measure.quantity.Speed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tech.units.indriya.unit.Units.METRE_PER_SECOND;
+
+/**
+ * Diese Klasse enthält JUnit-Tests für die Klasse {@link GalileanBoostFactory}.
+ *
+ * @author Th. K. Walter
+ */
+class GalileanBoostFactoryTest
+{
+@Test
+@DisplayName("Dieselbe Geschwindigkeit in verschiedenen Einheiten ergibt dieselbe Galileitransformation")
+void testGetBoost()
+   {
+   // Die zu testende Methode wird aufgerufen.
+   long treffer = GalileanBoostFactory.getCache().getHits();
+   GalileanBoost boostMeterProSekunde = GalileanBoostFactory.getBoost(1500.0, METRE_PER_SECOND);
+   GalileanBoost boostKilometerProSekunde = GalileanBoostFactory.getBoost(1.5,
+         UnitUtils.parseUnit("km/s", Speed.class));
+
+   // Beide Aufrufe liefern dieselbe Galileitransformation, der zweite Aufruf aus dem Cache.
+   assertSame(boostMeterProSekunde, boostKilometerProSekunde);
+   assertEquals(1500.0, boostMeterProSekunde.getVMeasure());
+   assertEquals(treffer + 1, GalileanBoostFactory.getCache().getHits());
+   assertNotSame(boostMeterProSekunde, GalileanBoostFactory.getBoost(-1500.0));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Die Geschwindigkeiten 0.0 und -0.0 ergeben dieselbe Galileitransformation")
+void testGetBoostNull()
+   {
+   assertSame(GalileanBoostFactory.getBoost(0.0), GalileanBoostFactory.getBoost(-0.0));
+   }
+}
@@ -28,7 +28,11 @@ import javax.measure.quantity.Speed;
 import javax.measure.quantity.Time;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tech.units.indriya.unit.Units.METRE_PER_SECOND;
 
@@ -243,4 +247,128 @@ void testTransform5()
    assertTrue(QuantityUtils.compareQuantities(transformedEvent3.x(), expectedX3, 1E-9, 1E-9));
    assertTrue(QuantityUtils.compareQuantities(transformedEvent4.x(), expectedX4, 1E-9, 1E-9));
    }
-}
\ No newline at end of file
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode {@link GalileanBoost#transformX(double, double)}. Der Test prüft nach, ob die Rechnung mit
+ * Maßzahlen in SI-Einheiten dasselbe Ergebnis liefert wie die Methode {@link GalileanBoost#transform(Event)}.
+ */
+@DisplayName("Testet, ob die Transformation von Maßzahlen mit der Transformation von Ereignissen übereinstimmt")
+@ParameterizedTest
+@MethodSource("createEventsAndVelocities")
+void testTransformX(Event originalEvent, Quantity<Speed> v)
+   {
+   // Eine Galilei-Boost-Transformation wird erzeugt.
+   GalileanBoost galileanBoost = new GalileanBoost(v);
+
+   // Die zu testende Methode wird aufgerufen.
+   double tMeasure = originalEvent.t().toSystemUnit().getValue().doubleValue();
+   double xMeasure = originalEvent.x().toSystemUnit().getValue().doubleValue();
+   double xTransformed = galileanBoost.transformX(tMeasure, xMeasure);
+
+   // Das Ergebnis muss mit dem der Transformation des Ereignisses übereinstimmen.
+   Quantity<Length> expectedX = galileanBoost.transform(originalEvent).x();
+   assertTrue(QuantityUtils.compareQuantities(expectedX, QuantityUtils.createLengthQuantity(xTransformed,
+         Units.METRE), 1E-9, 1E-9));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode {@link GalileanBoost#transform(double[], double[])}. Der Test prüft nach, ob die
+ * Ortskoordinaten im Feld korrekt überschrieben werden und die Zeitkoordinaten unverändert bleiben.
+ */
+@DisplayName("Testet die Transformation von Maßzahlen in Feldern")
+@Test
+void testTransformArrays()
+   {
+   // Eine StandardGalileitransformation wird erzeugt.
+   Quantity<Speed> v = QuantityUtils.createSpeedQuantity(1.0, METRE_PER_SECOND);
+   GalileanBoost galileanBoost = new GalileanBoost(v);
+
+   // Die Testdaten werden initialisiert.
+   double[] t = {1.0, -2.0, 9.0, -13.0};
+   double[] x = {1.0, 3.0, -10.0, -14.0};
+
+   // Die zu testende Methode wird aufgerufen.
+   galileanBoost.transform(t, x);
+
+   // Die Koordinaten werden geprüft.
+   assertEquals(1.0, galileanBoost.getVMeasure(), 1E-12);
+   assertArrayEquals(new double[] {1.0, -2.0, 9.0, -13.0}, t);
+   assertArrayEquals(new double[] {0.0, 5.0, -19.0, -1.0}, x);
+
+   // Unterschiedlich lange Felder führen zu einer Ausnahme.
+   assertThrows(IllegalArgumentException.class, () -> galileanBoost.transform(new double[2], new double[3]));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode {@link GalileanBoost#transform(EventBatch)}. Der Test prüft nach, ob eine Folge von Ereignissen
+ * genauso transformiert wird wie die einzelnen Ereignisse.
+ */
+@DisplayName("Testet die Transformation einer Folge von Ereignissen")
+@Test
+void testTransformEventBatch()
+   {
+   // Eine Galilei-Boost-Transformation und eine Folge von zufälligen Ereignissen werden erzeugt.
+   Quantity<Speed> v = QuantityUtils.createSpeedQuantity(-42.0, METRE_PER_SECOND);
+   GalileanBoost galileanBoost = new GalileanBoost(v);
+   List<Event> events = List.of(GalileanBoostTest.createEvents());
+
+   // Die zu testende Methode wird aufgerufen.
+   List<Event> transformedEvents = galileanBoost.transform(EventBatch.fromEvents(events)).toEvents();
+
+   // Jedes Ereignis muss wie bei einer einzelnen Transformation transformiert worden sein.
+   for (int i = 0; i < events.size(); i++)
+      {
+      Event expectedEvent = galileanBoost.transform(events.get(i));
+      assertTrue(EventUtils.compareEvents(expectedEvent, transformedEvents.get(i), 1E-9, 1E-9, 1E-9, 1E-9));
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methoden {@link GalileanBoost#transformAll(List, ForkJoinPool, int)} und
+ * {@link GalileanBoost#transformAll(EventBatch, ForkJoinPool, int)}. Der Test prüft nach, ob die parallele
+ * Transformation dieselben Ergebnisse in derselben Reihenfolge liefert wie die einzelnen Transformationen.
+ */
+@DisplayName("Testet die parallele Transformation von Ereignissen")
+@Test
+void testTransformAll()
+   {
+   // Eine Galilei-Boost-Transformation und zufällige Ereignisse werden erzeugt.
+   Quantity<Speed> v = QuantityUtils.createSpeedQuantity(7.0, METRE_PER_SECOND);
+   GalileanBoost galileanBoost = new GalileanBoost(v);
+   List<Event> events = List.of(GalileanBoostTest.createEvents());
+   EventBatch eventBatch = EventBatch.fromEvents(events);
+
+   // Die zu testenden Methoden werden mit einem kleinen Schwellwert aufgerufen, damit die Ereignisse auf mehrere
+   // Teilbereiche aufgeteilt werden.
+   ForkJoinPool pool = new ForkJoinPool(4);
+   List<Event> transformedEvents = galileanBoost.transformAll(events, pool, 3);
+   List<Event> transformedBatch = galileanBoost.transformAll(eventBatch, pool, 3).toEvents();
+   pool.shutdown();
+
+   // Jedes Ereignis muss an seinem ursprünglichen Index wie bei einer einzelnen Transformation transformiert worden
+   // sein.
+   assertEquals(events.size(), transformedEvents.size());
+   for (int i = 0; i < events.size(); i++)
+      {
+      Event expectedEvent = galileanBoost.transform(events.get(i));
+      assertTrue(EventUtils.compareEvents(expectedEvent, transformedEvents.get(i), 1E-9, 1E-9, 1E-9, 1E-9));
+      assertTrue(EventUtils.compareEvents(expectedEvent, transformedBatch.get(i), 1E-9, 1E-9, 1E-9, 1E-9));
+      }
+
+   // Ein Schwellwert, der nicht größer als null ist, führt zu einer Ausnahme.
+   assertThrows(IllegalArgumentException.class, () -> galileanBoost.transformAll(events, ForkJoinPool.commonPool(),
+         0));
+   }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tech.units.indriya.unit.Units.METRE_PER_SECOND;
+
+/**
+ * Diese Klasse enthält JUnit-Tests für die Klasse {@link GalileanTransformation}.
+ *
+ * @author Th. K. Walter
+ */
+class GalileanTransformationTest
+{
+/**
+ * Eine Kette von Transformationen, die alle elementaren Transformationen enthält
+ */
+private static final List<GalileanTransformation> KETTE = List.of(GalileanTransformation.boost(2.0),
+      GalileanTransformation.timeTranslation(-3.0), GalileanTransformation.reflection(),
+      GalileanTransformation.spaceTranslation(5.0), GalileanTransformation.boost(-7.0),
+      GalileanTransformation.timeTranslation(11.0));
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Eine zusammengefasste Kette transformiert wie die nacheinander ausgeführten Transformationen")
+void testAndThen()
+   {
+   // Die Kette wird zusammengefasst.
+   GalileanTransformation zusammengefasst = GalileanTransformation.identity();
+   for (GalileanTransformation transformation : GalileanTransformationTest.KETTE)
+      {
+      zusammengefasst = zusammengefasst.andThen(transformation);
+      }
+
+   // Die Ereignisse werden nacheinander mit jeder Transformation der Kette transformiert.
+   double[] t = {0.0, 1.0, -2.5, 100.0};
+   double[] x = {0.0, -4.0, 3.0, 1E3};
+   for (int i = 0; i < t.length; i++)
+      {
+      double tSoll = t[i];
+      double xSoll = x[i];
+      for (GalileanTransformation transformation : GalileanTransformationTest.KETTE)
+         {
+         double xNeu = transformation.transformX(tSoll, xSoll);
+         tSoll = transformation.transformT(tSoll);
+         xSoll = xNeu;
+         }
+
+      // Das Ergebnis wird mit der zusammengefassten Transformation verglichen.
+      assertEquals(tSoll, zusammengefasst.transformT(t[i]), 1E-12);
+      assertEquals(xSoll, zusammengefasst.transformX(t[i], x[i]), 1E-12);
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("compose führt die übergebene Transformation zuerst aus")
+void testCompose()
+   {
+   GalileanTransformation a = GalileanTransformation.boost(2.0);
+   GalileanTransformation b = GalileanTransformation.timeTranslation(1.0);
+
+   // Zuerst wird um 1 s verschoben, danach mit 2 m/s transformiert: x' = x - 2 (t + 1).
+   GalileanTransformation ab = a.compose(b);
+   assertEquals(1.0 - 2.0 * 4.0, ab.transformX(3.0, 1.0));
+   assertEquals(4.0, ab.transformT(3.0));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Eine Transformation gefolgt von ihrer Inversen ist die identische Transformation")
+void testInverse()
+   {
+   for (GalileanTransformation transformation : GalileanTransformationTest.KETTE)
+      {
+      GalileanTransformation b = transformation.andThen(GalileanTransformation.spaceTranslation(0.5))
+            .andThen(GalileanTransformation.reflection()).andThen(GalileanTransformation.boost(1.5));
+      GalileanTransformation identitaet = b.andThen(b.inverse());
+
+      assertEquals(1.0, identitaet.getEpsilon());
+      assertEquals(0.0, identitaet.getV(), 1E-12);
+      assertEquals(0.0, identitaet.getTau(), 1E-12);
+      assertEquals(0.0, identitaet.getXi(), 1E-12);
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Eine Standard-Galileitransformation transformiert wie der entsprechende GalileanBoost")
+void testOf()
+   {
+   GalileanBoost boost = new GalileanBoost(QuantityUtils.createSpeedQuantity(3.0, METRE_PER_SECOND));
+   GalileanTransformation transformation = GalileanTransformation.of(boost);
+
+   assertEquals(boost.transformX(2.0, 5.0), transformation.transformX(2.0, 5.0));
+   assertEquals(2.0, transformation.transformT(2.0));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Die Koordinaten einer Folge von Ereignissen werden überschrieben")
+void testTransformEventBatch()
+   {
+   GalileanTransformation transformation = GalileanTransformation.boost(2.0)
+         .andThen(GalileanTransformation.timeTranslation(1.0)).andThen(GalileanTransformation.reflection());
+   EventBatch events = new EventBatch(new double[] {0.0, 1.0, 2.0}, new double[] {1.0, 1.0, 1.0});
+
+   // Die zu testende Methode wird aufgerufen.
+   transformation.transformAll(events);
+
+   assertArrayEquals(new double[] {1.0, 2.0, 3.0}, events.getT());
+   assertArrayEquals(new double[] {-1.0, 1.0, 3.0}, events.getX());
+   }
+}
@@ -157,4 +157,76 @@ void testCreateSpeedQuantity()
    assertEquals(1.0, speedQuantity.toSystemUnit().getValue().doubleValue(),1E-6);
    assertEquals(METRE_PER_SECOND, speedQuantity.toSystemUnit().getUnit());
    }
-}
\ No newline at end of file
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet die Umrechnung von Maßzahlen in SI-Einheiten")
+void testToSiDouble()
+   {
+   // Die zu testende Methode wird aufgerufen und der Rückgabewert geprüft.
+   assertEquals(-4.0, QuantityUtils.toSiDouble(-0.004, KILO(METRE)), 1E-12);
+   assertEquals(2.0, QuantityUtils.toSiDouble(2000.0, MILLI(SECOND)), 1E-12);
+   assertEquals(720.0, QuantityUtils.toSiDouble(QuantityUtils.createTimeQuantity(12.0, MINUTE)), 1E-12);
+   assertEquals(5.0, QuantityUtils.toSiDouble(5.0, METRE), 0.0);
+
+   // Die Umrechnung einer Einheit muss zwischengespeichert werden.
+   assertSame(QuantityUtils.getSiConverter(KILO(METRE)), QuantityUtils.getSiConverter(KILO(METRE)));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet den Vergleich zweier Folgen von Maßzahlen")
+void testCompareMeasures()
+   {
+   // Die Testdaten werden erstellt. Die Abweichungen liegen auch hinter der Grenze des ersten 64-Bit-Worts.
+   double[] expectedMeasures = new double[130];
+   double[] actualMeasures = new double[130];
+   for (int i = 0; i < expectedMeasures.length; i++)
+      {
+      expectedMeasures[i] = i;
+      actualMeasures[i] = i;
+      }
+   actualMeasures[0] = 0.5;
+   actualMeasures[64] = 64.1;
+   actualMeasures[129] = Double.NaN;
+   actualMeasures[100] = 100.0 + 1E-6;
+
+   // Die zu testende Methode wird aufgerufen.
+   ComparisonResult result = QuantityUtils.compareMeasures(expectedMeasures, actualMeasures, 1E-9, 1E-9);
+
+   // Das Ergebnis muss mit dem paarweisen Vergleich übereinstimmen.
+   for (int i = 0; i < expectedMeasures.length; i++)
+      {
+      assertEquals(!QuantityUtils.compareQuantities(QuantityUtils.createLengthQuantity(expectedMeasures[i], METRE),
+            QuantityUtils.createLengthQuantity(actualMeasures[i], METRE), 1E-9, 1E-9), result.mismatches().get(i));
+      }
+   assertArrayEquals(new int[] {0, 64, 100, 129}, result.mismatchIndices());
+   assertEquals(4, result.mismatchCount());
+   assertEquals(130, result.size());
+   assertTrue(Double.isNaN(result.maxAbsoluteError()));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet die größten Abweichungen beim Vergleich zweier Folgen von Maßzahlen")
+void testCompareMeasuresMaxError()
+   {
+   // Die zu testende Methode wird aufgerufen.
+   ComparisonResult result = QuantityUtils.compareMeasures(new double[] {0.0, 10.0, -4.0},
+         new double[] {0.25, 11.0, -4.0}, 1E-3, 1.0);
+
+   // Die relative Abweichung wird nur für Wertepaare ohne Nullen bestimmt.
+   assertEquals(0.1, result.maxRelativeError(), 1E-12);
+   assertEquals(1.0, result.maxAbsoluteError(), 1E-12);
+   assertArrayEquals(new int[] {1}, result.mismatchIndices());
+   assertFalse(result.allMatch());
+   assertThrows(IllegalArgumentException.class,
+         () -> QuantityUtils.compareMeasures(new double[1], new double[2], 1E-3, 1.0));
+   }
+}
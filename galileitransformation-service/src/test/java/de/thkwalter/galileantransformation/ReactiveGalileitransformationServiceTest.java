@@ -0,0 +1,262 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Tests für die Klasse {@link ReactiveGalileitransformationService}.
+ *
+ * @author Th. K. Walter
+ */
+class ReactiveGalileitransformationServiceTest
+{
+/**
+ * Der {@link WebTestClient}, der an die zu testenden Endpunkte gebunden ist
+ */
+private WebTestClient client;
+
+/**
+ * Der Name des Providers in den Pact-Verträgen
+ */
+private static final String PROVIDER = "StandardGalileitransformationProvider";
+
+/**
+ * Der Pool der Endpunkte
+ */
+private static final TransformationPool POOL = new TransformationPool(1, GalileanBoost.DEFAULT_PARALLEL_THRESHOLD);
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Bindet den {@link WebTestClient} an die zu testenden Endpunkte. Dabei werden dieselben Jackson-Serializer wie im
+ * Server verwendet.
+ */
+@BeforeEach
+void clientErzeugen()
+   {
+   ObjectMapper objectMapper = new ObjectMapper().registerModule(
+         new GalileanTransformationServer().getJacksonQuantityModule());
+
+   ReactiveGalileitransformationService controller = new ReactiveGalileitransformationService(
+         TransformationMetrics.none(), TransformationResultCache.disabled(),
+         ReactiveGalileitransformationServiceTest.POOL);
+
+   this.client = WebTestClient.bindToController(controller).httpMessageCodecs(configurer ->
+      {
+      configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+      configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+      }).build();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode
+ * {@link ReactiveGalileitransformationService#transformiere(double, String, double, String, double, String,
+ * org.springframework.web.server.ServerWebExchange)}. Der Test spielt jede Interaktion der Pact-Verträge des
+ * <tt>StandardGalileitransformationProvider</tt> ab, die beim Build aus dem Client-Modul nach <tt>pacts/</tt> kopiert
+ * werden, und vergleicht den Status, den Content-Type und den Inhalt der Antwort mit dem Vertrag. Fehlen die
+ * Pact-Verträge, weil das Client-Modul nicht gebaut worden ist, so wird der Test übersprungen.
+ *
+ * @return ein Test pro Interaktion
+ * @throws IOException falls ein Pact-Vertrag nicht gelesen werden kann
+ */
+@DisplayName("Die Interaktionen aus den Pact-Verträgen werden wie vereinbart beantwortet.")
+@TestFactory
+Stream<DynamicTest> testPactVertraege() throws IOException
+   {
+   List<JsonNode> interaktionen = ReactiveGalileitransformationServiceTest.leseInteraktionen();
+   assumeFalse(interaktionen.isEmpty(), "Unter 'pacts/' liegen keine Pact-Verträge.");
+
+   return interaktionen.stream().map(interaktion -> DynamicTest.dynamicTest(interaktion.path("description").asText(),
+         () -> this.pruefeInteraktion(interaktion)));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode
+ * {@link ReactiveGalileitransformationService#transformiereStream(String, String, double, String,
+ * reactor.core.publisher.Flux)}. Der Test prüft nach, ob jede Zeile der Eingabe im Format NDJSON in eine Zeile mit
+ * dem transformierten Ereignis übersetzt wird.
+ */
+@DisplayName("Ein Strom von Ereignissen im Format NDJSON wird zeilenweise transformiert.")
+@Test
+void testTransformiereStreamNdjson()
+   {
+   // Die Testdaten werden intialisiert.
+   String eingabe = """
+         {"tMasszahl":2000,"xMasszahl":-0.004}
+         {"tMasszahl":-1000,"xMasszahl":0.001}
+         {"tMasszahl":0,"xMasszahl":1}
+         """;
+
+   // Die zu testende Methode wird aufgerufen.
+   byte[] ausgabe = this.client.post()
+         .uri("/transformiereStream?tEinheit=ms&xEinheit=km&vMasszahl=2&vEinheit=m/s")
+         .contentType(MediaType.APPLICATION_NDJSON).accept(MediaType.APPLICATION_NDJSON).bodyValue(eingabe)
+         .exchange().expectStatus().isOk().expectBody().returnResult().getResponseBody();
+
+   // Die Ausgabe enthält die transformierten Ereignisse in SI-Einheiten.
+   String erwarteteAusgabe = """
+         {"t":2.0,"x":-8.0}
+         {"t":-1.0,"x":3.0}
+         {"t":0.0,"x":1000.0}
+         """;
+   assertEquals(erwarteteAusgabe, new String(ausgabe, StandardCharsets.UTF_8));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode
+ * {@link ReactiveGalileitransformationService#transformiereStream(String, String, double, String,
+ * reactor.core.publisher.Flux)}. Der Test prüft nach, ob ein JSON-Feld von Ereignissen als JSON-Feld transformierter
+ * Ereignisse zurückgegeben wird.
+ */
+@DisplayName("Ein JSON-Feld von Ereignissen wird als JSON-Feld transformiert.")
+@Test
+void testTransformiereStreamJson()
+   {
+   this.client.post().uri("/transformiereStream?tEinheit=s&xEinheit=m&vMasszahl=1&vEinheit=m/s")
+         .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON)
+         .bodyValue("[{\"tMasszahl\":1,\"xMasszahl\":2},{\"tMasszahl\":3,\"xMasszahl\":4}]").exchange()
+         .expectStatus().isOk().expectBody().json("[{\"t\":1.0,\"x\":1.0},{\"t\":3.0,\"x\":1.0}]");
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode
+ * {@link ReactiveGalileitransformationService#transformiere(double, String, double, String, double, String,
+ * org.springframework.web.server.ServerWebExchange)}. Der Test prüft nach, ob die Antwort einen Entity-Tag enthält
+ * und ob mit diesem Entity-Tag in <tt>If-None-Match</tt> <tt>304 Not Modified</tt> ohne Inhalt zurückgegeben wird.
+ */
+@DisplayName("Ein bekanntes Ergebnis wird mit 304 Not Modified beantwortet.")
+@Test
+void testTransformiereNotModified()
+   {
+   String uri = "/transformiere?tMasszahl=2000&tEinheit=ms&xMasszahl=-0.004&xEinheit=km&vMasszahl=2&vEinheit=m/s";
+
+   // Die erste Antwort enthält das transformierte Ereignis und einen Entity-Tag.
+   String etag = this.client.get().uri(uri).exchange().expectStatus().isOk().expectBody()
+         .json("{\"t\":2.0,\"x\":-8.0}").returnResult().getResponseHeaders().getETag();
+   assertNotNull(etag);
+
+   // Mit dem Entity-Tag wird 304 ohne Inhalt zurückgegeben.
+   this.client.get().uri(uri).ifNoneMatch(etag).exchange().expectStatus().isNotModified().expectBody().isEmpty();
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Sendet den Request einer Interaktion und vergleicht die Antwort mit dem Vertrag. Die Werte der Query-Parameter
+ * werden wie im Vertrag abgelegt (d.h. bereits kodiert) übernommen.
+ *
+ * @param interaktion die Interaktion aus dem Pact-Vertrag
+ */
+private void pruefeInteraktion(JsonNode interaktion)
+   {
+   // Die URI wird aus dem Pfad und den Query-Parametern zusammengesetzt.
+   JsonNode request = interaktion.path("request");
+   StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+   request.path("query").fields().forEachRemaining(parameter -> parameter.getValue().forEach(
+         wert -> query.add(parameter.getKey() + "=" + wert.asText())));
+   URI uri = URI.create(request.path("path").asText() + query);
+
+   // Der Status, der Content-Type und der Inhalt der Antwort werden geprüft.
+   JsonNode response = interaktion.path("response");
+   WebTestClient.ResponseSpec antwort = this.client.method(HttpMethod.valueOf(request.path("method").asText()))
+         .uri(uri).exchange().expectStatus().isEqualTo(response.path("status").asInt());
+   JsonNode contentType = response.path("headers").path("Content-Type").path(0);
+   if (!contentType.isMissingNode())
+      {
+      antwort.expectHeader().contentTypeCompatibleWith(MediaType.parseMediaType(contentType.asText()));
+      }
+   JsonNode inhalt = response.path("body").path("content");
+   if (!inhalt.isMissingNode())
+      {
+      antwort.expectBody().json(inhalt.toString());
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Liest die Interaktionen aller Pact-Verträge des <tt>StandardGalileitransformationProvider</tt> aus dem Verzeichnis
+ * <tt>pacts/</tt> des Klassenpfads.
+ *
+ * @return die Interaktionen (leer, falls das Verzeichnis nicht existiert)
+ * @throws IOException falls ein Pact-Vertrag nicht gelesen werden kann
+ */
+private static List<JsonNode> leseInteraktionen() throws IOException
+   {
+   URL verzeichnis = ReactiveGalileitransformationServiceTest.class.getClassLoader().getResource("pacts");
+   List<JsonNode> interaktionen = new ArrayList<>();
+   if (verzeichnis == null)
+      {
+      return interaktionen;
+      }
+
+   ObjectMapper objectMapper = new ObjectMapper();
+   try (Stream<Path> dateien = Files.list(Path.of(URI.create(verzeichnis.toString()))))
+      {
+      for (Path datei : dateien.filter(pfad -> pfad.toString().endsWith(".json")).sorted().toList())
+         {
+         JsonNode pact = objectMapper.readTree(datei.toFile());
+         if (ReactiveGalileitransformationServiceTest.PROVIDER.equals(pact.path("provider").path("name").asText()))
+            {
+            pact.path("interactions").forEach(interaktionen::add);
+            }
+         }
+      }
+   return interaktionen;
+   }
+}
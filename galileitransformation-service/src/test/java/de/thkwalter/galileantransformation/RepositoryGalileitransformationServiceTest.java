@@ -0,0 +1,136 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests für die Klasse {@link RepositoryGalileitransformationService}.
+ *
+ * @author Th. K. Walter
+ */
+class RepositoryGalileitransformationServiceTest
+{
+/**
+ * Test für die Methoden {@link RepositoryGalileitransformationService#speichere(String, String, List)} und
+ * {@link RepositoryGalileitransformationService#transformiereZeitbereich(double, double, String, double, String)}.
+ * Der Test prüft nach, ob die Koordinaten und die Grenzen des Intervalls in SI-Einheiten umgerechnet werden und nur
+ * die Ereignisse des Intervalls transformiert zurückgegeben werden.
+ */
+@DisplayName("Die Ereignisse eines Zeitintervalls werden transformiert zurückgegeben.")
+@Test
+void testTransformiereZeitbereich()
+   {
+   // Ein Objekt der zu testenden Klasse wird erzeugt.
+   RepositoryGalileitransformationService controller = new RepositoryGalileitransformationService(
+         new EventRepository(), TransformationMetrics.none(), false);
+
+   // Die Ereignisse werden abgelegt.
+   List<Koordinaten> ereignisse = List.of(new Koordinaten(3000.0, 1.0), new Koordinaten(1000.0, 1.0),
+         new Koordinaten(2000.0, 1.0), new Koordinaten(4000.0, 1.0));
+   assertEquals(4, controller.speichere("ms", "km", ereignisse));
+
+   // Die zu testende Methode wird aufgerufen.
+   EventBatch transformiert = controller.transformiereZeitbereich(1.5, 3.0, "s", 2.0, "m/s");
+
+   assertArrayEquals(new double[] {2.0, 3.0}, transformiert.getT());
+   assertArrayEquals(new double[] {996.0, 994.0}, transformiert.getX());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode {@link RepositoryGalileitransformationService#speichere(EventBatch)}. Der Test prüft nach, ob
+ * Ereignisse, die die maximale Anzahl des {@link EventRepository} überschreiten würden, mit dem Status 413
+ * abgewiesen werden.
+ */
+@DisplayName("Zu viele Ereignisse werden mit dem Status 413 abgewiesen.")
+@Test
+void testSpeichereZuViele()
+   {
+   // Ein Objekt der zu testenden Klasse wird erzeugt.
+   RepositoryGalileitransformationService controller = new RepositoryGalileitransformationService(
+         new EventRepository(2), TransformationMetrics.none(), false);
+   assertEquals(2, controller.speichere(new EventBatch(new double[] {1.0, 2.0}, new double[] {0.0, 0.0})));
+
+   // Die zu testende Methode wird aufgerufen.
+   ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+         () -> controller.speichere(new EventBatch(new double[] {3.0}, new double[] {0.0})));
+
+   assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exception.getStatusCode());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode {@link RepositoryGalileitransformationService#speichere(EventBatch)}. Der Test prüft nach, ob
+ * Ereignisse mit einer Zeitkoordinate NaN mit dem Status 400 abgewiesen werden.
+ */
+@DisplayName("Ereignisse mit der Zeitkoordinate NaN werden mit dem Status 400 abgewiesen.")
+@Test
+void testSpeichereNaN()
+   {
+   // Ein Objekt der zu testenden Klasse wird erzeugt.
+   RepositoryGalileitransformationService controller = new RepositoryGalileitransformationService(
+         new EventRepository(), TransformationMetrics.none(), false);
+
+   // Die zu testende Methode wird aufgerufen.
+   ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+         () -> controller.speichere(new EventBatch(new double[] {Double.NaN}, new double[] {0.0})));
+
+   assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode {@link RepositoryGalileitransformationService#loesche()}. Der Test prüft nach, ob die
+ * Ereignisse nur entfernt werden, wenn das Entfernen freigeschaltet ist, und andernfalls der Status 403 zurückgegeben
+ * wird.
+ */
+@DisplayName("Die Ereignisse werden nur entfernt, wenn das Entfernen freigeschaltet ist.")
+@Test
+void testLoesche()
+   {
+   EventBatch ereignisse = new EventBatch(new double[] {1.0}, new double[] {0.0});
+
+   // Ohne Freischaltung wird der Request abgewiesen und die Ereignisse bleiben erhalten.
+   EventRepository repository = new EventRepository();
+   RepositoryGalileitransformationService controller = new RepositoryGalileitransformationService(repository,
+         TransformationMetrics.none(), false);
+   controller.speichere(ereignisse);
+   ResponseStatusException exception = assertThrows(ResponseStatusException.class, controller::loesche);
+   assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+   assertEquals(1, repository.size());
+
+   // Mit Freischaltung werden die Ereignisse entfernt.
+   controller = new RepositoryGalileitransformationService(repository, TransformationMetrics.none(), true);
+   controller.loesche();
+   assertEquals(0, repository.size());
+   }
+}
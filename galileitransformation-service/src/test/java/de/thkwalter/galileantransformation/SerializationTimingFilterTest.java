@@ -0,0 +1,68 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testklasse für die Klasse {@link SerializationTimingFilter}.
+ *
+ * @author Th. K. Walter
+ */
+class SerializationTimingFilterTest
+{
+@Test
+@DisplayName("Die Serialisierung einer Antwort mit mehreren Ereignissen wird einmal pro Request erfasst")
+void testSerialisierungEinmalProRequest() throws Exception
+   {
+   // Der Endpunkt wird mit dem Filter und den Jackson-Serializern des Servers aufgesetzt.
+   MeterRegistry registry = new SimpleMeterRegistry();
+   TransformationMetrics metrics = new TransformationMetrics(registry);
+   SerializationTimingFilter filter = new SerializationTimingFilter(metrics);
+   ObjectMapper objectMapper = new ObjectMapper().registerModule(
+         new GalileanTransformationServer().getJacksonQuantityModule());
+   MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StandardGalileitransformationService(metrics,
+               new TransformationResultCache(16, Duration.ofMinutes(1)), new TransformationPool(1, 16)))
+         .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper)).setControllerAdvice(filter)
+         .addFilters(filter).build();
+
+   // Ein Auftrag mit drei Ereignissen wird transformiert.
+   mockMvc.perform(post("/transformiereBatch").contentType(MediaType.APPLICATION_JSON).content("{\"tEinheit\":\"s\"," +
+               "\"xEinheit\":\"m\",\"vMasszahl\":3,\"vEinheit\":\"m/s\",\"ereignisse\":[{\"tMasszahl\":1," +
+               "\"xMasszahl\":1},{\"tMasszahl\":2,\"xMasszahl\":2},{\"tMasszahl\":3,\"xMasszahl\":3}]}"))
+         .andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(3));
+
+   // Die Serialisierung muss genau einmal erfasst worden sein.
+   Timer timer = registry.get(TransformationMetrics.PHASE_TIMER).tag("phase", "serialization").timer();
+   assertEquals(1, timer.count());
+   }
+}
@@ -15,15 +15,39 @@
  */
 package de.thkwalter.galileantransformation;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.thkwalter.binary.EventBatchHttpMessageConverter;
+import de.thkwalter.binary.EventBinaryFormat;
+import de.thkwalter.binary.EventColumns;
 import com.ibm.icu.impl.Assert;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.measure.Unit;
 import javax.measure.format.MeasurementParseException;
 import javax.measure.quantity.Length;
 import javax.measure.quantity.Time;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static tech.units.indriya.unit.Units.METRE;
 import static tech.units.indriya.unit.Units.SECOND;
 
@@ -34,6 +58,14 @@ import static tech.units.indriya.unit.Units.SECOND;
  */
 class StandardGalileitransformationServiceTest
 {
+/**
+ * Der Pool der Endpunkte. Der kleine Schwellwert sorgt dafür, dass auch kleine Aufträge parallel transformiert werden.
+ */
+private static final TransformationPool POOL = new TransformationPool(2, 1);
+
+// =====================================================================================================================
+// =====================================================================================================================
+
 /**
  * Test für die Methode
  * {@link StandardGalileitransformationService#transformiere(double, String, double, String, double, String)}. Der Test prüft
@@ -53,7 +85,9 @@ void testTransformiere1()
    Event sollEvent = EventUtils.createEvent(tMasszahl, tEinheit, xMasszahl, xEinheit);
 
    // Ein Objekt der zu testenden Klasse wird erzeugt.
-   StandardGalileitransformationService controller = new StandardGalileitransformationService();
+   StandardGalileitransformationService controller = new StandardGalileitransformationService(
+         TransformationMetrics.none(), TransformationResultCache.disabled(),
+         StandardGalileitransformationServiceTest.POOL);
 
    // Die zu testende Methode wird aufgerufen.
    Event transformiertesEvent = controller.transformiere(tMasszahl, tEinheit.getSymbol(), xMasszahl,
@@ -85,7 +119,9 @@ void testTransformiere1()
 void testTransformiere2()
    {
    // Ein Objekt der zu testenden Klasse wird erzeugt.
-   StandardGalileitransformationService controller = new StandardGalileitransformationService();
+   StandardGalileitransformationService controller = new StandardGalileitransformationService(
+         TransformationMetrics.none(), TransformationResultCache.disabled(),
+         StandardGalileitransformationServiceTest.POOL);
 
    try
       {
@@ -97,4 +133,159 @@ void testTransformiere2()
       // Der Test war erfolgreich.
       }
    }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode {@link StandardGalileitransformationService#transformiereBatch(TransformationsAuftrag)}. Der
+ * Test prüft nach, ob jedes Ereignis des Auftrags genauso transformiert wird wie bei einem einzelnen Aufruf von
+ * {@link StandardGalileitransformationService#transformiere(double, String, double, String, double, String)}.
+ */
+@DisplayName("Die Ereignisse eines Auftrags werden wie einzelne Ereignisse transformiert.")
+@Test
+void testTransformiereBatch()
+   {
+   // Die Testdaten werden intialisiert.
+   List<Koordinaten> ereignisse = List.of(new Koordinaten(2000.0, -0.004), new Koordinaten(-13.0, 1.5),
+         new Koordinaten(0.0, 0.0));
+   TransformationsAuftrag auftrag = new TransformationsAuftrag("ms", "km", 2.0, "m/s", ereignisse);
+
+   // Ein Objekt der zu testenden Klasse wird erzeugt.
+   StandardGalileitransformationService controller = new StandardGalileitransformationService(
+         TransformationMetrics.none(), TransformationResultCache.disabled(),
+         StandardGalileitransformationServiceTest.POOL);
+
+   // Die zu testende Methode wird aufgerufen.
+   List<Event> transformierteEvents = controller.transformiereBatch(auftrag).toEvents();
+
+   // Die Reihenfolge und die Werte der transformierten Ereignisse werden geprüft.
+   assertEquals(ereignisse.size(), transformierteEvents.size());
+   for (int i = 0; i < ereignisse.size(); i++)
+      {
+      Koordinaten koordinaten = ereignisse.get(i);
+      Event sollEvent = controller.transformiere(koordinaten.tMasszahl(), "ms", koordinaten.xMasszahl(), "km", 2.0,
+            "m/s");
+      assertTrue(EventUtils.compareEvents(sollEvent, transformierteEvents.get(i), 1E-9, 1E-9, 1E-9, 1E-9));
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Metriken der Methode
+ * {@link StandardGalileitransformationService#transformiereBatch(TransformationsAuftrag)}. Der Test prüft nach, ob die
+ * Dauer jeder Phase, die Anzahl der Ereignisse und die Zugriffe auf den Einheiten-Cache erfasst werden.
+ */
+@DisplayName("Die Phasen, die Anzahl der Ereignisse und die Zugriffe auf den Einheiten-Cache werden erfasst.")
+@Test
+void testMetriken()
+   {
+   // Die Testdaten werden intialisiert.
+   List<Koordinaten> ereignisse = List.of(new Koordinaten(2000.0, -0.004), new Koordinaten(-13.0, 1.5));
+   TransformationsAuftrag auftrag = new TransformationsAuftrag("ms", "km", 2.0, "m/s", ereignisse);
+   MeterRegistry registry = new SimpleMeterRegistry();
+
+   // Ein Objekt der zu testenden Klasse wird erzeugt.
+   StandardGalileitransformationService controller =
+         new StandardGalileitransformationService(new TransformationMetrics(registry),
+               TransformationResultCache.disabled(), StandardGalileitransformationServiceTest.POOL);
+
+   // Die zu testende Methode wird aufgerufen.
+   controller.transformiereBatch(auftrag);
+
+   // Die Metriken werden geprüft.
+   for (String phase : List.of("units", "events", "boost"))
+      {
+      assertEquals(1, registry.get(TransformationMetrics.PHASE_TIMER).tag("phase", phase).timer().count());
+      }
+   assertEquals(2.0, registry.get(TransformationMetrics.BATCH_SIZE).summary().totalAmount());
+
+   // Jede der drei Einheiten wurde mindestens einmal im Cache gesucht.
+   double zugriffe = 0.0;
+   for (String ergebnis : List.of("hit", "miss"))
+      {
+      zugriffe += registry.get("cache.gets").tag("cache", TransformationMetrics.UNIT_CACHE).tag("result", ergebnis)
+            .functionCounter().count();
+      }
+   assertTrue(zugriffe >= 3.0);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für den Entity-Tag und den Cache der Methode
+ * {@link StandardGalileitransformationService#transformiere(double, String, double, String, double, String,
+ * WebRequest)}. Der Test prüft nach, ob dieselbe Anfrage in anderen Einheiten denselben Entity-Tag erhält, ob mit
+ * <tt>If-None-Match</tt> 304 zurückgegeben wird und ob das zweite Ergebnis aus dem Cache stammt.
+ */
+@DisplayName("Wiederholte Anfragen werden mit 304 bzw. aus dem Cache beantwortet.")
+@Test
+void testEtagUndCache() throws Exception
+   {
+   // Der Endpunkt wird mit einem Cache und den Jackson-Serializern des Servers aufgesetzt.
+   TransformationResultCache resultCache = new TransformationResultCache(16, Duration.ofMinutes(1));
+   ObjectMapper objectMapper = new ObjectMapper().registerModule(
+         new GalileanTransformationServer().getJacksonQuantityModule());
+   MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+               new StandardGalileitransformationService(TransformationMetrics.none(), resultCache,
+                     StandardGalileitransformationServiceTest.POOL))
+         .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper)).build();
+
+   // Die erste Anfrage wird transformiert und liefert einen Entity-Tag.
+   String etag = mockMvc.perform(get("/transformiere?tMasszahl=2&tEinheit=s&xMasszahl=1&xEinheit=km&vMasszahl=3" +
+               "&vEinheit=m/s")).andExpect(status().isOk()).andExpect(jsonPath("$.x").value(994.0))
+         .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+   // Dieselbe Anfrage in anderen Einheiten wird aus dem Cache beantwortet.
+   long treffer = resultCache.getCache().getHits();
+   mockMvc.perform(get("/transformiere?tMasszahl=2000&tEinheit=ms&xMasszahl=1000&xEinheit=m&vMasszahl=3" +
+               "&vEinheit=m/s")).andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, etag))
+         .andExpect(jsonPath("$.x").value(994.0));
+   assertEquals(treffer + 1, resultCache.getCache().getHits());
+
+   // Mit dem Entity-Tag wird 304 ohne Inhalt zurückgegeben.
+   mockMvc.perform(get("/transformiere?tMasszahl=2&tEinheit=s&xMasszahl=1&xEinheit=km&vMasszahl=3&vEinheit=m/s")
+         .header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified())
+         .andExpect(content().string(""));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test des Endpunkts <tt>/transformiereBatch</tt>: Es wird geprüft, ob JSON-Aufträge von der JSON-Variante und nur
+ * Aufträge im binären Austauschformat über ihren Content-Type von der binären Variante bearbeitet werden.
+ */
+@DisplayName("Das binäre Format von /transformiereBatch wird über den Content-Type gewählt.")
+@Test
+void testTransformiereBatchContentTypes() throws Exception
+   {
+   ObjectMapper objectMapper = new ObjectMapper().registerModule(
+         new GalileanTransformationServer().getJacksonQuantityModule());
+   MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+               new StandardGalileitransformationService(TransformationMetrics.none(),
+                     new TransformationResultCache(16, Duration.ofMinutes(1)),
+                     StandardGalileitransformationServiceTest.POOL))
+         .setMessageConverters(new EventBatchHttpMessageConverter(),
+               new MappingJackson2HttpMessageConverter(objectMapper)).build();
+   String auftrag = "{\"tEinheit\":\"s\",\"xEinheit\":\"km\",\"vMasszahl\":3,\"vEinheit\":\"m/s\"," +
+         "\"ereignisse\":[{\"tMasszahl\":2,\"xMasszahl\":1}]}";
+
+   // Ein JSON-Auftrag wird als JSON transformiert.
+   mockMvc.perform(post("/transformiereBatch").contentType(MediaType.APPLICATION_JSON).content(auftrag))
+         .andExpect(status().isOk()).andExpect(jsonPath("$[0].x").value(994.0));
+
+   // Ein binärer Auftrag wird über den Content-Type dem binären Endpunkt zugeordnet.
+   ByteArrayOutputStream binaer = new ByteArrayOutputStream();
+   EventBinaryFormat.write(new EventColumns("s", "m", new double[] {2.0}, new double[] {1000.0}), binaer);
+   byte[] antwort = mockMvc.perform(post("/transformiereBatch?vMasszahl=3&vEinheit=m/s")
+               .contentType(EventBinaryFormat.MEDIA_TYPE).accept(EventBinaryFormat.MEDIA_TYPE)
+               .content(binaer.toByteArray())).andExpect(status().isOk())
+         .andExpect(content().contentType(EventBinaryFormat.MEDIA_TYPE)).andReturn().getResponse()
+         .getContentAsByteArray();
+   assertEquals(994.0, EventBinaryFormat.read(new ByteArrayInputStream(antwort)).x()[0]);
+   }
 }
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests für die Klasse {@link StreamingGalileitransformationService}.
+ *
+ * @author Th. K. Walter
+ */
+class StreamingGalileitransformationServiceTest
+{
+/**
+ * Test für die Methode
+ * {@link StreamingGalileitransformationService#transformiere(String, String, double, String, java.io.InputStream,
+ * java.io.OutputStream)}. Der Test prüft nach, ob jede Zeile der Eingabe in eine Zeile mit dem transformierten
+ * Ereignis übersetzt wird.
+ *
+ * @throws IOException falls beim Lesen oder Schreiben ein Fehler auftritt
+ */
+@DisplayName("Ein Strom von Ereignissen im Format NDJSON wird zeilenweise transformiert.")
+@Test
+void testTransformiere() throws IOException
+   {
+   // Die Testdaten werden intialisiert.
+   String eingabe = """
+         {"tMasszahl":2000,"xMasszahl":-0.004}
+         {"tMasszahl":-1000,"xMasszahl":0.001}
+
+         {"tMasszahl":0,"xMasszahl":1}
+         """;
+   ByteArrayOutputStream ausgabe = new ByteArrayOutputStream();
+
+   // Ein Objekt der zu testenden Klasse wird erzeugt.
+   StreamingGalileitransformationService controller = new StreamingGalileitransformationService(new ObjectMapper(),
+         TransformationMetrics.none());
+
+   // Die zu testende Methode wird aufgerufen.
+   controller.transformiere("ms", "km", 2.0, "m/s",
+         new ByteArrayInputStream(eingabe.getBytes(StandardCharsets.UTF_8)), ausgabe);
+
+   // Die Ausgabe enthält die transformierten Ereignisse in SI-Einheiten.
+   String erwarteteAusgabe = """
+         {"t":2.0,"x":-8.0}
+         {"t":-1.0,"x":3.0}
+         {"t":0.0,"x":1000.0}
+         """;
+   assertEquals(erwarteteAusgabe, ausgabe.toString(StandardCharsets.UTF_8));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode
+ * {@link StreamingGalileitransformationService#transformiere(String, String, double, String, java.io.InputStream,
+ * java.io.OutputStream)}. Der Test prüft nach, ob ein transformiertes Ereignis übertragen wird, während der Produzent
+ * des Stroms pausiert.
+ *
+ * @throws Exception falls beim Lesen oder Schreiben ein Fehler auftritt
+ */
+@DisplayName("Transformierte Ereignisse werden übertragen, während der Produzent pausiert.")
+@Test
+void testTransformiereMitPause() throws Exception
+   {
+   // Die Eingabe wird über eine Pipe geliefert, die erst am Ende des Tests geschlossen wird.
+   PipedOutputStream produzent = new PipedOutputStream();
+   PipedInputStream eingabe = new PipedInputStream(produzent);
+   ByteArrayOutputStream ausgabe = new ByteArrayOutputStream();
+   StreamingGalileitransformationService controller = new StreamingGalileitransformationService(new ObjectMapper(),
+         TransformationMetrics.none());
+
+   // Die zu testende Methode wird in einem eigenen Thread aufgerufen.
+   CompletableFuture<Void> lauf = CompletableFuture.runAsync(() ->
+      {
+      try
+         {
+         controller.transformiere("ms", "km", 2.0, "m/s", eingabe, ausgabe);
+         }
+      catch (IOException e)
+         {
+         throw new UncheckedIOException(e);
+         }
+      });
+
+   // Ein Ereignis wird geliefert, danach pausiert der Produzent.
+   produzent.write("{\"tMasszahl\":2000,\"xMasszahl\":-0.004}\n".getBytes(StandardCharsets.UTF_8));
+   produzent.flush();
+   long ende = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+   while (ausgabe.size() == 0 && System.nanoTime() < ende)
+      {
+      Thread.sleep(10);
+      }
+
+   // Das transformierte Ereignis ist ohne weitere Eingabe übertragen worden.
+   assertEquals("{\"t\":2.0,\"x\":-8.0}\n", ausgabe.toString(StandardCharsets.UTF_8));
+   produzent.close();
+   lauf.get(5, TimeUnit.SECONDS);
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+/**
+ * Test für die Methode
+ * {@link StreamingGalileitransformationService#transformiereStream(String, String, double, String,
+ * java.io.InputStream, jakarta.servlet.http.HttpServletRequest, jakarta.servlet.http.HttpServletResponse)}. Der Test
+ * prüft nach, ob der Endpunkt wie die reaktive Variante NDJSON und JSON-Felder annimmt und je nach Accept-Header NDJSON
+ * oder ein JSON-Feld zurückgibt.
+ *
+ * @throws Exception falls der Request nicht ausgeführt werden kann
+ */
+@DisplayName("Der Endpunkt nimmt NDJSON und JSON-Felder an und antwortet je nach Accept-Header.")
+@Test
+void testTransformiereStreamContentTypes() throws Exception
+   {
+   MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+         new StreamingGalileitransformationService(new ObjectMapper(), TransformationMetrics.none())).build();
+   String uri = "/transformiereStream?tEinheit=ms&xEinheit=km&vMasszahl=2&vEinheit=m/s";
+
+   // Ein NDJSON-Strom wird ohne Accept-Header als NDJSON beantwortet.
+   mockMvc.perform(post(uri).contentType(MediaType.APPLICATION_NDJSON)
+               .content("{\"tMasszahl\":2000,\"xMasszahl\":-0.004}\n"))
+         .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+         .andExpect(content().string("{\"t\":2.0,\"x\":-8.0}\n"));
+
+   // Ein JSON-Feld wird mit Accept: application/json als JSON-Feld beantwortet.
+   mockMvc.perform(post(uri).contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON)
+               .content("[{\"tMasszahl\":2000,\"xMasszahl\":-0.004},{\"tMasszahl\":0,\"xMasszahl\":1}]"))
+         .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON))
+         .andExpect(content().string("[{\"t\":2.0,\"x\":-8.0},{\"t\":0.0,\"x\":1000.0}]"));
+   }
+}
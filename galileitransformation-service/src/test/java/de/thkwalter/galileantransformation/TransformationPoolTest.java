@@ -0,0 +1,76 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse enthält JUnit-Tests für die Klasse {@link TransformationPool}.
+ *
+ * @author Th. K. Walter
+ */
+class TransformationPoolTest
+{
+@Test
+@DisplayName("Große Folgen werden in den Threads des Pools in der ursprünglichen Reihenfolge transformiert")
+void testTransformAll()
+   {
+   // Die Testdaten werden mit einem festen Samen erzeugt.
+   Random random = new Random(4L);
+   double[] t = random.doubles(10_000, -100, 100).toArray();
+   double[] x = random.doubles(10_000, -100, 100).toArray();
+   GalileanBoost boost = GalileanBoostFactory.getBoost(2.5);
+   EventBatch erwartet = boost.transform(new EventBatch(t.clone(), x.clone()));
+
+   try (TransformationPool pool = new TransformationPool(2, 100))
+      {
+      // Die zu testende Methode wird aufgerufen. Die Namen der bearbeitenden Threads werden gesammelt.
+      Set<String> threads = ConcurrentHashMap.newKeySet();
+      EventBatch transformiert = new EventBatch(t, x);
+      pool.transformAll(boost, transformiert);
+      RangeTask.invoke(pool.getPool(), 1_000, 100, (from, to) -> threads.add(Thread.currentThread().getName()));
+
+      assertArrayEquals(erwartet.getX(), transformiert.getX());
+      assertEquals(2, pool.getPool().getParallelism());
+      assertTrue(threads.stream().allMatch(name -> name.startsWith("galilei-transform-")));
+      }
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Ungültige Argumente werden zurückgewiesen und close fährt den Pool herunter")
+void testArgumenteUndClose()
+   {
+   assertThrows(IllegalArgumentException.class, () -> new TransformationPool(-1, 100));
+   assertThrows(IllegalArgumentException.class, () -> new TransformationPool(1, 0));
+
+   TransformationPool pool = new TransformationPool(1, 100);
+   pool.close();
+   assertTrue(pool.getPool().isShutdown());
+   }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Diese Klasse enthält JUnit-Tests für die Klasse {@link TransformationResultCache}.
+ *
+ * @author Th. K. Walter
+ */
+class TransformationResultCacheTest
+{
+/**
+ * Ein Ereignis für die Tests
+ */
+private static final Event EVENT = EventUtils.createEvent(1.0, SECOND, 2.0, METRE);
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Ein Eintrag wird nach Ablauf seiner Lebensdauer verdrängt")
+void testTtl()
+   {
+   AtomicLong uhr = new AtomicLong();
+   TransformationResultCache cache = new TransformationResultCache(10, Duration.ofNanos(100), uhr::get);
+   TransformationResultCache.Key key = new TransformationResultCache.Key(1.0, 2.0, 3.0);
+
+   // Vor Ablauf der Lebensdauer wird der Eintrag gefunden, danach nicht mehr.
+   cache.put(key, TransformationResultCacheTest.EVENT);
+   uhr.set(99);
+   assertSame(TransformationResultCacheTest.EVENT, cache.getIfPresent(key));
+   uhr.set(100);
+   assertNull(cache.getIfPresent(key));
+   assertEquals(0, cache.getCache().size());
+
+   // Der abgelaufene Eintrag wird als Fehlschlag gezählt.
+   assertEquals(1, cache.getCache().getHits());
+   assertEquals(1, cache.getCache().getMisses());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Die Werte 0.0 und -0.0 ergeben denselben Schlüssel und denselben Entity-Tag mit der Version")
+void testKey()
+   {
+   TransformationResultCache.Key key = new TransformationResultCache.Key(0.0, -0.0, 1.0);
+
+   assertEquals(new TransformationResultCache.Key(-0.0, 0.0, 1.0), key);
+   assertEquals(new TransformationResultCache.Key(-0.0, 0.0, 1.0).etag(), key.etag());
+   assertEquals("dev-0-0-3ff0000000000000", key.etag());
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Ein abgeschalteter Cache speichert keine Ergebnisse")
+void testDisabled()
+   {
+   TransformationResultCache cache = TransformationResultCache.disabled();
+   TransformationResultCache.Key key = new TransformationResultCache.Key(1.0, 2.0, 3.0);
+
+   cache.put(key, TransformationResultCacheTest.EVENT);
+   assertNull(cache.getIfPresent(key));
+   assertNull(cache.getCache());
+   }
+}
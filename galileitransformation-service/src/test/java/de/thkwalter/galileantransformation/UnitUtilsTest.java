@@ -0,0 +1,67 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.galileantransformation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.quantity.Length;
+import javax.measure.quantity.Speed;
+
+import static javax.measure.MetricPrefix.KILO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static tech.units.indriya.unit.Units.METRE;
+
+/**
+ * Diese Klasse enthält JUnit-Tests für die Klasse {@link UnitUtils}.
+ *
+ * @author Th. K. Walter
+ */
+class UnitUtilsTest
+{
+@Test
+@DisplayName("Testet, ob eine bereits geparste Einheit aus dem Cache zurückgegeben wird")
+void testParseUnit()
+   {
+   // Die zu testende Methode wird zweimal mit demselben Symbol aufgerufen.
+   Unit<Length> unit1 = UnitUtils.parseUnit("km", Length.class);
+   long hits = UnitUtils.getCache().getHits();
+   Unit<Length> unit2 = UnitUtils.parseUnit("km", Length.class);
+
+   // Beim zweiten Aufruf muss dasselbe Objekt aus dem Cache zurückgegeben werden.
+   assertEquals(KILO(METRE), unit1);
+   assertSame(unit1, unit2);
+   assertEquals(hits + 1, UnitUtils.getCache().getHits());
+
+   // Dasselbe Symbol wird für einen anderen Typ separat geparst.
+   assertThrows(ClassCastException.class, () -> UnitUtils.parseUnit("km", Speed.class));
+   }
+
+// =====================================================================================================================
+// =====================================================================================================================
+
+@Test
+@DisplayName("Testet das Verhalten, wenn das Symbol einer Einheit nicht erkannt wird")
+void testParseUnitUnbekannt()
+   {
+   assertThrows(MeasurementParseException.class, () -> UnitUtils.parseUnit("m:s", Speed.class));
+   assertThrows(MeasurementParseException.class, () -> UnitUtils.parseUnit("m:s", Speed.class));
+   }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.thkwalter.galileantransformation.EventBatch;
+import de.thkwalter.galileantransformation.GalileanTransformationServer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testklasse für die Klasse {@link EventBatchSerializer}.
+ *
+ * @author Th. K. Walter
+ */
+class EventBatchSerializerTest
+{
+@Test
+void test() throws JsonProcessingException
+   {
+   // Ein ObjectMapper mit dem Jackson-Modul des Servers wird erstellt.
+   ObjectMapper objectMapper = new ObjectMapper().registerModule(
+         new GalileanTransformationServer().getJacksonQuantityModule());
+
+   // Eine Folge von zwei Ereignissen wird serialisiert.
+   EventBatch events = new EventBatch(new double[] {2.0, -1.0}, new double[] {-8.0, 3.0});
+   String json = objectMapper.writeValueAsString(events);
+
+   // Die Ereignisse müssen im Aufbau des EventSerializer geschrieben worden sein.
+   assertEquals("[{\"t\":2.0,\"x\":-8.0},{\"t\":-1.0,\"x\":3.0}]", json);
+   }
+}
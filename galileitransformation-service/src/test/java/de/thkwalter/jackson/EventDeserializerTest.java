@@ -0,0 +1,60 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import de.thkwalter.galileantransformation.Event;
+import de.thkwalter.galileantransformation.EventUtils;
+import de.thkwalter.galileantransformation.GalileanTransformationServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Testklasse für die Klasse {@link EventDeserializer}.
+ *
+ * @author Th. K. Walter
+ */
+class EventDeserializerTest
+{
+@Test
+void test() throws IOException
+   {
+   // Ein ObjectMapper mit dem Jackson-Modul des Servers wird erstellt.
+   ObjectMapper objectMapper = new ObjectMapper().registerModule(
+         new GalileanTransformationServer().getJacksonQuantityModule());
+
+   // Ein Ereignis wird deserialisiert. Unbekannte Felder werden ignoriert.
+   Event event = objectMapper.readValue("{\"x\":-4.0,\"kommentar\":[1,2],\"t\":2}", Event.class);
+
+   // Es wird geprüft, ob das Ereignis die Koordinaten in SI-Einheiten enthält.
+   Event expectedEvent = EventUtils.createEvent(2.0, SECOND, -4.0, METRE);
+   assertTrue(EventUtils.compareEvents(expectedEvent, event, 1E-9, 1E-9, 1E-9, 1E-9));
+
+   // Serialisierung und Deserialisierung müssen zueinander passen.
+   assertEquals("{\"t\":2.0,\"x\":-4.0}", objectMapper.writeValueAsString(event));
+
+   // Fehlt eine Koordinate, so wird eine Ausnahme geworfen.
+   assertThrows(MismatchedInputException.class, () -> objectMapper.readValue("{\"t\":2}", Event.class));
+   }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright 2023 Th. K. Walter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.thkwalter.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import de.thkwalter.galileantransformation.Event;
+import de.thkwalter.galileantransformation.EventUtils;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+
+import static javax.measure.MetricPrefix.KILO;
+import static javax.measure.MetricPrefix.MILLI;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static tech.units.indriya.unit.Units.METRE;
+import static tech.units.indriya.unit.Units.SECOND;
+
+/**
+ * Testklasse für die Klasse {@link EventSerializer}.
+ *
+ * @author Th. K. Walter
+ */
+class EventSerializerTest
+{
+@Test
+void test() throws IOException
+   {
+   // Ein Mock des JsonGenerator wird erstellt.
+   JsonGenerator mockedJsonGenerator = mock(JsonGenerator.class);
+
+   // Ein Ereignis mit t = 2000 ms und x = -0.004 km wird erstellt.
+   Event event = EventUtils.createEvent(2000, MILLI(SECOND), -0.004, KILO(METRE));
+
+   // Der Serializer wird aufgerufen.
+   new EventSerializer().serialize(event, mockedJsonGenerator, null);
+
+   // Es wird geprüft, ob die Koordinaten in SI-Einheiten als primitive Zahlen geschrieben worden sind.
+   InOrder inOrder = inOrder(mockedJsonGenerator);
+   inOrder.verify(mockedJsonGenerator).writeStartObject();
+   inOrder.verify(mockedJsonGenerator).writeNumberField("t", 2.0);
+   inOrder.verify(mockedJsonGenerator).writeNumberField("x", -4.0);
+   inOrder.verify(mockedJsonGenerator).writeEndObject();
+   }
+}